@@ -0,0 +1,30 @@
+package com.emiryucel.courseportal.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Gaps between intended request start times. Both keep the configured mean rate no matter how slowly
+ * the server answers, which is what makes the generator an open model.
+ */
+public enum ArrivalProcess {
+
+    /** Evenly spaced requests. */
+    UNIFORM {
+        @Override
+        long nextGapNanos(double ratePerSecond, RandomGenerator random) {
+            return Math.round(NANOS_PER_SECOND / ratePerSecond);
+        }
+    },
+
+    /** Exponentially distributed gaps, i.e. independent clients arriving at random. */
+    POISSON {
+        @Override
+        long nextGapNanos(double ratePerSecond, RandomGenerator random) {
+            return Math.round(-Math.log(1.0 - random.nextDouble()) * NANOS_PER_SECOND / ratePerSecond);
+        }
+    };
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    abstract long nextGapNanos(double ratePerSecond, RandomGenerator random);
+}
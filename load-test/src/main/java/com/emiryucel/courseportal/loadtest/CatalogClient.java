@@ -0,0 +1,165 @@
+package com.emiryucel.courseportal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Issues one operation against the API without blocking. Ids are drawn on the calling (scheduler)
+ * thread; created ids are added to the pools when the response arrives.
+ */
+final class CatalogClient implements AutoCloseable {
+
+    /** Outcome of one request; status is -1 when no response arrived (timeout, connection error). */
+    record Response(Operation operation, int status) {
+
+        boolean successful() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient http;
+    private final URI base;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EntityPool courses = new EntityPool();
+    private final EntityPool lecturers = new EntityPool();
+    private final AtomicLong sequence = new AtomicLong();
+
+    CatalogClient(URI base, Duration timeout) {
+        this.base = base;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    CompletableFuture<Response> execute(Operation operation, RandomGenerator random) {
+        return switch (operation) {
+            case CREATE_COURSE -> createCourse(random);
+            case CREATE_LECTURER -> createLecturer();
+            case READ_COURSE -> courses.pick(random)
+                    .map(id -> send(operation, get("course/" + id)))
+                    .orElseGet(() -> createCourse(random));
+            case READ_LECTURER -> lecturers.pick(random)
+                    .map(id -> send(operation, get("lecturer/" + id)))
+                    .orElseGet(this::createLecturer);
+            case PAGE_COURSES -> send(operation, get("course/paginated?size=" + PAGE_SIZE
+                    + "&page=" + random.nextInt(Math.max(1, courses.size() / PAGE_SIZE))));
+            case ASSIGN_COURSE -> assign(random);
+            case DELETE_COURSE -> courses.take(random)
+                    .map(id -> send(operation, request("course/" + id).DELETE().build()))
+                    .orElseGet(() -> createCourse(random));
+        };
+    }
+
+    EntityPool courses() {
+        return courses;
+    }
+
+    EntityPool lecturers() {
+        return lecturers;
+    }
+
+    private CompletableFuture<Response> createCourse(RandomGenerator random) {
+        long n = sequence.incrementAndGet();
+        String body = json(Map.of(
+                "title", "Load test course " + n,
+                "description", "Course created by the load generator, run sequence " + n,
+                "price", Math.round((1 + random.nextDouble() * 500) * 100) / 100.0));
+        return sendForId(Operation.CREATE_COURSE, post("course", body), courses);
+    }
+
+    private CompletableFuture<Response> createLecturer() {
+        long n = sequence.incrementAndGet();
+        String body = json(Map.of(
+                "firstName", "Load",
+                "lastName", "Tester" + n,
+                "email", "lt-" + n + "-" + System.nanoTime() + "@loadtest.example",
+                "department", "Load Testing"));
+        return sendForId(Operation.CREATE_LECTURER, post("lecturer", body), lecturers);
+    }
+
+    private CompletableFuture<Response> assign(RandomGenerator random) {
+        Optional<String> lecturer = lecturers.pick(random);
+        if (lecturer.isEmpty()) {
+            return createLecturer();
+        }
+        Optional<String> course = courses.pick(random);
+        if (course.isEmpty()) {
+            return createCourse(random);
+        }
+        HttpRequest request = request("lecturer/" + lecturer.get() + "/courses/" + course.get())
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(Operation.ASSIGN_COURSE, request);
+    }
+
+    private CompletableFuture<Response> send(Operation operation, HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> new Response(operation, response == null ? -1 : response.statusCode()));
+    }
+
+    private CompletableFuture<Response> sendForId(Operation operation, HttpRequest request, EntityPool pool) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (response == null) {
+                        return new Response(operation, -1);
+                    }
+                    if (response.statusCode() == 201) {
+                        try {
+                            pool.add(objectMapper.readTree(response.body()).path("id").asText());
+                        } catch (IOException e) {
+                            return new Response(operation, -1);
+                        }
+                    }
+                    return new Response(operation, response.statusCode());
+                });
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+    }
+
+    private String json(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        http.close();
+    }
+}
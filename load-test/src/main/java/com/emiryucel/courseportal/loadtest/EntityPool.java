@@ -0,0 +1,38 @@
+package com.emiryucel.courseportal.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ids of entities known to exist, so reads, assignments and deletes target real rows. Removal swaps the
+ * last element into the gap, keeping every operation O(1).
+ */
+final class EntityPool {
+
+    private final List<String> ids = new ArrayList<>();
+
+    synchronized void add(String id) {
+        ids.add(id);
+    }
+
+    synchronized Optional<String> pick(RandomGenerator random) {
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(random.nextInt(ids.size())));
+    }
+
+    synchronized Optional<String> take(RandomGenerator random) {
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = random.nextInt(ids.size());
+        String id = ids.get(index);
+        ids.set(index, ids.getLast());
+        ids.removeLast();
+        return Optional.of(id);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.emiryucel.courseportal.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a run to the report directory:
+ * <ul>
+ *     <li>{@code <label>.hlog}: tagged HdrHistogram log, one histogram per operation, readable by
+ *     HistogramLogProcessor and HdrHistogram's plotter for side-by-side comparison</li>
+ *     <li>{@code <label>-<operation>.hgrm}: full percentile distribution in milliseconds</li>
+ *     <li>{@code summary.csv}: one row per operation and run, appended so runs accumulate</li>
+ * </ul>
+ */
+final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String CSV_HEADER =
+            "timestamp,label,rate,arrival,operation,count,errors,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms";
+
+    private final LoadTestOptions options;
+    private final OpenModelDriver.RunResult result;
+    private final Instant finishedAt = Instant.now();
+
+    LatencyReport(LoadTestOptions options, OpenModelDriver.RunResult result) {
+        this.options = options;
+        this.result = result;
+    }
+
+    void write() throws IOException {
+        Path directory = Files.createDirectories(options.reportDir());
+        Map<String, Histogram> histograms = withTotal();
+
+        try (PrintStream log = new PrintStream(
+                Files.newOutputStream(directory.resolve(options.label() + ".hlog")), false, StandardCharsets.UTF_8)) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputComment("label=" + options.label() + " rate=" + options.rate() + " arrival=" + options.arrival()
+                    + " mix=" + options.mix());
+            writer.outputLogFormatVersion();
+            long startMillis = finishedAt.minus(result.elapsed()).toEpochMilli();
+            writer.setBaseTime(startMillis);
+            writer.outputStartTime(startMillis);
+            writer.outputLegend();
+            histograms.values().forEach(writer::outputIntervalHistogram);
+        }
+
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Path file = directory.resolve(options.label() + "-" + entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        Path summary = directory.resolve("summary.csv");
+        StringBuilder csv = new StringBuilder();
+        if (Files.notExists(summary)) {
+            csv.append(CSV_HEADER).append('\n');
+        }
+        histograms.forEach((operation, histogram) -> csv.append(String.format(Locale.ROOT,
+                "%s,%s,%.1f,%s,%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                finishedAt, options.label(), options.rate(), options.arrival().name().toLowerCase(Locale.ROOT),
+                operation, histogram.getTotalCount(), errors(operation),
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI)));
+        Files.writeString(summary, csv, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n%s: %d requests at %.1f/s (%s) in %.1fs, max in flight %d, max scheduling lag %d ms%n",
+                options.label(), result.sent(), options.rate(), options.arrival().name().toLowerCase(Locale.ROOT),
+                result.elapsed().toMillis() / 1000.0, result.maxInFlight(), result.maxSchedulingLag().toMillis());
+        out.printf(Locale.ROOT, "%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        withTotal().forEach((operation, histogram) -> out.printf(Locale.ROOT,
+                "%-16s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, histogram.getTotalCount(), errors(operation),
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+        out.println("reports written to " + options.reportDir().toAbsolutePath());
+    }
+
+    private Map<String, Histogram> withTotal() {
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Histogram total = new Histogram(OpenModelDriver.HIGHEST_TRACKABLE_MICROS, 3);
+        total.setTag("all");
+        total.setStartTimeStamp(Long.MAX_VALUE);
+        result.histograms().forEach((operation, histogram) -> {
+            histograms.put(operation.label(), histogram);
+            total.add(histogram);
+            total.setStartTimeStamp(Math.min(total.getStartTimeStamp(), histogram.getStartTimeStamp()));
+            total.setEndTimeStamp(Math.max(total.getEndTimeStamp(), histogram.getEndTimeStamp()));
+        });
+        histograms.put("all", total);
+        return histograms;
+    }
+
+    private long errors(String label) {
+        return "all".equals(label)
+                ? result.errors().values().stream().mapToLong(Long::longValue).sum()
+                : result.errors().getOrDefault(Operation.fromLabel(label), 0L);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
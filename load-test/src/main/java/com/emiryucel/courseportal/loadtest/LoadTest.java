@@ -0,0 +1,79 @@
+package com.emiryucel.courseportal.loadtest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Load generator entry point. Starts the application (unless {@code --target} is given), seeds
+ * lecturers and courses, applies a warm-up phase, then records the measured phase and writes the
+ * reports. See {@link LoadTestOptions} for the options.
+ */
+public final class LoadTest {
+
+    private static final int SEED_CONCURRENCY = 32;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        AppServer server = null;
+        try {
+            URI target = options.target();
+            if (target == null) {
+                System.out.println("starting " + options.appJar() + " against in-memory H2");
+                server = AppServer.start(options.appJar(), options.serverJvmArgs(), options.reportDir().resolve("server"));
+                target = server.baseUri();
+            }
+            try (CatalogClient client = new CatalogClient(target, options.timeout())) {
+                run(options, client);
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, CatalogClient client) throws Exception {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        seed(options, client, random);
+
+        OpenModelDriver driver = new OpenModelDriver(client, options.mix(), options.arrival(), options.rate(),
+                options.timeout());
+        if (!options.warmup().isZero()) {
+            System.out.println("warming up for " + options.warmup());
+            driver.run(options.warmup(), random);
+        }
+        System.out.println("recording " + options.duration() + " at " + options.rate() + " req/s, mix " + options.mix());
+        OpenModelDriver.RunResult result = driver.run(options.duration(), random);
+
+        LatencyReport report = new LatencyReport(options, result);
+        report.write();
+        report.print(System.out);
+    }
+
+    private static void seed(LoadTestOptions options, CatalogClient client, SplittableRandom random) {
+        System.out.println("seeding " + options.seedLecturers() + " lecturers and " + options.seedCourses() + " courses");
+        repeat(options.seedLecturers(), () -> client.execute(Operation.CREATE_LECTURER, random));
+        repeat(options.seedCourses(), () -> client.execute(Operation.CREATE_COURSE, random));
+        if (client.lecturers().size() > 0) {
+            repeat(options.seedCourses(), () -> client.execute(Operation.ASSIGN_COURSE, random));
+        }
+    }
+
+    private static void repeat(int times, Supplier<CompletableFuture<CatalogClient.Response>> request) {
+        List<CompletableFuture<CatalogClient.Response>> batch = new ArrayList<>(SEED_CONCURRENCY);
+        for (int i = 0; i < times; i++) {
+            batch.add(request.get());
+            if (batch.size() == SEED_CONCURRENCY || i == times - 1) {
+                CompletableFuture.allOf(batch.toArray(CompletableFuture[]::new)).join();
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.emiryucel.courseportal.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, given as {@code --name=value}.
+ *
+ * @param target      base URL of an already running API; when absent the application jar is started
+ *                    against an in-memory H2 database
+ * @param appJar      application jar started when no target is given
+ * @param serverJvmArgs extra JVM arguments for the started application
+ * @param rate        intended requests per second
+ * @param arrival     spacing of the intended start times
+ * @param warmup      load applied before recording starts
+ * @param duration    recorded load
+ * @param mix         weighted operations
+ * @param seedLecturers lecturers created before the run
+ * @param seedCourses courses created before the run, spread over the seeded lecturers
+ * @param seed        random seed, so runs issue the same sequence of operations
+ * @param label       name of the run in reports
+ * @param reportDir   directory for histogram logs, percentile files and the summary CSV
+ * @param timeout     per-request timeout; timed out requests are recorded at the timeout and counted as errors
+ */
+public record LoadTestOptions(
+        URI target,
+        Path appJar,
+        List<String> serverJvmArgs,
+        double rate,
+        ArrivalProcess arrival,
+        Duration warmup,
+        Duration duration,
+        OperationMix mix,
+        int seedLecturers,
+        int seedCourses,
+        long seed,
+        String label,
+        Path reportDir,
+        Duration timeout) {
+
+    private static final Set<String> NAMES = Set.of("target", "app-jar", "server-jvm-args", "rate", "arrival",
+            "warmup", "duration", "mix", "seed-lecturers", "seed-courses", "seed", "label", "report-dir", "timeout");
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, equals);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + NAMES);
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+
+        String target = values.get("target");
+        double rate = Double.parseDouble(values.getOrDefault("rate", "200"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return new LoadTestOptions(
+                target == null ? null : URI.create(target.endsWith("/") ? target : target + "/"),
+                Path.of(values.getOrDefault("app-jar", "../target/course-portal-0.0.1-SNAPSHOT.jar")),
+                splitArgs(values.getOrDefault("server-jvm-args", "-Xmx1g")),
+                rate,
+                ArrivalProcess.valueOf(values.getOrDefault("arrival", "poisson").toUpperCase(Locale.ROOT)),
+                duration(values.getOrDefault("warmup", "15s")),
+                duration(values.getOrDefault("duration", "60s")),
+                OperationMix.parse(values.getOrDefault("mix", OperationMix.DEFAULT)),
+                Integer.parseInt(values.getOrDefault("seed-lecturers", "50")),
+                Integer.parseInt(values.getOrDefault("seed-courses", "500")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("label", "run"),
+                Path.of(values.getOrDefault("report-dir", "target/load-test")),
+                duration(values.getOrDefault("timeout", "30s")));
+    }
+
+    /** Parses {@code 500ms}, {@code 30s}, {@code 5m}; a bare number means seconds. */
+    static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    private static List<String> splitArgs(String value) {
+        List<String> args = new ArrayList<>();
+        for (String arg : value.trim().split("\\s+")) {
+            if (!arg.isEmpty()) {
+                args.add(arg);
+            }
+        }
+        return args;
+    }
+}
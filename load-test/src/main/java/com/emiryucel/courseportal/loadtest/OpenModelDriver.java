@@ -0,0 +1,109 @@
+package com.emiryucel.courseportal.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Starts requests at precomputed intended times and never waits for responses before sending the next
+ * one. Latency is measured from the intended start, not from when the request was actually sent, so a
+ * stalled server (or a generator that fell behind) shows up in the percentiles instead of silently
+ * lowering the offered load; this is what avoids coordinated omission.
+ */
+final class OpenModelDriver {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    /**
+     * Latencies of one phase.
+     *
+     * @param histograms    per operation, in microseconds
+     * @param errors        non-2xx responses and failed requests per operation
+     * @param sent          requests started
+     * @param elapsed       wall time until the last response
+     * @param maxInFlight   most requests outstanding at once
+     * @param maxSchedulingLag how far the generator itself ran behind the intended start times
+     */
+    record RunResult(Map<Operation, Histogram> histograms, Map<Operation, Long> errors, long sent, Duration elapsed,
+                     int maxInFlight, Duration maxSchedulingLag) {
+    }
+
+    private final CatalogClient client;
+    private final OperationMix mix;
+    private final ArrivalProcess arrival;
+    private final double rate;
+    private final Duration drainTimeout;
+
+    OpenModelDriver(CatalogClient client, OperationMix mix, ArrivalProcess arrival, double rate, Duration drainTimeout) {
+        this.client = client;
+        this.mix = mix;
+        this.arrival = arrival;
+        this.rate = rate;
+        this.drainTimeout = drainTimeout;
+    }
+
+    RunResult run(Duration duration, RandomGenerator random) throws InterruptedException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        int maxInFlight = 0;
+        long maxLag = 0;
+        long sent = 0;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        while (intended < end) {
+            long now = System.nanoTime();
+            while (now < intended) {
+                LockSupport.parkNanos(intended - now);
+                now = System.nanoTime();
+            }
+            maxLag = Math.max(maxLag, now - intended);
+
+            long intendedStart = intended;
+            maxInFlight = Math.max(maxInFlight, inFlight.incrementAndGet());
+            client.execute(mix.next(random), random).whenComplete((response, error) -> {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                Operation operation = response.operation();
+                recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (!response.successful()) {
+                    errors.get(operation).increment();
+                }
+                inFlight.decrementAndGet();
+            });
+            sent++;
+            intended += arrival.nextGapNanos(rate, random);
+        }
+
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            if (histogram.getTotalCount() > 0) {
+                histogram.setTag(operation.label());
+                histograms.put(operation, histogram);
+                errorCounts.put(operation, errors.get(operation).sum());
+            }
+        });
+        return new RunResult(histograms, errorCounts, sent, elapsed, maxInFlight, Duration.ofNanos(maxLag));
+    }
+}
@@ -0,0 +1,31 @@
+package com.emiryucel.courseportal.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The requests the generator can issue; each one gets its own latency histogram.
+ */
+public enum Operation {
+
+    CREATE_COURSE,
+    CREATE_LECTURER,
+    READ_COURSE,
+    READ_LECTURER,
+    PAGE_COURSES,
+    ASSIGN_COURSE,
+    DELETE_COURSE;
+
+    /** Name used on the command line and in reports, e.g. {@code read-course}. */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static Operation fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label().equals(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + label + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::label).toList()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.emiryucel.courseportal.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Operation Mix Tests")
+class OperationMixTest {
+
+    @Test
+    @DisplayName("Should pick operations in proportion to their weights")
+    void givenWeights_whenNext_thenFrequenciesFollowWeights() {
+        OperationMix mix = OperationMix.parse("read-course:3, delete-course:1, assign-course:0");
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys(Operation.READ_COURSE, Operation.DELETE_COURSE);
+        assertThat(counts.get(Operation.READ_COURSE) / 100_000.0).isCloseTo(0.75, within(0.01));
+        assertThat(mix).hasToString("read-course:3,delete-course:1");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operations and empty mixes")
+    void givenInvalidSpec_whenParse_thenThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> OperationMix.parse("read-course:1,update-course:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("update-course");
+        assertThatThrownBy(() -> OperationMix.parse("read-course:0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the mean rate of a Poisson arrival process")
+    void givenPoissonArrivals_whenSummingGaps_thenMeanMatchesRate() {
+        SplittableRandom random = new SplittableRandom(7);
+        long total = 0;
+        for (int i = 0; i < 100_000; i++) {
+            total += ArrivalProcess.POISSON.nextGapNanos(1000, random);
+        }
+
+        assertThat(total / 100_000.0).isCloseTo(1_000_000.0, within(20_000.0));
+        assertThat(ArrivalProcess.UNIFORM.nextGapNanos(1000, random)).isEqualTo(1_000_000L);
+    }
+}
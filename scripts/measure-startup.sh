@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+#
+# Time from JVM launch to the first successful request, for the plain JVM, Spring AOT and AOT + AppCDS.
+#
+#   mvn -Pfast-startup package -DskipTests
+#   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/bestpractices scripts/measure-startup.sh [runs]
+#
+# Every run starts the extracted jar in target/cds with the prod profile, polls GET /api/course?fields=id
+# until it answers 200 and reports the median per mode in milliseconds. The database must be reachable
+# through the usual SPRING_DATASOURCE_* variables.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+CDS_DIR="$(cd "$(dirname "$0")/.." && pwd)/target/cds"
+JAR="$(find "$CDS_DIR" -maxdepth 1 -name '*.jar' | head -n 1)"
+URL="http://localhost:${PORT}/api/course?fields=id"
+
+if [[ -z "$JAR" || ! -f "$CDS_DIR/application.jsa" ]]; then
+    echo "run 'mvn -Pfast-startup package -DskipTests' first" >&2
+    exit 1
+fi
+
+declare -A MODES=(
+    [jvm]=""
+    [aot]="-Dspring.aot.enabled=true"
+    [aot-cds]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=$CDS_DIR/application.jsa"
+)
+
+measure() {
+    local flags="$1" start pid elapsed
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    (cd "$CDS_DIR" && exec java $flags -Dspring.profiles.active=prod -Dserver.port="$PORT" \
+        -Dlogging.file.name= -jar "$JAR" > /dev/null 2>&1) &
+    pid=$!
+    until [[ "$(curl -s -o /dev/null -w '%{http_code}' "$URL")" == "200" ]]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "application exited before serving a request" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+for mode in jvm aot aot-cds; do
+    samples=()
+    for ((run = 1; run <= RUNS; run++)); do
+        samples+=("$(measure "${MODES[$mode]}")")
+    done
+    median=$(printf '%s\n' "${samples[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+    printf '%-8s median %6d ms  (runs: %s)\n' "$mode" "$median" "${samples[*]}"
+done
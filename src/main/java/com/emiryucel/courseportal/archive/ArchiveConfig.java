@@ -0,0 +1,28 @@
+package com.emiryucel.courseportal.archive;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ArchiveConfig implements SchedulingConfigurer {
+
+    private final CourseArchiver courseArchiver;
+    private final ArchiveProperties properties;
+
+    public ArchiveConfig(CourseArchiver courseArchiver, ArchiveProperties properties) {
+        this.courseArchiver = courseArchiver;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.enabled()) {
+            registrar.addFixedDelayTask(courseArchiver::archive, properties.interval());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param retention        courses created longer ago than this are moved to the archive; with monthly
+ *                         partitions a month goes once all of it is past the window
+ * @param batchSize        rows moved per transaction when archiving row by row
+ * @param partitionsAhead  months of partitions kept created ahead of the current one
+ */
+@ConfigurationProperties(prefix = "courseportal.archive")
+public record ArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("730d") Duration retention,
+        @DefaultValue("1d") Duration interval,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("3") int partitionsAhead) {
+}
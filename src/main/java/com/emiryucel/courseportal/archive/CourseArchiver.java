@@ -0,0 +1,198 @@
+package com.emiryucel.courseportal.archive;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.purge.PurgeProperties;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Moves courses created before the retention window into {@code course_archive}. On PostgreSQL the
+ * course table is range-partitioned by month of {@code created_at} (see the V3 migration): a month past
+ * the window is copied and its partition detached and dropped, so no live rows are deleted. Rows outside
+ * the monthly partitions, or every row on databases without partitioning, are moved in batches. Deleted
+ * courses are never archived but left to the purger: tombstones still inside the purge retention are moved
+ * to the default partition before their month is dropped, so they stay restorable and visible to sync.
+ */
+@Component
+@Slf4j
+public class CourseArchiver {
+
+    private static final String COLUMNS = "id, title, description, price, lecturer_id, created_at, updated_at";
+    private static final Pattern PARTITION_NAME = Pattern.compile("course_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final RowMapper<CourseSnapshot> COURSE_ROW = (rs, rowNum) -> new CourseSnapshot(
+            rs.getString("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("price", Double.class),
+            rs.getString("lecturer_id"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+    private final PurgeProperties purgeProperties;
+
+    public CourseArchiver(JdbcTemplate jdbcTemplate, ShardExecutor shardExecutor,
+                          PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                          ArchiveProperties properties, PurgeProperties purgeProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.purgeProperties = purgeProperties;
+    }
+
+    public long archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        try {
+            long archived = shardExecutor.onEachShard(() -> archiveShard(cutoff)).stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            if (archived > 0) {
+                log.info("Archived {} courses created before {}", archived, cutoff);
+            }
+            return archived;
+        } catch (RuntimeException e) {
+            log.warn("Course archival failed", e);
+            return 0;
+        }
+    }
+
+    private long archiveShard(LocalDateTime cutoff) {
+        if (!isPartitioned()) {
+            return archiveRows("course", cutoff);
+        }
+        createUpcomingPartitions();
+        long archived = 0;
+        for (String partition : partitionsEndingBefore(cutoff)) {
+            archived += archivePartition(partition);
+        }
+        return archived + archiveRows("course_default", cutoff);
+    }
+
+    private boolean isPartitioned() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            return false;
+        }
+        Integer partitioned = jdbcTemplate.queryForObject("select count(*) from pg_partitioned_table p "
+                + "join pg_class c on c.oid = p.partrelid where c.relname = 'course' "
+                + "and c.relnamespace = current_schema()::regnamespace", Integer.class);
+        return partitioned != null && partitioned > 0;
+    }
+
+    private List<String> partitionsEndingBefore(LocalDateTime cutoff) {
+        List<String> partitions = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList("select c.relname from pg_inherits i "
+                + "join pg_class c on c.oid = i.inhrelid join pg_class p on p.oid = i.inhparent "
+                + "where p.relname = 'course' and p.relnamespace = current_schema()::regnamespace", String.class)) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                    partitions.add(name);
+                }
+            }
+        }
+        Collections.sort(partitions);
+        return partitions;
+    }
+
+    private long archivePartition(String partition) {
+        Long archived = transactionTemplate.execute(status -> {
+            long[] count = new long[1];
+            jdbcTemplate.query("insert into course_archive (" + COLUMNS + ", archived_at) "
+                    + "select " + COLUMNS + ", ? from " + partition + " where deleted_at is null returning " + COLUMNS, rs -> {
+                eventPublisher.publishEvent(EntityChangedEvent.courseArchived(COURSE_ROW.mapRow(rs, (int) count[0])));
+                count[0]++;
+            }, Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.execute("alter table course detach partition " + partition);
+            // the month is no longer covered by a partition, so these land in course_default
+            int kept = jdbcTemplate.update("insert into course select * from " + partition
+                    + " where deleted_at is not null and deleted_at > ?",
+                    Timestamp.valueOf(LocalDateTime.now().minus(purgeProperties.retention())));
+            if (kept > 0) {
+                log.info("Kept {} restorable deleted courses of partition {}", kept, partition);
+            }
+            jdbcTemplate.execute("drop table " + partition);
+            return count[0];
+        });
+        log.info("Archived partition {} ({} courses)", partition, archived);
+        return archived != null ? archived : 0;
+    }
+
+    // a month's partition is created ahead of time; rows the default partition took for it are moved in
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= properties.partitionsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            String partition = "course_p" + month.format(PARTITION_MONTH);
+            Boolean exists = jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, partition);
+            if (Boolean.TRUE.equals(exists)) {
+                continue;
+            }
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("create table " + partition + " (like course including defaults including constraints)");
+                jdbcTemplate.update("insert into " + partition + " select * from course_default "
+                        + "where created_at >= ? and created_at < ?", from, to);
+                jdbcTemplate.update("delete from course_default where created_at >= ? and created_at < ?", from, to);
+                jdbcTemplate.execute("alter table course attach partition " + partition
+                        + " for values from ('" + from + "') to ('" + to + "')");
+            });
+            log.info("Created course partition {}", partition);
+        }
+    }
+
+    private long archiveRows(String table, LocalDateTime cutoff) {
+        long archived = 0;
+        List<CourseSnapshot> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<CourseSnapshot> rows = jdbcTemplate.query("select " + COLUMNS + " from " + table
+                        + " where created_at < ? and deleted_at is null order by created_at limit ?", COURSE_ROW, cutoff, properties.batchSize());
+                if (rows.isEmpty()) {
+                    return rows;
+                }
+                LocalDateTime archivedAt = LocalDateTime.now();
+                jdbcTemplate.batchUpdate("insert into course_archive (" + COLUMNS + ", archived_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?)", rows.stream().map(row -> new Object[]{
+                        row.id(), row.title(), row.description(), row.price(), row.lecturerId(),
+                        row.createdAt(), row.updatedAt(), archivedAt}).toList());
+                jdbcTemplate.batchUpdate("delete from " + table + " where id = ?",
+                        rows.stream().map(row -> new Object[]{row.id()}).toList());
+                rows.forEach(row -> eventPublisher.publishEvent(EntityChangedEvent.courseArchived(row)));
+                return rows;
+            });
+            archived += batch.size();
+        } while (batch.size() == properties.batchSize());
+        return archived;
+    }
+}
@@ -0,0 +1,23 @@
+package com.emiryucel.courseportal.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+@ConditionalOnProperty(prefix = "courseportal.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditConfig {
+
+    @Bean
+    public AuditJournalWriter auditJournalWriter(AuditProperties properties, ObjectMapper objectMapper) {
+        return new AuditJournalWriter(properties, objectMapper);
+    }
+
+    @Bean
+    public AuditEventListener auditEventListener(AuditJournalWriter auditJournalWriter) {
+        return new AuditEventListener(auditJournalWriter);
+    }
+}
@@ -0,0 +1,16 @@
+package com.emiryucel.courseportal.audit;
+
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    private final AuditJournalWriter writer;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        writer.submit(event);
+    }
+}
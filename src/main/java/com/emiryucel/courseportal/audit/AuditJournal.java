@@ -0,0 +1,173 @@
+package com.emiryucel.courseportal.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal split into fixed-size memory-mapped segments named after the first sequence
+ * they hold. Not thread-safe: a single writer thread owns an instance.
+ */
+@Slf4j
+public class AuditJournal implements Closeable {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSequence;
+
+    public AuditJournal(Path directory, int segmentSize, int maxSegments) {
+        this(directory, segmentSize, maxSegments, 1);
+    }
+
+    public AuditJournal(Path directory, int segmentSize, int maxSegments, long firstSequence) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.nextSequence = firstSequence;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments(directory);
+            if (segments.isEmpty()) {
+                openSegment(nextSequence);
+            } else {
+                recover(segments.get(segments.size() - 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit journal in " + directory, e);
+        }
+    }
+
+    public long append(AuditRecord record) {
+        return write(record.withSequence(nextSequence));
+    }
+
+    long appendPreservingSequence(AuditRecord record) {
+        if (record.sequence() < nextSequence) {
+            throw new IllegalArgumentException("Sequence " + record.sequence() + " is behind " + nextSequence);
+        }
+        return write(record);
+    }
+
+    private long write(AuditRecord sequenced) {
+        int size = sequenced.encodedSize();
+        // keep room for the zero length marker that terminates every segment
+        if (size + AuditRecord.HEADER_BYTES > segmentSize) {
+            throw new IllegalArgumentException("Audit record of " + size + " bytes exceeds the segment size");
+        }
+        if (segment.remaining() < size + AuditRecord.HEADER_BYTES) {
+            rotate(sequenced.sequence());
+        }
+        sequenced.encode(segment);
+        nextSequence = sequenced.sequence() + 1;
+        return sequenced.sequence();
+    }
+
+    public void flush() {
+        segment.force();
+    }
+
+    public long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public void close() {
+        try {
+            segment.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public static void readSegment(Path path, Consumer<AuditRecord> consumer) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            AuditRecord record;
+            while ((record = AuditRecord.decode(buffer)) != null) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    private void recover(Path last) throws IOException {
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+        long lastSequence = sequenceOf(last) - 1;
+        AuditRecord record;
+        while ((record = AuditRecord.decode(segment)) != null) {
+            lastSequence = record.sequence();
+        }
+        nextSequence = lastSequence + 1;
+        log.info("Recovered audit journal segment {} at offset {}, next sequence {}",
+                last.getFileName(), segment.position(), nextSequence);
+    }
+
+    private void rotate(long firstSequence) {
+        try {
+            segment.force();
+            channel.close();
+            openSegment(firstSequence);
+            enforceRetention();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate audit journal segment", e);
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        Path path = directory.resolve(segmentName(firstSequence));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void enforceRetention() throws IOException {
+        if (maxSegments <= 0) {
+            return;
+        }
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+            log.info("Deleted audit journal segment {} past retention", segments.get(i).getFileName());
+        }
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    static long sequenceOf(Path segmentPath) {
+        String name = segmentPath.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.emiryucel.courseportal.audit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class AuditJournalReader {
+
+    private AuditJournalReader() {
+    }
+
+    public static void forEach(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        for (Path segment : AuditJournal.listSegments(directory)) {
+            AuditJournal.readSegment(segment, consumer);
+        }
+    }
+
+    public static List<AuditRecord> readAll(Path directory) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        forEach(directory, records::add);
+        return records;
+    }
+
+    /**
+     * Rewrites the journal into densely packed segments under {@code target}, keeping only records
+     * accepted by {@code retain}. Sequence numbers are preserved so compacted journals stay comparable.
+     */
+    public static long compact(Path source, Path target, int segmentSize, Predicate<AuditRecord> retain)
+            throws IOException {
+        if (!AuditJournal.listSegments(target).isEmpty()) {
+            throw new IllegalArgumentException("Compaction target must be empty: " + target);
+        }
+        long written = 0;
+        AuditJournal compacted = null;
+        try {
+            for (Path segment : AuditJournal.listSegments(source)) {
+                List<AuditRecord> retained = new ArrayList<>();
+                AuditJournal.readSegment(segment, record -> {
+                    if (retain.test(record)) {
+                        retained.add(record);
+                    }
+                });
+                for (AuditRecord record : retained) {
+                    if (compacted == null) {
+                        compacted = new AuditJournal(target, segmentSize, 0, record.sequence());
+                    }
+                    compacted.appendPreservingSequence(record);
+                    written++;
+                }
+            }
+        } finally {
+            if (compacted != null) {
+                compacted.close();
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,58 @@
+package com.emiryucel.courseportal.audit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.function.Predicate;
+
+/**
+ * Offline journal utility, run against a stopped writer or a copied directory:
+ * <pre>
+ * java -cp course-portal.jar -Dloader.main=com.emiryucel.courseportal.audit.AuditJournalTool \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher dump audit/
+ * ... compact audit/ audit-compacted/ [retainAfter=2025-01-01T00:00:00Z] [segmentSize=16777216]
+ * </pre>
+ */
+public final class AuditJournalTool {
+
+    private AuditJournalTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            usage();
+            return;
+        }
+        switch (args[0]) {
+            case "dump" -> AuditJournalReader.forEach(Path.of(args[1]), record -> System.out.printf(
+                    "%d %s %s %s %s %s %s%n", record.sequence(), record.occurredAt(), record.changeType(),
+                    record.entityType(), record.entityId(), record.relatedId(), record.payload()));
+            case "compact" -> {
+                if (args.length < 3) {
+                    usage();
+                    return;
+                }
+                Predicate<AuditRecord> retain = record -> true;
+                int segmentSize = 16 * 1024 * 1024;
+                for (int i = 3; i < args.length; i++) {
+                    String[] option = args[i].split("=", 2);
+                    switch (option[0]) {
+                        case "retainAfter" -> {
+                            Instant cutoff = Instant.parse(option[1]);
+                            retain = record -> record.occurredAt().isAfter(cutoff);
+                        }
+                        case "segmentSize" -> segmentSize = Integer.parseInt(option[1]);
+                        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                }
+                long written = AuditJournalReader.compact(Path.of(args[1]), Path.of(args[2]), segmentSize, retain);
+                System.out.printf("Compacted %d records into %s%n", written, args[2]);
+            }
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("usage: dump <journalDir> | compact <sourceDir> <targetDir> [retainAfter=<instant>] [segmentSize=<bytes>]");
+    }
+}
@@ -0,0 +1,130 @@
+package com.emiryucel.courseportal.audit;
+
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public class AuditJournalWriter implements SmartLifecycle {
+
+    private final AuditProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AuditRingBuffer<EntityChangedEvent> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private AuditJournal journal;
+
+    public AuditJournalWriter(AuditProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buffer = new AuditRingBuffer<>(properties.bufferCapacity());
+    }
+
+    public void submit(EntityChangedEvent event) {
+        if (buffer.offer(event)) {
+            return;
+        }
+        switch (properties.overflowPolicy()) {
+            case DROP_NEWEST -> recordDrop();
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) {
+                        recordDrop();
+                    }
+                }
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + properties.blockTimeout().toNanos();
+                while (!buffer.offer(event)) {
+                    if (System.nanoTime() > deadline) {
+                        recordDrop();
+                        return;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                }
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void start() {
+        journal = new AuditJournal(properties.directory(), (int) properties.segmentSize().toBytes(),
+                properties.maxSegments());
+        running = true;
+        writerThread = new Thread(this::runLoop, "audit-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        long idleNanos = properties.idleWait().toNanos();
+        while (running) {
+            if (writeBatch() == 0) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+        while (writeBatch() > 0) {
+            // drain whatever was captured before shutdown
+        }
+    }
+
+    private int writeBatch() {
+        int written = buffer.drain(this::append, properties.batchSize());
+        if (written > 0) {
+            journal.flush();
+        }
+        return written;
+    }
+
+    private void append(EntityChangedEvent event) {
+        try {
+            Object state = event.entityType() == EntityType.COURSE ? event.course() : event.lecturer();
+            String payload = objectMapper.writeValueAsString(state);
+            journal.append(new AuditRecord(0, event.occurredAt(), event.changeType(), event.entityType(),
+                    event.entityId(), event.relatedId(), payload));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Could not write audit record for {} {}", event.entityType(), event.entityId(), e);
+        }
+    }
+
+    private void recordDrop() {
+        long total = dropped.incrementAndGet();
+        if (Long.bitCount(total) == 1) {
+            log.warn("Audit buffer full, {} events dropped so far", total);
+        }
+    }
+}
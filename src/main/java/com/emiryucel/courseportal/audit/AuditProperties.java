@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "courseportal.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("audit") Path directory,
+        @DefaultValue("16MB") DataSize segmentSize,
+        @DefaultValue("0") int maxSegments,
+        @DefaultValue("8192") int bufferCapacity,
+        @DefaultValue("512") int batchSize,
+        @DefaultValue("10ms") Duration idleWait,
+        @DefaultValue("DROP_NEWEST") OverflowPolicy overflowPolicy,
+        @DefaultValue("50ms") Duration blockTimeout) {
+}
@@ -0,0 +1,117 @@
+package com.emiryucel.courseportal.audit;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout, little overhead and no framing library:
+ * <pre>
+ * int  bodyLength   (0 marks the unwritten tail of a segment)
+ * int  crc32c(body)
+ * body: long sequence | long epochMillis | byte changeType | byte entityType
+ *       | short+bytes entityId | short+bytes relatedId (-1 when absent) | int+bytes payload
+ * </pre>
+ */
+public record AuditRecord(
+        long sequence,
+        Instant occurredAt,
+        ChangeType changeType,
+        EntityType entityType,
+        String entityId,
+        String relatedId,
+        String payload) {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    public int encodedSize() {
+        return HEADER_BYTES + bodySize();
+    }
+
+    private int bodySize() {
+        return Long.BYTES * 2 + 2
+                + Short.BYTES + utf8(entityId).length
+                + Short.BYTES + (relatedId != null ? utf8(relatedId).length : 0)
+                + Integer.BYTES + (payload != null ? utf8(payload).length : 0);
+    }
+
+    public void encode(ByteBuffer target) {
+        byte[] id = utf8(entityId);
+        byte[] related = relatedId != null ? utf8(relatedId) : null;
+        byte[] body = payload != null ? utf8(payload) : new byte[0];
+
+        ByteBuffer buffer = ByteBuffer.allocate(bodySize());
+        buffer.putLong(sequence);
+        buffer.putLong(occurredAt.toEpochMilli());
+        buffer.put((byte) changeType.ordinal());
+        buffer.put((byte) entityType.ordinal());
+        buffer.putShort((short) id.length).put(id);
+        if (related != null) {
+            buffer.putShort((short) related.length).put(related);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        buffer.putInt(body.length).put(body);
+        buffer.flip();
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate());
+        target.putInt(buffer.remaining());
+        target.putInt((int) crc.getValue());
+        target.put(buffer);
+    }
+
+    /**
+     * Reads the record at the buffer's position, or returns {@code null} (leaving the position
+     * untouched) at the end of the written region or on a torn write.
+     */
+    public static AuditRecord decode(ByteBuffer source) {
+        if (source.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int start = source.position();
+        int length = source.getInt();
+        int checksum = source.getInt();
+        if (length <= 0 || length > source.remaining()) {
+            source.position(start);
+            return null;
+        }
+        ByteBuffer body = source.slice(source.position(), length);
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            source.position(start);
+            return null;
+        }
+        source.position(source.position() + length);
+
+        long sequence = body.getLong();
+        Instant occurredAt = Instant.ofEpochMilli(body.getLong());
+        ChangeType changeType = ChangeType.values()[body.get()];
+        EntityType entityType = EntityType.values()[body.get()];
+        String entityId = readString(body, body.getShort());
+        short relatedLength = body.getShort();
+        String relatedId = relatedLength >= 0 ? readString(body, relatedLength) : null;
+        int payloadLength = body.getInt();
+        String payload = payloadLength > 0 ? readString(body, payloadLength) : null;
+        return new AuditRecord(sequence, occurredAt, changeType, entityType, entityId, relatedId, payload);
+    }
+
+    public AuditRecord withSequence(long newSequence) {
+        return new AuditRecord(newSequence, occurredAt, changeType, entityType, entityId, relatedId, payload);
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
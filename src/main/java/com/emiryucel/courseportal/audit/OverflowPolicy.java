@@ -0,0 +1,7 @@
+package com.emiryucel.courseportal.audit;
+
+public enum OverflowPolicy {
+    DROP_NEWEST,
+    DROP_OLDEST,
+    BLOCK
+}
@@ -0,0 +1,29 @@
+package com.emiryucel.courseportal.budget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements one call of a service method may issue, including the flush at commit. Not
+ * enforced at runtime; {@code ServiceQueryBudgetTest} runs every budgeted method against the embedded
+ * database, counts its statements and fails the build when a budget is exceeded.
+ * <p>
+ * Budgets are for the common path; where the count depends on the data (e.g. a lecturer's course
+ * count), the budget must hold for any size.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int selects() default 0;
+
+    int inserts() default 0;
+
+    int updates() default 0;
+
+    int deletes() default 0;
+}
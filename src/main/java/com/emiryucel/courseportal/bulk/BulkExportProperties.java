@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "courseportal.export")
+public record BulkExportProperties(
+        @DefaultValue("1000") int fetchSize) {
+}
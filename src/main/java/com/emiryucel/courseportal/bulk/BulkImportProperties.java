@@ -0,0 +1,13 @@
+package com.emiryucel.courseportal.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "courseportal.import")
+public record BulkImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100") int maxReportedErrors,
+        @DefaultValue("2") int workers,
+        @DefaultValue("8") int queueCapacity,
+        @DefaultValue("100") int retainedJobs) {
+}
@@ -0,0 +1,117 @@
+package com.emiryucel.courseportal.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pulls one row at a time from an upload so arbitrarily large files are processed in constant memory.
+ * Rows that cannot be parsed are returned as rejected instead of aborting the import.
+ */
+public abstract class CatalogRowReader<T> implements Closeable {
+
+    public record Row<T>(long number, T value, String error) {
+
+        public boolean isRejected() {
+            return error != null;
+        }
+    }
+
+    private long rowNumber;
+
+    public abstract Row<T> next() throws IOException;
+
+    protected Row<T> accepted(T value) {
+        return new Row<>(++rowNumber, value, null);
+    }
+
+    protected Row<T> rejected(String error) {
+        return new Row<>(++rowNumber, null, error);
+    }
+
+    public static <T> CatalogRowReader<T> open(BulkFormat format, InputStream input, Class<T> type,
+                                               ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonReader<>(input, objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+            case CSV -> new CsvReader<>(input, type);
+        };
+    }
+
+    private static final class NdjsonReader<T> extends CatalogRowReader<T> {
+
+        private final BufferedReader lines;
+        private final ObjectReader reader;
+
+        NdjsonReader(InputStream input, ObjectReader reader) {
+            this.lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            this.reader = reader;
+        }
+
+        @Override
+        public Row<T> next() throws IOException {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return accepted(reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    return rejected(e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    private static final class CsvReader<T> extends CatalogRowReader<T> {
+
+        private final MappingIterator<T> rows;
+
+        CsvReader(InputStream input, Class<T> type) throws IOException {
+            CsvMapper mapper = new CsvMapper();
+            mapper.findAndRegisterModules();
+            this.rows = mapper.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValues(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Row<T> next() throws IOException {
+            try {
+                if (!rows.hasNextValue()) {
+                    return null;
+                }
+                return accepted(rows.nextValue());
+            } catch (RuntimeJsonMappingException e) {
+                return rejected(e.getMessage());
+            } catch (JsonProcessingException e) {
+                return rejected(e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.emiryucel.courseportal.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counterpart of {@link CatalogRowReader}: writes one row at a time so an export never holds more than
+ * the current row in memory. Closing flushes the underlying stream but leaves it open.
+ */
+public abstract class CatalogRowWriter<T> implements Closeable {
+
+    public abstract void write(T row) throws IOException;
+
+    public static <T> CatalogRowWriter<T> open(BulkFormat format, OutputStream output, Class<T> type,
+                                               ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(output, objectMapper);
+            case CSV -> new CsvWriter<>(output, type);
+        };
+    }
+
+    private static final class NdjsonWriter<T> extends CatalogRowWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        NdjsonWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer();
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter<T> extends CatalogRowWriter<T> {
+
+        private final SequenceWriter rows;
+
+        CsvWriter(OutputStream output, Class<T> type) throws IOException {
+            // declaration order of the record components, not the CsvMapper default of alphabetical
+            CsvMapper mapper = CsvMapper.builder()
+                    .findAndAddModules()
+                    .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .build();
+            CsvSchema schema = mapper.schemaFor(type).withHeader();
+            this.rows = mapper.writer(schema).writeValues(output);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            rows.write(row);
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.emiryucel.courseportal.bulk;
+
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.event.EntityType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one import. Counters are updated by the worker and read concurrently by status
+ * requests, so everything observable is atomic or volatile.
+ */
+public class ImportJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final EntityType entityType;
+    @Getter
+    private final BulkFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.PENDING;
+    private volatile String failureMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(EntityType entityType, BulkFormat format, int maxReportedErrors) {
+        this.entityType = entityType;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowsImported(int count) {
+        rowsImported.addAndGet(count);
+    }
+
+    public void reject(long row, String reason) {
+        rowsRejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add("Row " + row + ": " + reason);
+            }
+        }
+    }
+
+    public ImportJobDTO toDto() {
+        ImportJobDTO dto = new ImportJobDTO();
+        dto.setId(id);
+        dto.setEntityType(entityType);
+        dto.setFormat(format);
+        dto.setStatus(status);
+        dto.setRowsRead(rowsRead.get());
+        dto.setRowsImported(rowsImported.get());
+        dto.setRowsRejected(rowsRejected.get());
+        synchronized (errors) {
+            dto.setErrors(List.copyOf(errors));
+        }
+        dto.setFailureMessage(failureMessage);
+        dto.setSubmittedAt(submittedAt);
+        dto.setStartedAt(startedAt);
+        dto.setFinishedAt(finishedAt);
+        return dto;
+    }
+}
@@ -0,0 +1,38 @@
+package com.emiryucel.courseportal.cache;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+@EnableConfigurationProperties({NegativeCacheProperties.class, StaleCacheProperties.class})
+public class CacheConfig {
+
+    @Bean
+    public NegativeLookupCache negativeLookupCache(NegativeCacheProperties properties) {
+        return new NegativeLookupCache(properties);
+    }
+
+    @Bean
+    public StaleResponseCache staleResponseCache(StaleCacheProperties properties) {
+        return new StaleResponseCache(properties);
+    }
+
+    // outermost, ahead of the concurrency limit (order 0), so a rejected call can still be answered;
+    // the cache is looked up on first use, so it is not created along with the advisor
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor staleWhileRevalidateAdvisor(ObjectProvider<StaleResponseCache> staleResponseCache) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ServeStale.class),
+                new StaleWhileRevalidateInterceptor(staleResponseCache));
+        advisor.setOrder(-1);
+        return advisor;
+    }
+}
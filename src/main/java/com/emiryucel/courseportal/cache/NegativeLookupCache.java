@@ -0,0 +1,89 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Remembers IDs that recently resolved to nothing so repeated probes for them skip the database.
+ * Entries expire quickly and are dropped as soon as an entity with that ID is created or restored.
+ */
+public class NegativeLookupCache {
+
+    private final boolean enabled;
+    private final Cache<Key, Boolean> missing;
+    private final ThreadLocal<Set<Key>> deferred = new ThreadLocal<>();
+
+    public NegativeLookupCache(NegativeCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .build();
+    }
+
+    public boolean isKnownMissing(EntityType entityType, String id) {
+        return enabled && missing.getIfPresent(new Key(entityType, id)) != null;
+    }
+
+    public void recordMissing(EntityType entityType, String id) {
+        if (!enabled) {
+            return;
+        }
+        Set<Key> pending = deferred.get();
+        if (pending != null) {
+            pending.add(new Key(entityType, id));
+        } else {
+            missing.put(new Key(entityType, id), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Holds back the misses recorded on this thread until {@link DeferredMisses#record()}, for a lookup tried
+     * in several places of which only the last miss is conclusive. Closing without recording drops them.
+     */
+    public DeferredMisses deferMisses() {
+        Set<Key> pending = new HashSet<>();
+        deferred.set(pending);
+        return new DeferredMisses() {
+            @Override
+            public void record() {
+                pending.forEach(key -> missing.put(key, Boolean.TRUE));
+                pending.clear();
+            }
+
+            @Override
+            public void close() {
+                deferred.remove();
+            }
+        };
+    }
+
+    public void invalidate(EntityType entityType, String id) {
+        missing.invalidate(new Key(entityType, id));
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.changeType() == ChangeType.CREATED || event.changeType() == ChangeType.RESTORED) {
+            invalidate(event.entityType(), event.entityId());
+        }
+    }
+
+    public interface DeferredMisses extends AutoCloseable {
+
+        void record();
+
+        @Override
+        void close();
+    }
+
+    private record Key(EntityType entityType, String id) {
+    }
+}
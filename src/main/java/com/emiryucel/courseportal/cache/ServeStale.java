@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose last successful result may be served again, for up to
+ * {@code courseportal.stale.max-staleness}, when the database is saturated or times out.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ServeStale {
+
+    /**
+     * Transaction timeout, in seconds, for marked reads. A query still running when it expires fails
+     * over to the remembered result; writes and unmarked reads are not limited.
+     */
+    String QUERY_TIMEOUT = "${courseportal.stale.query-timeout-seconds:5}";
+}
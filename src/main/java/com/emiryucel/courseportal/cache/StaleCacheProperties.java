@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxStaleness    oldest result that may still be served; older ones are dropped and the error
+ *                        goes through
+ * @param maximumSize     results remembered across all reads and arguments, and change times kept to
+ *                        invalidate them
+ * @param refreshThreads  threads retrying the reads that were answered stale
+ */
+@ConfigurationProperties(prefix = "courseportal.stale")
+public record StaleCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration maxStaleness,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("2") int refreshThreads) {
+}
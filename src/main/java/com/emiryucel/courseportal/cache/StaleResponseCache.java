@@ -0,0 +1,149 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The last successful result of every {@link ServeStale} read, kept for
+ * {@code courseportal.stale.max-staleness}. A by-id result is no longer servable once a committed change
+ * touches that id, so a hiccup never brings back a deleted or outdated entity; list results are only
+ * bounded by the staleness limit. Change times are bounded by {@code courseportal.stale.maximum-size} too;
+ * once one is dropped for room, by-id results older than it are no longer served.
+ */
+@Slf4j
+public class StaleResponseCache implements DisposableBean {
+
+    record Key(Method method, List<Object> arguments) {
+
+        // by-id reads take the id first; listings take fields, a page or nothing
+        String entityId() {
+            return !arguments.isEmpty() && arguments.get(0) instanceof String id ? id : null;
+        }
+    }
+
+    record Entry(Object value, Instant storedAt) {
+    }
+
+    private final boolean enabled;
+    private final Cache<Key, Entry> results;
+    // when each id was last changed; kept exactly as long as the results it can invalidate
+    private final Cache<String, Instant> changes;
+    // the latest change dropped from changes for room; by-id results stored before it can no longer be checked
+    private final AtomicReference<Instant> changesForgottenUntil = new AtomicReference<>(Instant.MIN);
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public StaleResponseCache(StaleCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.results = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.maxStaleness())
+                .build();
+        this.changes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.maxStaleness())
+                .evictionListener((String id, Instant changedAt, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        changesForgottenUntil.accumulateAndGet(changedAt, (a, b) -> a.isAfter(b) ? a : b);
+                    }
+                })
+                .build();
+        AtomicInteger threads = new AtomicInteger();
+        // a refresh that cannot be queued is simply dropped; the next stale answer schedules it again
+        this.refreshExecutor = new ThreadPoolExecutor(properties.refreshThreads(), properties.refreshThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.refreshThreads() * 64), runnable -> {
+                    Thread thread = new Thread(runnable, "stale-refresh-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    static Key key(MethodInvocation invocation) {
+        return new Key(invocation.getMethod(), Arrays.asList(invocation.getArguments().clone()));
+    }
+
+    // stamped with the time the read started, so a change committed while it ran still invalidates it
+    void put(Key key, Object value, Instant readStartedAt) {
+        if (enabled) {
+            results.put(key, new Entry(value, readStartedAt));
+        }
+    }
+
+    Entry getServable(Key key) {
+        Entry entry = enabled ? results.getIfPresent(key) : null;
+        if (entry == null) {
+            return null;
+        }
+        if (key.entityId() == null) {
+            return entry;
+        }
+        Instant changedAt = changes.getIfPresent(key.entityId());
+        Instant lastPossibleChange = changedAt != null ? changedAt : changesForgottenUntil.get();
+        return lastPossibleChange.isBefore(entry.storedAt()) ? entry : null;
+    }
+
+    // retries the read on a refresh thread, at most once at a time per key, and stores the result if it succeeds
+    void refreshInBackground(Key key, MethodInvocation refresh) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Instant startedAt = Instant.now();
+                    put(key, refresh.proceed(), startedAt);
+                } catch (Throwable e) {
+                    log.debug("Background refresh of {} failed: {}", key.method().getName(), e.toString());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Instant now = Instant.now();
+        changes.put(event.entityId(), now);
+        if (event.relatedId() != null) {
+            changes.put(event.relatedId(), now);
+        }
+        if (event.entityType() == EntityType.LECTURER && event.changeType() == ChangeType.DELETED) {
+            // the lecturer's courses go with it without events of their own, so no by-id result can be trusted
+            results.asMap().keySet().removeIf(key -> key.entityId() != null);
+        }
+    }
+
+    static Duration age(Entry entry) {
+        return Duration.between(entry.storedAt(), Instant.now());
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.limit.ConcurrencyLimitExceededException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+
+/**
+ * Remembers the result of every {@link ServeStale} read and, when the read fails because the limiter is
+ * full, no connection could be had or a query timed out, answers with the remembered result instead
+ * and retries the read in the background. Ordered outside the concurrency limit so rejected calls are
+ * covered too.
+ */
+public class StaleWhileRevalidateInterceptor implements MethodInterceptor {
+
+    // read by StaleResponseHeaderAdvice to mark the response
+    static final String STALE_AGE_ATTRIBUTE = StaleWhileRevalidateInterceptor.class.getName() + ".AGE";
+
+    private final ObjectProvider<StaleResponseCache> cacheProvider;
+
+    public StaleWhileRevalidateInterceptor(ObjectProvider<StaleResponseCache> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        StaleResponseCache cache = cacheProvider.getObject();
+        StaleResponseCache.Key key = StaleResponseCache.key(invocation);
+        // cloned up front: once proceeded, the invocation can no longer be replayed from this point
+        MethodInvocation refresh = ((ProxyMethodInvocation) invocation).invocableClone();
+        Instant startedAt = Instant.now();
+        try {
+            Object result = invocation.proceed();
+            cache.put(key, result, startedAt);
+            return result;
+        } catch (ConcurrencyLimitExceededException | CannotCreateTransactionException
+                 | DataAccessResourceFailureException | TransientDataAccessException e) {
+            StaleResponseCache.Entry stale = cache.getServable(key);
+            if (stale == null) {
+                throw e;
+            }
+            cache.refreshInBackground(key, refresh);
+            RequestAttributes request = RequestContextHolder.getRequestAttributes();
+            if (request != null) {
+                request.setAttribute(STALE_AGE_ATTRIBUTE, StaleResponseCache.age(stale), RequestAttributes.SCOPE_REQUEST);
+            }
+            return stale.value();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.emiryucel.courseportal.codec;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes catalog DTOs with the messages declared in {@code proto/catalog.proto}. Lists are written as
+ * a sequence of length-delimited messages, the framing protobuf's own writeDelimitedTo/parseDelimitedFrom use.
+ */
+public class CatalogProtobufCodec {
+
+    private static final String SCHEMA_LOCATION = "proto/catalog.proto";
+
+    private static final Map<Class<?>, String> MESSAGE_TYPES = Map.of(
+            CourseDTO.class, "Course",
+            CourseResponseDTO.class, "CourseResponse",
+            LecturerDTO.class, "Lecturer",
+            LecturerResponseDTO.class, "LecturerResponse");
+
+    private final ProtobufMapper mapper;
+    private final Map<Class<?>, ProtobufSchema> schemas;
+
+    public CatalogProtobufCodec() {
+        this.mapper = ProtobufMapper.builder()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        this.schemas = loadSchemas();
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemas.containsKey(type);
+    }
+
+    public void write(Object value, OutputStream output) throws IOException {
+        output.write(mapper.writer(schemaFor(value.getClass())).writeValueAsBytes(value));
+    }
+
+    public <T> T read(Class<T> type, InputStream input) throws IOException {
+        return mapper.readerFor(type).with(schemaFor(type)).readValue(input.readAllBytes());
+    }
+
+    public void writeDelimited(List<?> values, OutputStream output) throws IOException {
+        for (Object value : values) {
+            byte[] message = mapper.writer(schemaFor(value.getClass())).writeValueAsBytes(value);
+            writeVarint(message.length, output);
+            output.write(message);
+        }
+    }
+
+    public <T> List<T> readDelimited(Class<T> type, InputStream input) throws IOException {
+        ProtobufSchema schema = schemaFor(type);
+        List<T> values = new ArrayList<>();
+        int length;
+        while ((length = readVarint(input)) >= 0) {
+            byte[] message = input.readNBytes(length);
+            if (message.length < length) {
+                throw new EOFException("Truncated protobuf message");
+            }
+            values.add(mapper.readerFor(type).with(schema).readValue(message));
+        }
+        return values;
+    }
+
+    private ProtobufSchema schemaFor(Class<?> type) {
+        ProtobufSchema schema = schemas.get(type);
+        if (schema == null) {
+            throw new IllegalArgumentException("No protobuf message declared for " + type.getName());
+        }
+        return schema;
+    }
+
+    private static Map<Class<?>, ProtobufSchema> loadSchemas() {
+        ProtobufSchemaLoader loader = ProtobufSchemaLoader.std;
+        Map<Class<?>, ProtobufSchema> loaded = new HashMap<>();
+        MESSAGE_TYPES.forEach((type, message) -> {
+            try (Reader reader = new InputStreamReader(
+                    new ClassPathResource(SCHEMA_LOCATION).getInputStream(), StandardCharsets.UTF_8)) {
+                loaded.put(type, loader.load(reader, message));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load " + SCHEMA_LOCATION, e);
+            }
+        });
+        return Map.copyOf(loaded);
+    }
+
+    private static void writeVarint(int value, OutputStream output) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    // -1 at a clean end of stream
+    private static int readVarint(InputStream input) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = input.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("Truncated message length");
+            }
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed message length");
+    }
+}
@@ -0,0 +1,93 @@
+package com.emiryucel.courseportal.codec;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes the catalog DTOs, and lists of them, as protobuf. Anything without a message in the
+ * schema (pages, error bodies) is left to the other converters.
+ */
+public class CatalogProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private record Target(Class<?> type, boolean list) {
+    }
+
+    private final CatalogProtobufCodec codec;
+
+    public CatalogProtobufHttpMessageConverter(CatalogProtobufCodec codec) {
+        super(APPLICATION_PROTOBUF, new MediaType("application", "protobuf"));
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codec.supports(clazz);
+    }
+
+    // element type of a list is only known to the generic canRead/canWrite, so advertise for any list
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : super.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return resolve(type) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return resolve(type != null ? type : clazz) != null && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        Target target = resolve(type);
+        if (target == null) {
+            throw new HttpMessageNotReadableException("No protobuf message for " + type, inputMessage);
+        }
+        return target.list()
+                ? codec.readDelimited(target.type(), inputMessage.getBody())
+                : codec.read(target.type(), inputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return codec.read(clazz, inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (value instanceof List<?> list) {
+            codec.writeDelimited(list, outputMessage.getBody());
+        } else {
+            codec.write(value, outputMessage.getBody());
+        }
+    }
+
+    private Target resolve(Type type) {
+        if (type instanceof Class<?> clazz && codec.supports(clazz)) {
+            return new Target(clazz, false);
+        }
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)
+                && raw.isAssignableFrom(List.class)
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element
+                && codec.supports(element)) {
+            return new Target(element, true);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.emiryucel.courseportal.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings selected through Accept / Content-Type next to JSON: application/cbor,
+ * application/x-jackson-smile and application/x-protobuf. JSON stays first in the converter chain so
+ * it remains the default when a client accepts anything.
+ */
+@Configuration
+public class CodecConfig implements WebMvcConfigurer {
+
+    private final CatalogProtobufCodec protobufCodec = new CatalogProtobufCodec();
+
+    // these replace Spring's default CBOR/Smile converters in place, after JSON, but use Boot's Jackson settings
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public CatalogProtobufCodec catalogProtobufCodec() {
+        return protobufCodec;
+    }
+
+    // not a bean: Boot would put an unknown converter type at the front of the chain
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CatalogProtobufHttpMessageConverter(protobufCodec));
+    }
+}
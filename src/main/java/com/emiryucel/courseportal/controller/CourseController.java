@@ -1,19 +1,43 @@
 package com.emiryucel.courseportal.controller;
 
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.ExportResponses;
+import com.emiryucel.courseportal.dto.ChangeSetDTO;
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.dto.LookupRequestDTO;
+import com.emiryucel.courseportal.dto.LookupResultDTO;
+import com.emiryucel.courseportal.exception.InvalidFieldSelectionException;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
+import com.emiryucel.courseportal.service.ChangeStreamService;
+import com.emiryucel.courseportal.service.ExportService;
 import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LookupService;
+import com.emiryucel.courseportal.service.SyncService;
+import com.emiryucel.courseportal.service.SuggestionService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/course")
@@ -23,11 +47,16 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final ExportService exportService;
+    private final ChangeStreamService changeStreamService;
+    private final SyncService syncService;
+    private final SuggestionService suggestionService;
+    private final LookupService lookupService;
 
 
     @PostMapping
     public ResponseEntity<CourseResponseDTO> createCourse(@Valid @RequestBody CourseDTO courseDTO) {
-        log.info("Creating new course with title: {}", courseDTO.getTitle());
+        log.debug("Creating new course with title: {}", courseDTO.getTitle());
         CourseResponseDTO createdCourse = courseService.createCourse(courseDTO);
         log.info("Course created successfully with name: {}", createdCourse.getTitle());
         return new ResponseEntity<>(createdCourse, HttpStatus.CREATED);
@@ -35,12 +64,51 @@ public class CourseController {
 
     @PutMapping("/{id}")
     public ResponseEntity<CourseResponseDTO> updateCourse(@PathVariable String id, @Valid @RequestBody CourseDTO courseDTO) {
-        log.info("Updating course with ID: {}", id);
+        log.debug("Updating course with ID: {}", id);
         CourseResponseDTO updatedCourse = courseService.updateCourse(id, courseDTO);
         log.info("Course with ID: {} updated successfully", id);
         return ResponseEntity.ok(updatedCourse);
     }
 
+    @PatchMapping(value = "/{id}", consumes = JsonMergePatcher.MEDIA_TYPE)
+    public ResponseEntity<CourseResponseDTO> patchCourse(@PathVariable String id, @RequestBody JsonNode patch) {
+        log.debug("Patching course with ID: {}", id);
+        CourseResponseDTO patchedCourse = courseService.patchCourse(id, patch);
+        log.info("Course with ID: {} patched successfully", id);
+        return ResponseEntity.ok(patchedCourse);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+            @RequestParam(defaultValue = "NDJSON") BulkFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Exporting courses as {}", format);
+        return ExportResponses.attachment("courses", format, acceptEncoding,
+                output -> exportService.exportCourses(format, output));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CourseSuggestionDTO>> suggestCourses(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        log.debug("Suggesting courses for prefix: {}", q);
+        return ResponseEntity.ok(suggestionService.suggestCourses(q, limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeSetDTO<CourseResponseDTO>> getCourseChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        log.debug("Fetching course changes since cursor: {}", since);
+        return ResponseEntity.ok(syncService.getCourseChanges(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCourseChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("Opening course change stream after event: {}", lastEventId);
+        return changeStreamService.streamCourseChanges(lastEventId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CourseResponseDTO> getCourseById(@PathVariable String id) {
         log.debug("Fetching course with ID: {}", id);
@@ -49,6 +117,12 @@ public class CourseController {
         return ResponseEntity.ok(course);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getCourseFieldsById(@PathVariable String id, @RequestParam Set<String> fields) {
+        log.debug("Fetching fields {} of course with ID: {}", fields, id);
+        return ResponseEntity.ok(courseService.getCourseFields(id, fields));
+    }
+
     @GetMapping
     public ResponseEntity<List<CourseResponseDTO>> getAllCourses() {
         log.debug("Fetching all courses");
@@ -57,6 +131,28 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getAllCourseFields(@RequestParam Set<String> fields) {
+        log.debug("Fetching fields {} of all courses", fields);
+        List<Map<String, Object>> courses = courseService.getAllCourseFields(fields);
+        log.debug("Retrieved {} courses", courses.size());
+        return ResponseEntity.ok(courses);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<LookupResultDTO<CourseResponseDTO>> getCoursesByIds(@RequestParam List<String> ids,
+                                                                              @RequestParam(required = false) Set<String> fields) {
+        log.debug("Looking up {} courses by ID", ids.size());
+        rejectFieldsWithIds(fields);
+        return ResponseEntity.ok(lookupService.lookupCourses(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResultDTO<CourseResponseDTO>> lookupCourses(@Valid @RequestBody LookupRequestDTO lookupRequest) {
+        log.debug("Looking up {} courses by ID", lookupRequest.getIds().size());
+        return ResponseEntity.ok(lookupService.lookupCourses(lookupRequest.getIds()));
+    }
+
     @GetMapping("/paginated")
     public ResponseEntity<Page<CourseResponseDTO>> getAllCoursesPaginated(Pageable pageable) {
         log.debug("Fetching courses with pagination - page: {}, size: {}, sort: {}", 
@@ -71,13 +167,32 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    @GetMapping(value = "/paginated", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getCourseFieldsPaginated(@RequestParam Set<String> fields, Pageable pageable) {
+        log.debug("Fetching fields {} of courses with pagination - page: {}, size: {}, sort: {}",
+                  fields, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return ResponseEntity.ok(courseService.getAllCourseFields(fields, pageable));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCourse(@PathVariable String id) {
-        log.info("Deleting course with ID: {}", id);
+        log.debug("Deleting course with ID: {}", id);
         courseService.deleteCourse(id);
         log.info("Course with ID: {} deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<CourseResponseDTO> restoreCourse(@PathVariable String id) {
+        log.debug("Restoring course with ID: {}", id);
+        CourseResponseDTO restoredCourse = courseService.restoreCourse(id);
+        log.info("Course with ID: {} restored successfully", id);
+        return ResponseEntity.ok(restoredCourse);
+    }
 
-} 
\ No newline at end of file
+    private static void rejectFieldsWithIds(Set<String> fields) {
+        if (fields != null) {
+            throw new InvalidFieldSelectionException("fields cannot be combined with ids");
+        }
+    }
+}
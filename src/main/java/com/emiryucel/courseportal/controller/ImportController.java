@@ -0,0 +1,62 @@
+package com.emiryucel.courseportal.controller;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/courses", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDTO> importCourses(@RequestParam("file") MultipartFile file,
+                                                      @RequestParam(required = false) BulkFormat format) throws IOException {
+        return startImport(EntityType.COURSE, file, format);
+    }
+
+    @PostMapping(value = "/lecturers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDTO> importLecturers(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam(required = false) BulkFormat format) throws IOException {
+        return startImport(EntityType.LECTURER, file, format);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable String id) {
+        log.debug("Fetching import job with ID: {}", id);
+        return ResponseEntity.ok(importService.getImportJob(id));
+    }
+
+    private ResponseEntity<ImportJobDTO> startImport(EntityType entityType, MultipartFile file, BulkFormat format)
+            throws IOException {
+        BulkFormat resolved = format != null ? format : BulkFormat.fromFilename(file.getOriginalFilename());
+        // spool to disk so the request thread is released while the worker streams the file
+        Path upload = Files.createTempFile("catalog-import-", "." + resolved.name().toLowerCase(Locale.ROOT));
+        file.transferTo(upload);
+
+        ImportJobDTO job = importService.startImport(entityType, resolved, upload);
+        log.info("{} import {} accepted ({} bytes)", entityType, job.getId(), file.getSize());
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/import/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+}
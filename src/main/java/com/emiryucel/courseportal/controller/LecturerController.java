@@ -1,17 +1,37 @@
 package com.emiryucel.courseportal.controller;
 
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.ExportResponses;
+import com.emiryucel.courseportal.dto.ChangeSetDTO;
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.dto.LookupRequestDTO;
+import com.emiryucel.courseportal.dto.LookupResultDTO;
+import com.emiryucel.courseportal.exception.InvalidFieldSelectionException;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
+import com.emiryucel.courseportal.service.ChangeStreamService;
+import com.emiryucel.courseportal.service.ExportService;
 import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.service.LookupService;
+import com.emiryucel.courseportal.service.SyncService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/lecturer")
@@ -21,61 +41,158 @@ import java.util.List;
 public class LecturerController {
 
     private final LecturerService lecturerService;
+    private final ExportService exportService;
+    private final ChangeStreamService changeStreamService;
+    private final SyncService syncService;
+    private final LookupService lookupService;
 
 
     @PostMapping
     public ResponseEntity<LecturerResponseDTO> createLecturer(@Valid @RequestBody LecturerDTO lecturerDTO) {
-        log.info("Creating new lecturer: {} {}", lecturerDTO.getFirstName(), lecturerDTO.getLastName());
+        log.debug("Creating new lecturer: {} {}", lecturerDTO.getFirstName(), lecturerDTO.getLastName());
         LecturerResponseDTO createdLecturer = lecturerService.createLecturer(lecturerDTO);
-        log.info("Lecturer created successfully with name: {}", createdLecturer.getFirstName()+createdLecturer.getLastName());
+        log.info("Lecturer created successfully with name: {} {}", createdLecturer.getFirstName(), createdLecturer.getLastName());
         return new ResponseEntity<>(createdLecturer, HttpStatus.CREATED);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<LecturerResponseDTO> updateLecturer(@PathVariable String id, @Valid @RequestBody LecturerDTO lecturerDTO) {
-        log.info("Updating lecturer with ID: {}", id);
+        log.debug("Updating lecturer with ID: {}", id);
         LecturerResponseDTO updatedLecturer = lecturerService.updateLecturer(id, lecturerDTO);
         log.info("Lecturer with ID: {} updated successfully", id);
         return ResponseEntity.ok(updatedLecturer);
     }
 
+    @PatchMapping(value = "/{id}", consumes = JsonMergePatcher.MEDIA_TYPE)
+    public ResponseEntity<LecturerResponseDTO> patchLecturer(@PathVariable String id, @RequestBody JsonNode patch) {
+        log.debug("Patching lecturer with ID: {}", id);
+        LecturerResponseDTO patchedLecturer = lecturerService.patchLecturer(id, patch);
+        log.info("Lecturer with ID: {} patched successfully", id);
+        return ResponseEntity.ok(patchedLecturer);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLecturers(
+            @RequestParam(defaultValue = "NDJSON") BulkFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Exporting lecturers as {}", format);
+        return ExportResponses.attachment("lecturers", format, acceptEncoding,
+                output -> exportService.exportLecturers(format, output));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeSetDTO<LecturerResponseDTO>> getLecturerChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        log.debug("Fetching lecturer changes since cursor: {}", since);
+        return ResponseEntity.ok(syncService.getLecturerChanges(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLecturerChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("Opening lecturer change stream after event: {}", lastEventId);
+        return changeStreamService.streamLecturerChanges(lastEventId);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<LecturerResponseDTO> getLecturerById(@PathVariable String id) {
+    public ResponseEntity<LecturerResponseDTO> getLecturerById(@PathVariable String id,
+                                                               @RequestParam(required = false) Set<String> include) {
         log.debug("Fetching lecturer with ID: {}", id);
-        LecturerResponseDTO lecturer = lecturerService.getLecturerById(id);
+        LecturerResponseDTO lecturer = includesCourses(include)
+                ? lecturerService.getLecturerWithCourses(id)
+                : lecturerService.getLecturerById(id);
         log.debug("Lecturer found with ID: {}", id);
         return ResponseEntity.ok(lecturer);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getLecturerFieldsById(@PathVariable String id,
+                                                                     @RequestParam Set<String> fields,
+                                                                     @RequestParam(required = false) Set<String> include) {
+        log.debug("Fetching fields {} of lecturer with ID: {}", fields, id);
+        rejectIncludeWithFields(include);
+        return ResponseEntity.ok(lecturerService.getLecturerFields(id, fields));
+    }
+
     @GetMapping
-    public ResponseEntity<List<LecturerResponseDTO>> getAllLecturers() {
+    public ResponseEntity<List<LecturerResponseDTO>> getAllLecturers(@RequestParam(required = false) Set<String> include) {
         log.debug("Fetching all lecturers");
-        List<LecturerResponseDTO> lecturers = lecturerService.getAllLecturers();
+        List<LecturerResponseDTO> lecturers = includesCourses(include)
+                ? lecturerService.getAllLecturersWithCourses()
+                : lecturerService.getAllLecturers();
+        log.debug("Retrieved {} lecturers", lecturers.size());
+        return ResponseEntity.ok(lecturers);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getAllLecturerFields(@RequestParam Set<String> fields,
+                                                                          @RequestParam(required = false) Set<String> include) {
+        log.debug("Fetching fields {} of all lecturers", fields);
+        rejectIncludeWithFields(include);
+        List<Map<String, Object>> lecturers = lecturerService.getAllLecturerFields(fields);
         log.debug("Retrieved {} lecturers", lecturers.size());
         return ResponseEntity.ok(lecturers);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<LookupResultDTO<LecturerResponseDTO>> getLecturersByIds(@RequestParam List<String> ids,
+                                                                                  @RequestParam(required = false) Set<String> fields) {
+        log.debug("Looking up {} lecturers by ID", ids.size());
+        rejectFieldsWithIds(fields);
+        return ResponseEntity.ok(lookupService.lookupLecturers(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResultDTO<LecturerResponseDTO>> lookupLecturers(@Valid @RequestBody LookupRequestDTO lookupRequest) {
+        log.debug("Looking up {} lecturers by ID", lookupRequest.getIds().size());
+        return ResponseEntity.ok(lookupService.lookupLecturers(lookupRequest.getIds()));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLecturer(@PathVariable String id) {
-        log.info("Deleting lecturer with ID: {}", id);
+        log.debug("Deleting lecturer with ID: {}", id);
         lecturerService.deleteLecturer(id);
         log.info("Lecturer with ID: {} deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<LecturerResponseDTO> restoreLecturer(@PathVariable String id) {
+        log.debug("Restoring lecturer with ID: {}", id);
+        LecturerResponseDTO restoredLecturer = lecturerService.restoreLecturer(id);
+        log.info("Lecturer with ID: {} restored successfully", id);
+        return ResponseEntity.ok(restoredLecturer);
+    }
+
     @PostMapping("/{lecturerId}/courses/{courseId}")
     public ResponseEntity<LecturerResponseDTO> assignCourse(@PathVariable String lecturerId, @PathVariable String courseId) {
-        log.info("Assigning course {} to lecturer {}", courseId, lecturerId);
+        log.debug("Assigning course {} to lecturer {}", courseId, lecturerId);
         LecturerResponseDTO updatedLecturer = lecturerService.assignCourse(lecturerId, courseId);
-        log.info("Course assigned successfully");
+        log.info("Course {} assigned successfully to lecturer {}", courseId, lecturerId);
         return ResponseEntity.ok(updatedLecturer);
     }
 
     @DeleteMapping("/{lecturerId}/courses/{courseId}")
     public ResponseEntity<LecturerResponseDTO> removeCourse(@PathVariable String lecturerId, @PathVariable String courseId) {
-        log.info("Removing course {} from lecturer {}", courseId, lecturerId);
+        log.debug("Removing course {} from lecturer {}", courseId, lecturerId);
         LecturerResponseDTO updatedLecturer = lecturerService.removeCourse(lecturerId, courseId);
-        log.info("Course removed successfully");
+        log.info("Course {} removed successfully from lecturer {}", courseId, lecturerId);
         return ResponseEntity.ok(updatedLecturer);
     }
-} 
\ No newline at end of file
+
+    private static boolean includesCourses(Set<String> include) {
+        return include != null && include.contains("courses");
+    }
+
+    private static void rejectIncludeWithFields(Set<String> include) {
+        if (includesCourses(include)) {
+            throw new InvalidFieldSelectionException("fields cannot be combined with include=courses");
+        }
+    }
+
+    private static void rejectFieldsWithIds(Set<String> fields) {
+        if (fields != null) {
+            throw new InvalidFieldSelectionException("fields cannot be combined with ids");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.emiryucel.courseportal.controller;
+
+import com.emiryucel.courseportal.dto.CatalogStatsDTO;
+import com.emiryucel.courseportal.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+@Slf4j
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @GetMapping
+    public ResponseEntity<CatalogStatsDTO> getStatistics() {
+        log.debug("Fetching catalog statistics");
+        return ResponseEntity.ok(statsService.getStatistics());
+    }
+}
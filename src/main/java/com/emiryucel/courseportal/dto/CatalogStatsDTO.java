@@ -0,0 +1,26 @@
+package com.emiryucel.courseportal.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+
+@Data
+public class CatalogStatsDTO {
+
+    private long totalCourses;
+    private long totalLecturers;
+    private long unassignedCourses;
+    private Map<String, Long> coursesPerLecturer;
+    private Map<String, DepartmentStats> departments;
+    private Instant reconciledAt;
+
+    @Data
+    public static class DepartmentStats {
+        private long courses;
+        private Double averagePrice;
+        private Double minPrice;
+        private Double maxPrice;
+    }
+}
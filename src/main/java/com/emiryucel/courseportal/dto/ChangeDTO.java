@@ -0,0 +1,24 @@
+package com.emiryucel.courseportal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeDTO<T> {
+
+    private String id;
+    private LocalDateTime changedAt;
+
+    // a tombstone: the entity was deleted or archived and carries no value
+    private boolean deleted;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private T value;
+}
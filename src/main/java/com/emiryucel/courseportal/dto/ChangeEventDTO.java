@@ -0,0 +1,33 @@
+package com.emiryucel.courseportal.dto;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDTO {
+
+    private EntityType entityType;
+    private ChangeType changeType;
+    private String id;
+
+    // the course for assignments and removals, the lecturer for course changes
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String relatedId;
+
+    private Instant occurredAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CourseResponseDTO course;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LecturerResponseDTO lecturer;
+}
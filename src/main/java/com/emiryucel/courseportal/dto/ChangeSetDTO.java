@@ -0,0 +1,22 @@
+package com.emiryucel.courseportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDTO<T> {
+
+    // oldest first; each id appears at most once, with its latest state
+    private List<ChangeDTO<T>> changes;
+
+    // pass as since= on the next call
+    private String cursor;
+
+    private boolean hasMore;
+}
@@ -1,12 +1,27 @@
 package com.emiryucel.courseportal.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 
 @Data
 public class CourseResponseDTO {
 
+    private String id;
     private String title;
     private String description;
     private Double price;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lecturerId;
+
+    // only populated in listings, which are read from the denormalized course_listing table
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lecturerFirstName;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lecturerLastName;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lecturerDepartment;
 }
@@ -0,0 +1,15 @@
+package com.emiryucel.courseportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSuggestionDTO {
+
+    private String id;
+    private String title;
+}
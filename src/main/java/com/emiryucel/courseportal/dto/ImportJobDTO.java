@@ -0,0 +1,29 @@
+package com.emiryucel.courseportal.dto;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.ImportJob;
+import com.emiryucel.courseportal.event.EntityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDTO {
+
+    private String id;
+    private EntityType entityType;
+    private BulkFormat format;
+    private ImportJob.Status status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private List<String> errors;
+    private String failureMessage;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -1,14 +1,22 @@
 package com.emiryucel.courseportal.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
+import java.util.List;
+
 
 @Data
 public class LecturerResponseDTO {
     
+    private String id;
     private String firstName;
     private String lastName;
     private String email;
     private String department;
     private String bio;
+
+    // only populated when requested with ?include=courses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CourseResponseDTO> courses;
 }
@@ -0,0 +1,19 @@
+package com.emiryucel.courseportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LookupResultDTO<T> {
+
+    // in the order the ids were requested, each at most once
+    private List<T> found;
+
+    private List<String> missing;
+}
@@ -0,0 +1,11 @@
+package com.emiryucel.courseportal.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ASSIGNED,
+    REMOVED,
+    ARCHIVED,
+    RESTORED
+}
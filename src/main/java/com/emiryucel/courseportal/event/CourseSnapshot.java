@@ -0,0 +1,26 @@
+package com.emiryucel.courseportal.event;
+
+import com.emiryucel.courseportal.model.Course;
+
+import java.time.LocalDateTime;
+
+public record CourseSnapshot(
+        String id,
+        String title,
+        String description,
+        Double price,
+        String lecturerId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CourseSnapshot from(Course course) {
+        return new CourseSnapshot(
+                course.getId(),
+                course.getTitle(),
+                course.getDescription(),
+                course.getPrice(),
+                course.getLecturer() != null ? course.getLecturer().getId() : null,
+                course.getCreatedAt(),
+                course.getUpdatedAt());
+    }
+}
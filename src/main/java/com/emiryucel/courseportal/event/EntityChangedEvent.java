@@ -0,0 +1,41 @@
+package com.emiryucel.courseportal.event;
+
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+
+import java.time.Instant;
+
+/**
+ * Published by the service layer for every catalog write. Snapshots are taken at publish time so
+ * listeners running after commit or on other threads never touch managed entities.
+ */
+public record EntityChangedEvent(
+        EntityType entityType,
+        ChangeType changeType,
+        String entityId,
+        String relatedId,
+        CourseSnapshot course,
+        LecturerSnapshot lecturer,
+        Instant occurredAt) {
+
+    public static EntityChangedEvent courseChanged(ChangeType changeType, Course course) {
+        CourseSnapshot snapshot = CourseSnapshot.from(course);
+        return new EntityChangedEvent(EntityType.COURSE, changeType, snapshot.id(), snapshot.lecturerId(),
+                snapshot, null, Instant.now());
+    }
+
+    public static EntityChangedEvent courseArchived(CourseSnapshot course) {
+        return new EntityChangedEvent(EntityType.COURSE, ChangeType.ARCHIVED, course.id(), course.lecturerId(),
+                course, null, Instant.now());
+    }
+
+    public static EntityChangedEvent lecturerChanged(ChangeType changeType, Lecturer lecturer) {
+        return new EntityChangedEvent(EntityType.LECTURER, changeType, lecturer.getId(), null,
+                null, LecturerSnapshot.from(lecturer), Instant.now());
+    }
+
+    public static EntityChangedEvent courseAssignment(ChangeType changeType, Lecturer lecturer, Course course) {
+        return new EntityChangedEvent(EntityType.LECTURER, changeType, lecturer.getId(), course.getId(),
+                CourseSnapshot.from(course), LecturerSnapshot.from(lecturer), Instant.now());
+    }
+}
@@ -0,0 +1,6 @@
+package com.emiryucel.courseportal.event;
+
+public enum EntityType {
+    COURSE,
+    LECTURER
+}
@@ -0,0 +1,28 @@
+package com.emiryucel.courseportal.event;
+
+import com.emiryucel.courseportal.model.Lecturer;
+
+import java.time.LocalDateTime;
+
+public record LecturerSnapshot(
+        String id,
+        String firstName,
+        String lastName,
+        String email,
+        String department,
+        String bio,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static LecturerSnapshot from(Lecturer lecturer) {
+        return new LecturerSnapshot(
+                lecturer.getId(),
+                lecturer.getFirstName(),
+                lecturer.getLastName(),
+                lecturer.getEmail(),
+                lecturer.getDepartment(),
+                lecturer.getBio(),
+                lecturer.getCreatedAt(),
+                lecturer.getUpdatedAt());
+    }
+}
@@ -4,11 +4,11 @@ package com.emiryucel.courseportal.exception;
 public class DuplicateResourceException extends RuntimeException {
     
     public DuplicateResourceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public DuplicateResourceException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
 
@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.exception;
+
+
+public class ExpiredCursorException extends RuntimeException {
+
+    public ExpiredCursorException(String message) {
+        super(message, null, false, false);
+    }
+}
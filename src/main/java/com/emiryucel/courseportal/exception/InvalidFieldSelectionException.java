@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.exception;
+
+
+public class InvalidFieldSelectionException extends RuntimeException {
+
+    public InvalidFieldSelectionException(String message) {
+        super(message, null, false, false);
+    }
+}
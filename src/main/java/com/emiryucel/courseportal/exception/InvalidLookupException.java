@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.exception;
+
+
+public class InvalidLookupException extends RuntimeException {
+
+    public InvalidLookupException(String message) {
+        super(message, null, false, false);
+    }
+}
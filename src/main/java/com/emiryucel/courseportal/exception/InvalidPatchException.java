@@ -0,0 +1,13 @@
+package com.emiryucel.courseportal.exception;
+
+
+public class InvalidPatchException extends RuntimeException {
+
+    public InvalidPatchException(String message) {
+        super(message, null, false, false);
+    }
+
+    public InvalidPatchException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
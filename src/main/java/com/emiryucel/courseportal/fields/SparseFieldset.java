@@ -0,0 +1,53 @@
+package com.emiryucel.courseportal.fields;
+
+import com.emiryucel.courseportal.exception.InvalidFieldSelectionException;
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The properties a {@code ?fields=} parameter may select for one resource. Names are shared by the
+ * response DTO and the entity attribute, so a selection maps one-to-one onto the SQL select list.
+ * The id is always returned.
+ */
+public record SparseFieldset(Class<?> entityType, List<String> fields) {
+
+    public static final String ID = "id";
+
+    public static final SparseFieldset COURSE =
+            new SparseFieldset(Course.class, List.of(ID, "title", "description", "price"));
+
+    public static final SparseFieldset LECTURER =
+            new SparseFieldset(Lecturer.class, List.of(ID, "firstName", "lastName", "email", "department", "bio"));
+
+    /**
+     * Returns the selected attributes in declaration order, id first.
+     *
+     * @throws InvalidFieldSelectionException if nothing or an unknown field is requested
+     */
+    public List<String> select(Set<String> requested) {
+        Set<String> unknown = new TreeSet<>();
+        for (String field : requested) {
+            if (!fields.contains(field)) {
+                unknown.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new InvalidFieldSelectionException("Unknown fields " + unknown + ", expected any of " + fields);
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidFieldSelectionException("At least one field must be selected, expected any of " + fields);
+        }
+        List<String> selected = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            if (field.equals(ID) || requested.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
+    }
+}
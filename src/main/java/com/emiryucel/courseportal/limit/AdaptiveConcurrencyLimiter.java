@@ -0,0 +1,138 @@
+package com.emiryucel.courseportal.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient-style adaptive concurrency limit. Every {@code windowSize} completed calls, the average
+ * latency of the window is compared with a slow moving baseline: while they agree the limit grows by
+ * about {@code sqrt(limit)}, and once recent calls get slower than {@code rttTolerance} times the
+ * baseline it shrinks in proportion (by at most half per update). Connection-pool wait is a second,
+ * earlier signal: calls queueing for a connection shrink the limit before their latency reaches the
+ * baseline comparison. Calls that failed to get a connection at all cut the limit multiplicatively.
+ * <p>
+ * The limit only grows while it is actually used, so an idle service does not drift to the maximum.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final ConcurrencyLimitProperties properties;
+    private final long poolWaitThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+
+    // guarded by this
+    private double longRttNanos;
+    private long longSamples;
+    private long windowRttNanos;
+    private long windowPoolWaitNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.poolWaitThresholdNanos = properties.poolWaitThreshold().toNanos();
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * Takes a slot if one is free under the current limit. Every successful call must be paired with
+     * {@link #release}.
+     */
+    public boolean tryAcquire() {
+        if (!properties.enabled()) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * @param rttNanos      time the call took
+     * @param poolWaitNanos part of it spent waiting for a database connection
+     * @param dropped       whether the call failed because no connection could be obtained
+     */
+    public void release(long rttNanos, long poolWaitNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (properties.enabled()) {
+            onSample(rttNanos, poolWaitNanos, inFlightAtCompletion, dropped);
+        }
+    }
+
+    synchronized void onSample(long rttNanos, long poolWaitNanos, int inFlightAtCompletion, boolean dropped) {
+        windowRttNanos += rttNanos;
+        windowPoolWaitNanos += poolWaitNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        windowDropped |= dropped;
+        if (++windowSamples < properties.windowSize()) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttNanos / windowSamples;
+        double poolWait = (double) windowPoolWaitNanos / windowSamples;
+        updateBaseline(shortRtt);
+        limit = nextLimit(shortRtt, poolWait);
+
+        windowRttNanos = 0;
+        windowPoolWaitNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void updateBaseline(double shortRtt) {
+        longSamples = Math.min(longSamples + 1, properties.longWindow());
+        longRttNanos += (shortRtt - longRttNanos) / longSamples;
+        // after an overload the baseline must not stay inflated, or the limit would never come back down
+        if (longRttNanos > 2 * shortRtt) {
+            longRttNanos = shortRtt * 2;
+        }
+    }
+
+    private double nextLimit(double shortRtt, double poolWait) {
+        double current = limit;
+        double next;
+        if (windowDropped) {
+            next = current * DROP_BACKOFF;
+        } else {
+            double gradient = clamp(properties.rttTolerance() * longRttNanos / shortRtt, 0.5, 1.0);
+            if (poolWait > poolWaitThresholdNanos) {
+                gradient = Math.min(gradient, Math.max(0.5, poolWaitThresholdNanos / poolWait));
+            }
+            if (gradient == 1.0 && windowMaxInFlight < current / 2) {
+                return current;
+            }
+            double target = current * gradient + (gradient == 1.0 ? Math.sqrt(current) : 0);
+            next = current * (1 - properties.smoothing()) + target * properties.smoothing();
+        }
+        return clamp(next, properties.minLimit(), properties.maxLimit());
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,87 @@
+package com.emiryucel.courseportal.limit;
+
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    private static final List<Class<?>> GUARDED_SERVICES = List.of(CourseService.class, LecturerService.class);
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    // runs before the transaction advisor (lowest precedence), so it wraps the transaction; the limiter
+    // is looked up on first use, since advisors are created before regular beans can be post-processed
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor concurrencyLimitAdvisor(ObjectProvider<AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiter) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new GuardedServicePointcut(),
+                new ConcurrencyLimitInterceptor(adaptiveConcurrencyLimiter));
+        advisor.setOrder(0);
+        return advisor;
+    }
+
+    @Bean
+    public static BeanPostProcessor poolWaitMeasuringDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof PoolWaitMeasuringDataSource)
+                        ? new PoolWaitMeasuringDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("courseportal.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit for catalog service calls")
+                    .register(registry);
+            Gauge.builder("courseportal.limiter.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Catalog service calls currently running")
+                    .register(registry);
+            FunctionCounter.builder("courseportal.limiter.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .description("Calls rejected with 503 because the limit was reached")
+                    .register(registry);
+        };
+    }
+
+    // only the transactional implementations; decorators such as the snapshot services call into them
+    private static final class GuardedServicePointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return GUARDED_SERVICES.stream().anyMatch(service -> service.isAssignableFrom(targetClass)
+                    && ReflectionUtils.findMethod(service, method.getName(), method.getParameterTypes()) != null)
+                    && (AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class)
+                    || AnnotatedElementUtils.hasAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Transactional.class));
+        }
+    }
+}
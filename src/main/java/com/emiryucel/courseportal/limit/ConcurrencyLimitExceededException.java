@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.limit;
+
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(int limit) {
+        super("Server is at its concurrency limit of " + limit + ", retry shortly", null, false, false);
+    }
+}
@@ -0,0 +1,39 @@
+package com.emiryucel.courseportal.limit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Runs a service call only if the limiter has a free slot and feeds its latency and pool wait back.
+ * Ordered outside the transaction advice, so a rejected call never touches the connection pool.
+ */
+public class ConcurrencyLimitInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> limiterProvider;
+
+    public ConcurrencyLimitInterceptor(ObjectProvider<AdaptiveConcurrencyLimiter> limiterProvider) {
+        this.limiterProvider = limiterProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        AdaptiveConcurrencyLimiter limiter = limiterProvider.getObject();
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter.getLimit());
+        }
+        PoolWaitMeasuringDataSource.takeWaitNanos();
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return invocation.proceed();
+        } catch (CannotCreateTransactionException | DataAccessResourceFailureException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limiter.release(System.nanoTime() - start, PoolWaitMeasuringDataSource.takeWaitNanos(), dropped);
+        }
+    }
+}
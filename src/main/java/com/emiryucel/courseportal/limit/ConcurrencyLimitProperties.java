@@ -0,0 +1,27 @@
+package com.emiryucel.courseportal.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param rttTolerance      how much the recent latency may exceed the long-term baseline before the
+ *                          limit starts shrinking
+ * @param windowSize        completed calls aggregated into one limit update
+ * @param longWindow        calls averaged into the long-term latency baseline
+ * @param poolWaitThreshold average connection-pool wait per call above which the limit shrinks even if
+ *                          latency has not risen yet
+ */
+@ConfigurationProperties(prefix = "courseportal.limiter")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("10") int windowSize,
+        @DefaultValue("600") int longWindow,
+        @DefaultValue("5ms") Duration poolWaitThreshold) {
+}
@@ -0,0 +1,48 @@
+package com.emiryucel.courseportal.limit;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Times {@code getConnection()} on the pool and adds it to the calling thread's total, which the
+ * limiter reads at the end of a guarded service call.
+ */
+public class PoolWaitMeasuringDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<long[]> WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    public PoolWaitMeasuringDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            WAIT_NANOS.get()[0] += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            WAIT_NANOS.get()[0] += System.nanoTime() - start;
+        }
+    }
+
+    /** Returns the wait accumulated on this thread since the last call and resets it. */
+    static long takeWaitNanos() {
+        long[] wait = WAIT_NANOS.get();
+        long nanos = wait[0];
+        wait[0] = 0;
+        return nanos;
+    }
+}
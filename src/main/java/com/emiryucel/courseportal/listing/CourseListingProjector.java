@@ -0,0 +1,124 @@
+package com.emiryucel.courseportal.listing;
+
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps {@code course_listing} in step with the course and lecturer tables. Change events only collect
+ * the affected course and lecturer ids; just before the writing transaction commits, their listing rows
+ * are deleted and re-selected from the live tables in one statement each, so the read model commits or
+ * rolls back together with the change and a whole import batch costs two statements.
+ */
+@Component
+public class CourseListingProjector {
+
+    // keeps IN lists well below driver and planner limits when a large batch is refreshed
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT = "insert into course_listing (id, title, description, price, lecturer_id, "
+            + "lecturer_first_name, lecturer_last_name, lecturer_department, created_at, updated_at) "
+            + "select c.id, c.title, c.description, c.price, c.lecturer_id, l.first_name, l.last_name, l.department, "
+            + "c.created_at, c.updated_at from course c left join lecturer l on l.id = c.lecturer_id "
+            + "where c.deleted_at is null and ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CourseListingProjector(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingRefresh refresh = new PendingRefresh();
+            refresh.add(event);
+            refresh.apply();
+            return;
+        }
+        pendingRefresh().add(event);
+    }
+
+    private PendingRefresh pendingRefresh() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingRefresh refresh) {
+                return refresh;
+            }
+        }
+        PendingRefresh refresh = new PendingRefresh();
+        TransactionSynchronizationManager.registerSynchronization(refresh);
+        return refresh;
+    }
+
+    private void refresh(List<String> courseIds, List<String> lecturerIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("courseIds", courseIds)
+                .addValue("lecturerIds", lecturerIds);
+        List<String> listingConditions = new ArrayList<>(2);
+        List<String> courseConditions = new ArrayList<>(2);
+        if (!courseIds.isEmpty()) {
+            listingConditions.add("id in (:courseIds)");
+            courseConditions.add("c.id in (:courseIds)");
+        }
+        if (!lecturerIds.isEmpty()) {
+            listingConditions.add("lecturer_id in (:lecturerIds)");
+            courseConditions.add("c.lecturer_id in (:lecturerIds)");
+        }
+        jdbcTemplate.update("delete from course_listing where " + String.join(" or ", listingConditions), parameters);
+        jdbcTemplate.update(INSERT + "(" + String.join(" or ", courseConditions) + ")", parameters);
+    }
+
+    private static List<String> chunk(List<String> ids, int index) {
+        int from = Math.min(index * CHUNK_SIZE, ids.size());
+        return ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+    }
+
+    private class PendingRefresh implements TransactionSynchronization {
+
+        private final Set<String> courseIds = new LinkedHashSet<>();
+        private final Set<String> lecturerIds = new LinkedHashSet<>();
+
+        void add(EntityChangedEvent event) {
+            if (event.entityType() == EntityType.COURSE) {
+                courseIds.add(event.entityId());
+                return;
+            }
+            // a lecturer's name and department are copied onto all of its courses
+            lecturerIds.add(event.entityId());
+            if (event.relatedId() != null) {
+                courseIds.add(event.relatedId());
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // the insert reads the course and lecturer tables, so pending entity changes must be written first
+            entityManager.flush();
+            apply();
+        }
+
+        void apply() {
+            List<String> courses = List.copyOf(courseIds);
+            List<String> lecturers = List.copyOf(lecturerIds);
+            for (int i = 0; i * CHUNK_SIZE < Math.max(courses.size(), lecturers.size()); i++) {
+                refresh(chunk(courses, i), chunk(lecturers, i));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.emiryucel.courseportal.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides once per request whether its DEBUG/INFO output is kept. A request is logged when it wins
+ * the route's sample draw and the route still has budget in the current one-second window. Routes are
+ * handler patterns, never raw URIs, so there is one window per pattern rather than one per id.
+ */
+public class LogSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LogSamplingProperties properties;
+    private final Map<String, RateWindow> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(LogSamplingProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean shouldLog(String route) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        LogSamplingProperties.Rule rule = properties.ruleFor(route);
+        if (rule.sampleRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= rule.sampleRate()) {
+            return false;
+        }
+        if (rule.maxRequestsPerSecond() <= 0) {
+            return true;
+        }
+        return windows.computeIfAbsent(route, key -> new RateWindow()).tryAcquire(rule.maxRequestsPerSecond());
+    }
+
+    private static final class RateWindow {
+
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryAcquire(int limit) {
+            long now = System.nanoTime();
+            long start = windowStart.get();
+            if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
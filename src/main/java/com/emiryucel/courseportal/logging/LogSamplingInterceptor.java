@@ -0,0 +1,54 @@
+package com.emiryucel.courseportal.logging;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@RequiredArgsConstructor
+public class LogSamplingInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String ROUTE_KEY = "route";
+    public static final String SAMPLED_KEY = "sampled";
+
+    // requests no handler pattern matched share one route, so the sampler keeps one window per pattern
+    static final String UNMATCHED_ROUTE = "unmatched";
+
+    private static final String SAMPLED_ATTRIBUTE = LogSamplingInterceptor.class.getName() + ".SAMPLED";
+
+    private final LogSampler sampler;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + ":" + (pattern != null ? pattern : UNMATCHED_ROUTE);
+        // an async dispatch resumes the request on another thread; it keeps the decision made at the start
+        Object sampled = request.getDispatcherType() == DispatcherType.ASYNC ? request.getAttribute(SAMPLED_ATTRIBUTE) : null;
+        if (sampled == null) {
+            sampled = Boolean.toString(sampler.shouldLog(route));
+            request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        }
+        MDC.put(ROUTE_KEY, route);
+        MDC.put(SAMPLED_KEY, (String) sampled);
+        return true;
+    }
+
+    // SSE streams and streamed exports finish on another thread, and afterCompletion is not called on this one
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        clear();
+    }
+
+    private static void clear() {
+        MDC.remove(ROUTE_KEY);
+        MDC.remove(SAMPLED_KEY);
+    }
+}
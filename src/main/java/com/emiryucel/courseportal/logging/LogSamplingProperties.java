@@ -0,0 +1,26 @@
+package com.emiryucel.courseportal.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "courseportal.logging.sampling")
+public record LogSamplingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Rule defaults,
+        Map<String, Rule> routes) {
+
+    public LogSamplingProperties {
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+    }
+
+    public Rule ruleFor(String route) {
+        return routes.getOrDefault(route, defaults);
+    }
+
+    public record Rule(
+            @DefaultValue("1.0") double sampleRate,
+            @DefaultValue("0") int maxRequestsPerSecond) {
+    }
+}
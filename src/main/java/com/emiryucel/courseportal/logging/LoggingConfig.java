@@ -0,0 +1,22 @@
+package com.emiryucel.courseportal.logging;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(LogSamplingProperties.class)
+public class LoggingConfig implements WebMvcConfigurer {
+
+    private final LogSampler sampler;
+
+    public LoggingConfig(LogSamplingProperties properties) {
+        this.sampler = new LogSampler(properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LogSamplingInterceptor(sampler));
+    }
+}
@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.lookup;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LookupProperties.class)
+public class LookupConfig {
+}
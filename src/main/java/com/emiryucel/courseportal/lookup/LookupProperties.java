@@ -0,0 +1,12 @@
+package com.emiryucel.courseportal.lookup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxIds  most ids one batch lookup may ask for; they are resolved with a single IN query
+ */
+@ConfigurationProperties(prefix = "courseportal.lookup")
+public record LookupProperties(
+        @DefaultValue("100") int maxIds) {
+}
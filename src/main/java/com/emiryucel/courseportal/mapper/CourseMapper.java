@@ -2,9 +2,16 @@ package com.emiryucel.courseportal.mapper;
 
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import com.emiryucel.courseportal.model.ArchivedCourse;
 import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.CourseListing;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.stereotype.Component;
@@ -18,12 +25,56 @@ import org.springframework.stereotype.Component;
 @Component
 public interface CourseMapper {
 
+    // the lecturer's details are only denormalized into listings
+    @Mapping(target = "lecturerId", source = "lecturer.id")
+    @Mapping(target = "lecturerFirstName", ignore = true)
+    @Mapping(target = "lecturerLastName", ignore = true)
+    @Mapping(target = "lecturerDepartment", ignore = true)
     CourseResponseDTO toResponseDto(Course course);
 
+    // delta sync clients need the assignment, but not the lecturer's details
+    @Mapping(target = "lecturerId", source = "lecturer.id")
+    @Mapping(target = "lecturerFirstName", ignore = true)
+    @Mapping(target = "lecturerLastName", ignore = true)
+    @Mapping(target = "lecturerDepartment", ignore = true)
+    @Named("change")
+    CourseResponseDTO toChangeDto(Course course);
+
+    @Mapping(target = "lecturerFirstName", ignore = true)
+    @Mapping(target = "lecturerLastName", ignore = true)
+    @Mapping(target = "lecturerDepartment", ignore = true)
+    CourseResponseDTO archivedToResponseDto(ArchivedCourse course);
+
+    CourseResponseDTO listingToResponseDto(CourseListing course);
+
+    @Mapping(target = "lecturerFirstName", ignore = true)
+    @Mapping(target = "lecturerLastName", ignore = true)
+    @Mapping(target = "lecturerDepartment", ignore = true)
+    CourseResponseDTO snapshotToResponseDto(CourseSnapshot course);
+
+    // the in-memory counterpart of listingToResponseDto; lecturer is null for unassigned courses
+    @Mapping(target = "id", source = "course.id")
+    @Mapping(target = "title", source = "course.title")
+    @Mapping(target = "description", source = "course.description")
+    @Mapping(target = "price", source = "course.price")
+    @Mapping(target = "lecturerId", source = "course.lecturerId")
+    @Mapping(target = "lecturerFirstName", source = "lecturer.firstName")
+    @Mapping(target = "lecturerLastName", source = "lecturer.lastName")
+    @Mapping(target = "lecturerDepartment", source = "lecturer.department")
+    CourseResponseDTO snapshotToListingDto(CourseSnapshot course, LecturerSnapshot lecturer);
+
     Course toEntity(CourseDTO courseDTO);
 
     void updateEntityFromDto(CourseDTO courseDTO, @MappingTarget Course course);
 
+    CourseDTO toDto(Course course);
+
+    // a patched DTO is complete, so nulls are copied too: a merge patch null clears the column
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    void patchEntityFromDto(CourseDTO courseDTO, @MappingTarget Course course);
+
     java.util.List<CourseResponseDTO> toResponseDtoList(java.util.List<Course> courses);
 
+    java.util.List<CourseResponseDTO> listingsToResponseDtoList(java.util.List<CourseListing> courses);
+
 }
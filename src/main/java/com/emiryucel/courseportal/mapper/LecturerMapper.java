@@ -2,9 +2,14 @@ package com.emiryucel.courseportal.mapper;
 
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
 import com.emiryucel.courseportal.model.Lecturer;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.stereotype.Component;
@@ -13,17 +18,35 @@ import org.springframework.stereotype.Component;
 @Mapper(
         componentModel = "spring",
         unmappedTargetPolicy = ReportingPolicy.WARN,
-        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        uses = CourseMapper.class
 )
 @Component
 public interface LecturerMapper {
 
+    // courses are left out so the lazy collection is never touched unless explicitly requested
+    @Mapping(target = "courses", ignore = true)
     LecturerResponseDTO toResponseDto(Lecturer lecturer);
 
+    @Mapping(target = "courses", ignore = true)
+    LecturerResponseDTO snapshotToResponseDto(LecturerSnapshot lecturer);
+
+    @Named("withCourses")
+    LecturerResponseDTO toResponseDtoWithCourses(Lecturer lecturer);
+
     Lecturer toEntity(LecturerDTO lecturerDTO);
 
     void updateEntityFromDto(LecturerDTO lecturerDTO, @MappingTarget Lecturer lecturer);
 
+    LecturerDTO toDto(Lecturer lecturer);
+
+    // a patched DTO is complete, so nulls are copied too: a merge patch null clears the column
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    void patchEntityFromDto(LecturerDTO lecturerDTO, @MappingTarget Lecturer lecturer);
+
     java.util.List<LecturerResponseDTO> toResponseDtoList(java.util.List<Lecturer> lecturers);
 
+    @IterableMapping(qualifiedByName = "withCourses")
+    java.util.List<LecturerResponseDTO> toResponseDtoListWithCourses(java.util.List<Lecturer> lecturers);
+
 }
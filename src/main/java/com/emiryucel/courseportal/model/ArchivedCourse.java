@@ -0,0 +1,42 @@
+package com.emiryucel.courseportal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A course moved out of the live table once it fell past the retention window. Read-only; the lecturer
+ * is kept as a plain id because the lecturer may be deleted later.
+ */
+@Getter
+@Setter
+@Entity
+@Immutable
+@Table(name = "course_archive")
+public class ArchivedCourse {
+
+    @Id
+    private String id;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    private Double price;
+
+    private String lecturerId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -1,19 +1,24 @@
 package com.emiryucel.courseportal.model;
 
+import com.emiryucel.courseportal.shard.ShardedId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @Entity
+@DynamicUpdate
+@SQLRestriction("deleted_at is null")
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @ShardedId
     private String id;
 
     @NotBlank(message = "Title is required")
@@ -37,6 +42,9 @@ public class Course {
 
     private LocalDateTime updatedAt;
 
+    // set by a delete; the row stays hidden from every query until TombstonePurger removes it
+    private LocalDateTime deletedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
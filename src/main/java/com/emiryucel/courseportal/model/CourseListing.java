@@ -0,0 +1,50 @@
+package com.emiryucel.courseportal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A live course together with its lecturer's name and department, so listings are served from one
+ * table without a join. Read-only here; rows are rewritten by {@code CourseListingProjector} in the
+ * transaction that changes the course or lecturer.
+ */
+@Getter
+@Setter
+@Entity
+@Immutable
+@Table(name = "course_listing")
+public class CourseListing {
+
+    @Id
+    private String id;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    private Double price;
+
+    private String lecturerId;
+
+    @Column(length = 50)
+    private String lecturerFirstName;
+
+    @Column(length = 50)
+    private String lecturerLastName;
+
+    @Column(length = 100)
+    private String lecturerDepartment;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -1,11 +1,14 @@
 package com.emiryucel.courseportal.model;
 
+import com.emiryucel.courseportal.shard.ShardedId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -14,10 +17,12 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@DynamicUpdate
+@SQLRestriction("deleted_at is null")
 public class Lecturer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @ShardedId
     private String id;
 
     @NotBlank(message = "First name is required")
@@ -48,6 +53,9 @@ public class Lecturer {
 
     private LocalDateTime updatedAt;
 
+    // set by a delete; the row stays hidden from every query until TombstonePurger removes it
+    private LocalDateTime deletedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
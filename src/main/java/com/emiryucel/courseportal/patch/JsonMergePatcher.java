@@ -0,0 +1,71 @@
+package com.emiryucel.courseportal.patch;
+
+import com.emiryucel.courseportal.exception.InvalidPatchException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies an RFC 7386 JSON Merge Patch to a DTO. Members set to null clear the property; members that
+ * are absent are left alone. Only the properties present in the patch are validated.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatcher {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(JsonNode patch, T target) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        List<String> fields = new ArrayList<>();
+        patch.fieldNames().forEachRemaining(fields::add);
+
+        Set<String> known = propertiesOf(target.getClass());
+        List<String> unknown = fields.stream().filter(field -> !known.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new InvalidPatchException("Unknown or read-only fields: " + String.join(", ", unknown));
+        }
+
+        try {
+            objectMapper.readerForUpdating(target).readValue(patch);
+        } catch (IOException e) {
+            throw new InvalidPatchException("Merge patch could not be applied: " + e.getMessage(), e);
+        }
+
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        for (String field : fields) {
+            violations.addAll(validator.validateProperty(target, field));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return target;
+    }
+
+    private Set<String> propertiesOf(Class<?> type) {
+        return objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties()
+                .stream()
+                .filter(BeanPropertyDefinition::hasSetter)
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,28 @@
+package com.emiryucel.courseportal.purge;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PurgeProperties.class)
+public class PurgeConfig implements SchedulingConfigurer {
+
+    private final TombstonePurger tombstonePurger;
+    private final PurgeProperties properties;
+
+    public PurgeConfig(TombstonePurger tombstonePurger, PurgeProperties properties) {
+        this.tombstonePurger = tombstonePurger;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.enabled()) {
+            registrar.addFixedDelayTask(tombstonePurger::purge, properties.interval());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.emiryucel.courseportal.purge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param retention  how long a deleted course or lecturer can still be restored; older tombstones are purged
+ * @param batchSize  rows removed per transaction
+ * @param pause      wait between two batches, so a large purge never keeps the database busy for long
+ */
+@ConfigurationProperties(prefix = "courseportal.purge")
+public record PurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("10m") Duration interval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pause) {
+}
@@ -0,0 +1,99 @@
+package com.emiryucel.courseportal.purge;
+
+import com.emiryucel.courseportal.shard.CourseRelocator;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes courses and lecturers deleted longer ago than the retention window. Rows go in small batches,
+ * each in a short transaction of its own with a pause before the next, so a mass delete is spread out
+ * instead of locking rows and writing its WAL in one burst. Courses are purged first: a lecturer's
+ * courses were deleted with it or before it, so none is left referencing it by the time it goes. When
+ * sharded, each run first deletes the originals of moved courses that could not be deleted right after the move.
+ */
+@Component
+@Slf4j
+public class TombstonePurger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeProperties properties;
+    private final ObjectProvider<CourseRelocator> courseRelocator;
+
+    public TombstonePurger(JdbcTemplate jdbcTemplate, ShardExecutor shardExecutor,
+                           PlatformTransactionManager transactionManager, PurgeProperties properties,
+                           ObjectProvider<CourseRelocator> courseRelocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.courseRelocator = courseRelocator;
+    }
+
+    public long purge() {
+        courseRelocator.ifAvailable(this::reconcileMoves);
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        try {
+            long purged = shardExecutor.onEachShard(() -> purgeTable("course", cutoff) + purgeTable("lecturer", cutoff))
+                    .stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            if (purged > 0) {
+                log.info("Purged {} rows deleted before {}", purged, cutoff);
+            }
+            return purged;
+        } catch (RuntimeException e) {
+            log.warn("Tombstone purge failed", e);
+            return 0;
+        }
+    }
+
+    private void reconcileMoves(CourseRelocator relocator) {
+        try {
+            long settled = relocator.reconcile();
+            if (settled > 0) {
+                log.info("Deleted the originals of {} moved courses", settled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reconciling moved courses failed", e);
+        }
+    }
+
+    private long purgeTable(String table, LocalDateTime cutoff) {
+        long purged = 0;
+        int removed;
+        do {
+            Integer batch = transactionTemplate.execute(status -> {
+                List<String> ids = jdbcTemplate.queryForList("select id from " + table
+                        + " where deleted_at < ? order by deleted_at limit ?", String.class, cutoff, properties.batchSize());
+                if (!ids.isEmpty()) {
+                    jdbcTemplate.batchUpdate("delete from " + table + " where id = ?",
+                            ids.stream().map(id -> new Object[]{id}).toList());
+                }
+                return ids.size();
+            });
+            removed = batch != null ? batch : 0;
+            purged += removed;
+        } while (removed == properties.batchSize() && pause());
+        return purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
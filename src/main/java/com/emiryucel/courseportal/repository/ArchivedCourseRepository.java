@@ -0,0 +1,20 @@
+package com.emiryucel.courseportal.repository;
+
+import com.emiryucel.courseportal.model.ArchivedCourse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedCourseRepository extends JpaRepository<ArchivedCourse, String> {
+
+    // an archived course has left the catalog, so delta sync reports it as deleted when it was archived
+    @Query(value = "select * from course_archive where (archived_at, id) > (:changedAt, :id) and archived_at <= :until "
+            + "order by archived_at, id limit :limit", nativeQuery = true)
+    List<ArchivedCourse> findArchivedAfter(@Param("changedAt") LocalDateTime changedAt, @Param("id") String id,
+                                           @Param("until") LocalDateTime until, @Param("limit") int limit);
+}
@@ -0,0 +1,134 @@
+package com.emiryucel.courseportal.repository;
+
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes pre-validated rows in bulk. On PostgreSQL rows are streamed through the COPY protocol; other
+ * databases (the embedded ones used in tests) fall back to JDBC batch inserts. Must be called inside a
+ * transaction so the connection is the one bound to it.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogBulkWriter {
+
+    private static final String[] COURSE_COLUMNS =
+            {"id", "title", "description", "price", "lecturer_id", "created_at", "updated_at"};
+    private static final String[] LECTURER_COLUMNS =
+            {"id", "first_name", "last_name", "email", "department", "bio", "created_at", "updated_at"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void writeCourses(List<Course> courses) {
+        List<Object[]> rows = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            rows.add(new Object[]{course.getId(), course.getTitle(), course.getDescription(), course.getPrice(),
+                    course.getLecturer() != null ? course.getLecturer().getId() : null,
+                    course.getCreatedAt(), course.getUpdatedAt()});
+        }
+        write("course", COURSE_COLUMNS, rows);
+    }
+
+    public void writeLecturers(List<Lecturer> lecturers) {
+        List<Object[]> rows = new ArrayList<>(lecturers.size());
+        for (Lecturer lecturer : lecturers) {
+            rows.add(new Object[]{lecturer.getId(), lecturer.getFirstName(), lecturer.getLastName(),
+                    lecturer.getEmail(), lecturer.getDepartment(), lecturer.getBio(),
+                    lecturer.getCreatedAt(), lecturer.getUpdatedAt()});
+        }
+        write("lecturer", LECTURER_COLUMNS, rows);
+    }
+
+    private void write(String table, String[] columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copy(connection.unwrap(PGConnection.class), table, columns, rows);
+            } else {
+                batchInsert(table, columns, rows);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Bulk write into " + table + " failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void copy(PGConnection connection, String table, String[] columns, List<Object[]> rows)
+            throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.getCopyAPI().copyIn(sql);
+        try {
+            StringBuilder line = new StringBuilder(256);
+            for (Object[] row : rows) {
+                line.setLength(0);
+                appendCsv(line, row);
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void batchInsert(String table, String[] columns, List<Object[]> rows) {
+        String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")";
+        List<Object[]> converted = rows.stream().map(CatalogBulkWriter::toJdbcValues).toList();
+        jdbcTemplate.batchUpdate(sql, converted);
+    }
+
+    private static Object[] toJdbcValues(Object[] row) {
+        Object[] values = row.clone();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof LocalDateTime dateTime) {
+                values[i] = Timestamp.valueOf(dateTime);
+            }
+        }
+        return values;
+    }
+
+    // CSV as understood by COPY: unquoted empty field is NULL, quoted empty field is ''
+    private static void appendCsv(StringBuilder line, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = row[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number) {
+                line.append(value);
+            } else {
+                line.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        line.append('\n');
+    }
+}
@@ -0,0 +1,92 @@
+package com.emiryucel.courseportal.repository;
+
+import com.emiryucel.courseportal.bulk.BulkExportProperties;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Streams whole tables through a server-side cursor. The PostgreSQL driver only honours the fetch size
+ * when auto-commit is off, so callers must run inside a (read-only) transaction.
+ */
+@Repository
+public class CatalogExportReader {
+
+    @FunctionalInterface
+    public interface RowSink<T> {
+        void accept(T row) throws IOException;
+    }
+
+    private static final String COURSE_QUERY =
+            "SELECT id, title, description, price, lecturer_id, created_at, updated_at FROM course "
+                    + "WHERE deleted_at IS NULL";
+    private static final String LECTURER_QUERY =
+            "SELECT id, first_name, last_name, email, department, bio, created_at, updated_at FROM lecturer "
+                    + "WHERE deleted_at IS NULL";
+
+    private static final RowMapper<CourseSnapshot> COURSE_ROW = (rs, rowNum) -> new CourseSnapshot(
+            rs.getString("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("price", Double.class),
+            rs.getString("lecturer_id"),
+            toLocalDateTime(rs, "created_at"),
+            toLocalDateTime(rs, "updated_at"));
+
+    private static final RowMapper<LecturerSnapshot> LECTURER_ROW = (rs, rowNum) -> new LecturerSnapshot(
+            rs.getString("id"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("email"),
+            rs.getString("department"),
+            rs.getString("bio"),
+            toLocalDateTime(rs, "created_at"),
+            toLocalDateTime(rs, "updated_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogExportReader(DataSource dataSource, BulkExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+    }
+
+    public long streamCourses(RowSink<CourseSnapshot> sink) throws IOException {
+        return stream(COURSE_QUERY, COURSE_ROW, sink);
+    }
+
+    public long streamLecturers(RowSink<LecturerSnapshot> sink) throws IOException {
+        return stream(LECTURER_QUERY, LECTURER_ROW, sink);
+    }
+
+    private <T> long stream(String sql, RowMapper<T> mapper, RowSink<T> sink) throws IOException {
+        long[] count = new long[1];
+        try {
+            jdbcTemplate.query(sql, rs -> {
+                try {
+                    sink.accept(mapper.mapRow(rs, (int) count[0]));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.repository;
+
+import com.emiryucel.courseportal.model.CourseListing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseListingRepository extends JpaRepository<CourseListing, String> {
+}
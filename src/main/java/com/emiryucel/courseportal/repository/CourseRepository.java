@@ -1,12 +1,41 @@
 package com.emiryucel.courseportal.repository;
 
 import com.emiryucel.courseportal.model.Course;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, String> {
 
-}
\ No newline at end of file
+    // one statement instead of a cascaded delete per course
+    @Modifying
+    @Query("update Course c set c.deletedAt = :deletedAt, c.updatedAt = :deletedAt "
+            + "where c.lecturer.id = :lecturerId and c.deletedAt is null")
+    int softDeleteAllByLecturerId(@Param("lecturerId") String lecturerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // native, so the entity's deleted_at restriction does not hide the tombstone
+    @Query(value = "select * from course where id = :id and deleted_at >= :since", nativeQuery = true)
+    Optional<Course> findDeletedById(@Param("id") String id, @Param("since") LocalDateTime since);
+
+    @Query(value = "select * from course where lecturer_id = :lecturerId and deleted_at = :deletedAt", nativeQuery = true)
+    List<Course> findDeletedWithLecturer(@Param("lecturerId") String lecturerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query(value = "update course set deleted_at = null, updated_at = :restoredAt "
+            + "where lecturer_id = :lecturerId and deleted_at = :deletedAt", nativeQuery = true)
+    int restoreAllDeletedWithLecturer(@Param("lecturerId") String lecturerId, @Param("deletedAt") LocalDateTime deletedAt,
+                                      @Param("restoredAt") LocalDateTime restoredAt);
+
+    // native, so tombstones are included; the caller bounds the page with until to let commits settle
+    @Query(value = "select * from course where (updated_at, id) > (:changedAt, :id) and updated_at <= :until "
+            + "order by updated_at, id limit :limit", nativeQuery = true)
+    List<Course> findChangedAfter(@Param("changedAt") LocalDateTime changedAt, @Param("id") String id,
+                                  @Param("until") LocalDateTime until, @Param("limit") int limit);
+}
@@ -1,11 +1,41 @@
 package com.emiryucel.courseportal.repository;
 
 import com.emiryucel.courseportal.model.Lecturer;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface LecturerRepository extends JpaRepository<Lecturer, String> {
     Optional<Lecturer> findByEmail(String email);
-} 
\ No newline at end of file
+
+    // a deleted lecturer keeps its email until purged, so it can still be restored
+    @Query(value = "select count(*) > 0 from lecturer where email = :email", nativeQuery = true)
+    boolean existsByEmailIncludingDeleted(@Param("email") String email);
+
+    @Query(value = "select email from lecturer where email in (:emails)", nativeQuery = true)
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query(value = "select * from lecturer where id = :id and deleted_at >= :since", nativeQuery = true)
+    Optional<Lecturer> findDeletedById(@Param("id") String id, @Param("since") LocalDateTime since);
+
+    @EntityGraph(attributePaths = "courses")
+    Optional<Lecturer> findWithCoursesById(String id);
+
+    @EntityGraph(attributePaths = "courses")
+    @Query("select l from Lecturer l")
+    List<Lecturer> findAllWithCourses();
+
+    @Query(value = "select * from lecturer where (updated_at, id) > (:changedAt, :id) and updated_at <= :until "
+            + "order by updated_at, id limit :limit", nativeQuery = true)
+    List<Lecturer> findChangedAfter(@Param("changedAt") LocalDateTime changedAt, @Param("id") String id,
+                                    @Param("until") LocalDateTime until, @Param("limit") int limit);
+}
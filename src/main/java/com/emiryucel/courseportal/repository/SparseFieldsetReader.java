@@ -0,0 +1,84 @@
+package com.emiryucel.courseportal.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Criteria tuple queries that select only the requested attributes, so unrequested columns (such as
+ * long descriptions) are never read. Rows come back as maps keyed by attribute name, in selection order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SparseFieldsetReader {
+
+    private final EntityManager entityManager;
+
+    public List<Map<String, Object>> findAll(Class<?> entityType, List<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        query.multiselect(selections(root, attributes));
+        return toRows(entityManager.createQuery(query).getResultList());
+    }
+
+    public Page<Map<String, Object>> findAll(Class<?> entityType, List<String> attributes, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        query.multiselect(selections(root, attributes));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = toRows(typedQuery.getResultList());
+
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        count.select(cb.count(count.from(entityType)));
+        return new PageImpl<>(content, pageable, entityManager.createQuery(count).getSingleResult());
+    }
+
+    public Optional<Map<String, Object>> findById(Class<?> entityType, String id, List<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        query.multiselect(selections(root, attributes)).where(cb.equal(root.get("id"), id));
+        return toRows(entityManager.createQuery(query).getResultList()).stream().findFirst();
+    }
+
+    private static List<Selection<?>> selections(Root<?> root, List<String> attributes) {
+        return attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+    }
+
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples) {
+        return tuples.stream().map(SparseFieldsetReader::toRow).toList();
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+}
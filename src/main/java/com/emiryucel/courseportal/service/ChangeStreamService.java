@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ChangeStreamService {
+    SseEmitter streamCourseChanges(String lastEventId);
+
+    SseEmitter streamLecturerChanges(String lastEventId);
+}
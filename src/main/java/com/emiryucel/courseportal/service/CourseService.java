@@ -1,19 +1,32 @@
 package com.emiryucel.courseportal.service;
 
+import com.emiryucel.courseportal.dto.ChangeDTO;
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 public interface CourseService {
     CourseResponseDTO createCourse(CourseDTO courseDTO);
     CourseResponseDTO updateCourse(String id, CourseDTO courseDTO);
+    CourseResponseDTO patchCourse(String id, JsonNode patch);
     CourseResponseDTO getCourseById(String id);
     List<CourseResponseDTO> getAllCourses();
+    List<CourseResponseDTO> getCoursesByIds(List<String> ids);
     Page<CourseResponseDTO> getAllCourses(Pageable pageable);
+    Map<String, Object> getCourseFields(String id, Set<String> fields);
+    List<Map<String, Object>> getAllCourseFields(Set<String> fields);
+    Page<Map<String, Object>> getAllCourseFields(Set<String> fields, Pageable pageable);
+    List<ChangeDTO<CourseResponseDTO>> getCourseChanges(SyncCursor after, LocalDateTime until, int limit);
     void deleteCourse(String id);
+    CourseResponseDTO restoreCourse(String id);
 
 } 
\ No newline at end of file
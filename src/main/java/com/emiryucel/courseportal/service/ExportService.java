@@ -0,0 +1,11 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    long exportCourses(BulkFormat format, OutputStream output) throws IOException;
+    long exportLecturers(BulkFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.event.EntityType;
+
+import java.nio.file.Path;
+
+
+public interface ImportService {
+    ImportJobDTO startImport(EntityType entityType, BulkFormat format, Path upload);
+    ImportJobDTO getImportJob(String id);
+}
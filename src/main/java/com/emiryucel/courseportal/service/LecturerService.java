@@ -1,17 +1,31 @@
 package com.emiryucel.courseportal.service;
 
+import com.emiryucel.courseportal.dto.ChangeDTO;
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 public interface LecturerService {
     LecturerResponseDTO createLecturer(LecturerDTO lecturerDTO);
     LecturerResponseDTO updateLecturer(String id, LecturerDTO lecturerDTO);
+    LecturerResponseDTO patchLecturer(String id, JsonNode patch);
     LecturerResponseDTO getLecturerById(String id);
     List<LecturerResponseDTO> getAllLecturers();
+    List<LecturerResponseDTO> getLecturersByIds(List<String> ids);
+    LecturerResponseDTO getLecturerWithCourses(String id);
+    List<LecturerResponseDTO> getAllLecturersWithCourses();
+    Map<String, Object> getLecturerFields(String id, Set<String> fields);
+    List<Map<String, Object>> getAllLecturerFields(Set<String> fields);
+    List<ChangeDTO<LecturerResponseDTO>> getLecturerChanges(SyncCursor after, LocalDateTime until, int limit);
     void deleteLecturer(String id);
+    LecturerResponseDTO restoreLecturer(String id);
     LecturerResponseDTO assignCourse(String lecturerId, String courseId);
     LecturerResponseDTO removeCourse(String lecturerId, String courseId);
 } 
\ No newline at end of file
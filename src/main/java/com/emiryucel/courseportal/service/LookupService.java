@@ -0,0 +1,13 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.dto.LookupResultDTO;
+
+import java.util.List;
+
+public interface LookupService {
+    LookupResultDTO<CourseResponseDTO> lookupCourses(List<String> ids);
+
+    LookupResultDTO<LecturerResponseDTO> lookupLecturers(List<String> ids);
+}
@@ -0,0 +1,7 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.dto.CatalogStatsDTO;
+
+public interface StatsService {
+    CatalogStatsDTO getStatistics();
+}
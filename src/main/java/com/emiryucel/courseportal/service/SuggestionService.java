@@ -0,0 +1,9 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<CourseSuggestionDTO> suggestCourses(String prefix, int limit);
+}
@@ -0,0 +1,11 @@
+package com.emiryucel.courseportal.service;
+
+import com.emiryucel.courseportal.dto.ChangeSetDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+
+public interface SyncService {
+    ChangeSetDTO<CourseResponseDTO> getCourseChanges(String since, int limit);
+
+    ChangeSetDTO<LecturerResponseDTO> getLecturerChanges(String since, int limit);
+}
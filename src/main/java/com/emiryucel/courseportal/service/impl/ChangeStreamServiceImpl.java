@@ -0,0 +1,25 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.service.ChangeStreamService;
+import com.emiryucel.courseportal.stream.ChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeStreamServiceImpl implements ChangeStreamService {
+
+    private final ChangeFeed changeFeed;
+
+    @Override
+    public SseEmitter streamCourseChanges(String lastEventId) {
+        return changeFeed.subscribe(EntityType.COURSE, lastEventId);
+    }
+
+    @Override
+    public SseEmitter streamLecturerChanges(String lastEventId) {
+        return changeFeed.subscribe(EntityType.LECTURER, lastEventId);
+    }
+}
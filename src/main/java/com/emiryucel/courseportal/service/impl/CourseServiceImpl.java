@@ -1,20 +1,46 @@
 package com.emiryucel.courseportal.service.impl;
 
+import com.emiryucel.courseportal.budget.QueryBudget;
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
+import com.emiryucel.courseportal.cache.ServeStale;
+import com.emiryucel.courseportal.dto.ChangeDTO;
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.fields.SparseFieldset;
 import com.emiryucel.courseportal.mapper.CourseMapper;
 import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.CourseListing;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
+import com.emiryucel.courseportal.purge.PurgeProperties;
+import com.emiryucel.courseportal.repository.ArchivedCourseRepository;
+import com.emiryucel.courseportal.repository.CourseListingRepository;
 import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.repository.SparseFieldsetReader;
 import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.shard.ScatterGather;
+import com.emiryucel.courseportal.shard.ShardKey;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,95 +49,254 @@ import java.util.List;
 public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
+    private final CourseListingRepository courseListingRepository;
     private final CourseMapper courseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NegativeLookupCache negativeLookupCache;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final SparseFieldsetReader sparseFieldsetReader;
+    private final ArchivedCourseRepository archivedCourseRepository;
+    private final LecturerRepository lecturerRepository;
+    private final PurgeProperties purgeProperties;
 
     @Override
+    @QueryBudget(inserts = 2, deletes = 1)
     public CourseResponseDTO createCourse(CourseDTO courseDTO) {
         log.debug("Creating new course with title: {}", courseDTO.getTitle());
         
         Course course = courseMapper.toEntity(courseDTO);
         Course savedCourse = courseRepository.save(course);
         log.debug("Course saved successfully with ID: {}", savedCourse.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.CREATED, savedCourse));
         
         return courseMapper.toResponseDto(savedCourse);
     }
 
     @Override
-    public CourseResponseDTO updateCourse(String id, CourseDTO courseDTO) {
+    @QueryBudget(selects = 1, inserts = 1, updates = 1, deletes = 1)
+    public CourseResponseDTO updateCourse(@ShardKey(EntityType.COURSE) String id, CourseDTO courseDTO) {
         log.debug("Updating course with ID: {}", id);
         
-        Course existingCourse = courseRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Course not found with id: {}", id);
-                    return new ResourceNotFoundException("Course not found with id: " + id);
-                });
+        Course existingCourse = findCourseOrThrow(id);
         
         courseMapper.updateEntityFromDto(courseDTO, existingCourse);
         
         Course updatedCourse = courseRepository.save(existingCourse);
         log.debug("Course updated successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.UPDATED, updatedCourse));
         
         return courseMapper.toResponseDto(updatedCourse);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public CourseResponseDTO getCourseById(String id) {
+    @QueryBudget(selects = 1, inserts = 1, updates = 1, deletes = 1)
+    public CourseResponseDTO patchCourse(@ShardKey(EntityType.COURSE) String id, JsonNode patch) {
+        log.debug("Patching course with ID: {}", id);
+
+        Course existingCourse = findCourseOrThrow(id);
+
+        CourseDTO patched = jsonMergePatcher.apply(patch, courseMapper.toDto(existingCourse));
+        courseMapper.patchEntityFromDto(patched, existingCourse);
+
+        // flushed with @DynamicUpdate: only the columns the patch actually changed are written
+        Course updatedCourse = courseRepository.save(existingCourse);
+        log.debug("Course patched successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.UPDATED, updatedCourse));
+
+        return courseMapper.toResponseDto(updatedCourse);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @QueryBudget(selects = 2)
+    public CourseResponseDTO getCourseById(@ShardKey(EntityType.COURSE) String id) {
         log.debug("Fetching course with ID: {}", id);
-        
-        Course course = courseRepository.findById(id)
+
+        if (negativeLookupCache.isKnownMissing(EntityType.COURSE, id)) {
+            throw new ResourceNotFoundException("Course not found with id: " + id);
+        }
+        Optional<Course> course = courseRepository.findById(id);
+        if (course.isPresent()) {
+            log.debug("Course found successfully with ID: {}", id);
+            return courseMapper.toResponseDto(course.get());
+        }
+
+        // courses past the retention window have been moved to the archive
+        return archivedCourseRepository.findById(id)
+                .map(courseMapper::archivedToResponseDto)
                 .orElseThrow(() -> {
-                    log.error("Course not found with id: {}", id);
+                    negativeLookupCache.recordMissing(EntityType.COURSE, id);
                     return new ResourceNotFoundException("Course not found with id: " + id);
                 });
-        
-        log.debug("Course found successfully with ID: {}", id);
-        return courseMapper.toResponseDto(course);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 1)
     public List<CourseResponseDTO> getAllCourses() {
         log.debug("Fetching all courses");
         
-        List<Course> courses = courseRepository.findAll();
+        // the denormalized read model carries the lecturer fields, so no join on lecturer is needed
+        List<CourseListing> courses = courseListingRepository.findAll();
         log.debug("Found {} courses", courses.size());
         
-        return courseMapper.toResponseDtoList(courses);
+        return courseMapper.listingsToResponseDtoList(courses);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @ScatterGather
+    @QueryBudget(selects = 2)
+    public List<CourseResponseDTO> getCoursesByIds(List<String> ids) {
+        log.debug("Fetching {} courses by ID", ids.size());
+
+        // one IN query on the read model; ids that match nothing are simply absent
+        List<CourseListing> courses = courseListingRepository.findAllById(ids);
+        List<CourseResponseDTO> found = new ArrayList<>(courseMapper.listingsToResponseDtoList(courses));
+
+        // as with single reads, courses past the retention window are looked up in the archive
+        Set<String> listed = courses.stream().map(CourseListing::getId).collect(Collectors.toSet());
+        List<String> misses = ids.stream().filter(id -> !listed.contains(id)).toList();
+        if (!misses.isEmpty()) {
+            archivedCourseRepository.findAllById(misses).stream()
+                    .map(courseMapper::archivedToResponseDto)
+                    .forEach(found::add);
+        }
+        log.debug("Found {} of {} courses", found.size(), ids.size());
+
+        return found;
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 2)
     public Page<CourseResponseDTO> getAllCourses(Pageable pageable) {
         log.debug("Fetching courses with pagination - page: {}, size: {}, sort: {}", 
                   pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
         
-        Page<Course> coursePage = courseRepository.findAll(pageable);
+        Page<CourseListing> coursePage = courseListingRepository.findAll(pageable);
         log.debug("Found {} courses on page {} of {}", 
                   coursePage.getNumberOfElements(), 
                   coursePage.getNumber() + 1, 
                   coursePage.getTotalPages());
         
-        return coursePage.map(courseMapper::toResponseDto);
+        return coursePage.map(courseMapper::listingToResponseDto);
     }
 
     @Override
-    public void deleteCourse(String id) {
-        log.debug("Deleting course with ID: {}", id);
-        
-        Course course = courseRepository.findById(id)
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @QueryBudget(selects = 1)
+    public Map<String, Object> getCourseFields(@ShardKey(EntityType.COURSE) String id, Set<String> fields) {
+        log.debug("Fetching fields {} of course with ID: {}", fields, id);
+
+        List<String> selected = SparseFieldset.COURSE.select(fields);
+        if (negativeLookupCache.isKnownMissing(EntityType.COURSE, id)) {
+            throw new ResourceNotFoundException("Course not found with id: " + id);
+        }
+        return sparseFieldsetReader.findById(Course.class, id, selected)
                 .orElseThrow(() -> {
-                    log.error("Course not found with id: {}", id);
+                    negativeLookupCache.recordMissing(EntityType.COURSE, id);
                     return new ResourceNotFoundException("Course not found with id: " + id);
                 });
-                
-        if (course.getLecturer() != null) {
-            course.getLecturer().removeCourse(course);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 1)
+    public List<Map<String, Object>> getAllCourseFields(Set<String> fields) {
+        log.debug("Fetching fields {} of all courses", fields);
+
+        List<Map<String, Object>> courses = sparseFieldsetReader.findAll(CourseListing.class, SparseFieldset.COURSE.select(fields));
+        log.debug("Found {} courses", courses.size());
+
+        return courses;
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 2)
+    public Page<Map<String, Object>> getAllCourseFields(Set<String> fields, Pageable pageable) {
+        log.debug("Fetching fields {} of courses with pagination - page: {}, size: {}, sort: {}",
+                  fields, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        return sparseFieldsetReader.findAll(CourseListing.class, SparseFieldset.COURSE.select(fields), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ScatterGather
+    @QueryBudget(selects = 2)
+    public List<ChangeDTO<CourseResponseDTO>> getCourseChanges(SyncCursor after, LocalDateTime until, int limit) {
+        log.debug("Fetching up to {} course changes after {}", limit, after);
+
+        List<ChangeDTO<CourseResponseDTO>> changes = new ArrayList<>();
+        for (Course course : courseRepository.findChangedAfter(after.changedAt(), after.id(), until, limit)) {
+            changes.add(course.getDeletedAt() != null
+                    ? new ChangeDTO<>(course.getId(), course.getUpdatedAt(), true, null)
+                    : new ChangeDTO<>(course.getId(), course.getUpdatedAt(), false, courseMapper.toChangeDto(course)));
         }
+        archivedCourseRepository.findArchivedAfter(after.changedAt(), after.id(), until, limit).forEach(course ->
+                changes.add(new ChangeDTO<>(course.getId(), course.getArchivedAt(), true, null)));
+        changes.sort(SyncCursor.ORDER);
+        log.debug("Found {} course changes", changes.size());
+
+        return changes.size() > limit ? new ArrayList<>(changes.subList(0, limit)) : changes;
+    }
+
+    @Override
+    @QueryBudget(selects = 1, inserts = 1, updates = 1, deletes = 1)
+    public void deleteCourse(@ShardKey(EntityType.COURSE) String id) {
+        log.debug("Deleting course with ID: {}", id);
+        
+        Course course = findCourseOrThrow(id);
+        
+        // tombstoned rather than deleted: hidden from now on, restorable until the purger removes it
+        course.setDeletedAt(LocalDateTime.now());
         
-        courseRepository.deleteById(id);
+        Course deletedCourse = courseRepository.save(course);
         log.debug("Course deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.DELETED, deletedCourse));
     }
 
+    @Override
+    @QueryBudget(selects = 2, inserts = 1, updates = 1, deletes = 1)
+    public CourseResponseDTO restoreCourse(@ShardKey(EntityType.COURSE) String id) {
+        log.debug("Restoring course with ID: {}", id);
+
+        Course course = courseRepository.findDeletedById(id, LocalDateTime.now().minus(purgeProperties.retention()))
+                .orElseThrow(() -> new ResourceNotFoundException("No restorable course with id: " + id));
+
+        // a course whose lecturer is still deleted comes back unassigned
+        if (course.getLecturer() != null && !lecturerRepository.existsById(course.getLecturer().getId())) {
+            course.setLecturer(null);
+        }
+        course.setDeletedAt(null);
+
+        Course restoredCourse = courseRepository.save(course);
+        log.debug("Course restored successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.RESTORED, restoredCourse));
+
+        return courseMapper.toResponseDto(restoredCourse);
+    }
 
-} 
\ No newline at end of file
+    private Course findCourseOrThrow(String id) {
+        if (negativeLookupCache.isKnownMissing(EntityType.COURSE, id)) {
+            throw new ResourceNotFoundException("Course not found with id: " + id);
+        }
+        return courseRepository.findById(id)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(EntityType.COURSE, id);
+                    return new ResourceNotFoundException("Course not found with id: " + id);
+                });
+    }
+}
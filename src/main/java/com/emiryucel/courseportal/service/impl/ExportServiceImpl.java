@@ -0,0 +1,86 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.CatalogRowWriter;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import com.emiryucel.courseportal.repository.CatalogExportReader;
+import com.emiryucel.courseportal.service.ExportService;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private final CatalogExportReader exportReader;
+    private final ObjectMapper objectMapper;
+    private final ShardExecutor shardExecutor;
+    // one read-only transaction per shard, opened after the shard is bound
+    private final TransactionTemplate readTransaction;
+
+    public ExportServiceImpl(CatalogExportReader exportReader, ObjectMapper objectMapper,
+                             ShardExecutor shardExecutor, PlatformTransactionManager transactionManager) {
+        this.exportReader = exportReader;
+        this.objectMapper = objectMapper;
+        this.shardExecutor = shardExecutor;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public long exportCourses(BulkFormat format, OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        long rows;
+        try (CatalogRowWriter<CourseSnapshot> writer =
+                     CatalogRowWriter.open(format, output, CourseSnapshot.class, objectMapper)) {
+            rows = eachShard(() -> exportReader.streamCourses(writer::write));
+        }
+        logExport("courses", format, rows, started);
+        return rows;
+    }
+
+    @Override
+    public long exportLecturers(BulkFormat format, OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        long rows;
+        try (CatalogRowWriter<LecturerSnapshot> writer =
+                     CatalogRowWriter.open(format, output, LecturerSnapshot.class, objectMapper)) {
+            rows = eachShard(() -> exportReader.streamLecturers(writer::write));
+        }
+        logExport("lecturers", format, rows, started);
+        return rows;
+    }
+
+    private long eachShard(ShardExport export) throws IOException {
+        try {
+            return shardExecutor.onEachShard(() -> readTransaction.execute(status -> {
+                try {
+                    return export.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })).stream().mapToLong(Long::longValue).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void logExport(String what, BulkFormat format, long rows, long startedNanos) {
+        long millis = (System.nanoTime() - startedNanos) / 1_000_000;
+        log.info("Exported {} {} as {} in {} ms", rows, what, format, millis);
+    }
+
+    @FunctionalInterface
+    private interface ShardExport {
+        long run() throws IOException;
+    }
+}
@@ -0,0 +1,242 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.BulkImportProperties;
+import com.emiryucel.courseportal.bulk.CatalogRowReader;
+import com.emiryucel.courseportal.bulk.ImportJob;
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.mapper.LecturerMapper;
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.repository.CatalogBulkWriter;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.service.ImportService;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private final CatalogBulkWriter bulkWriter;
+    private final LecturerRepository lecturerRepository;
+    private final CourseMapper courseMapper;
+    private final LecturerMapper lecturerMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final BulkImportProperties properties;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public ImportJobDTO startImport(EntityType entityType, BulkFormat format, Path upload) {
+        ImportJob job = new ImportJob(entityType, format, properties.maxReportedErrors());
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        log.info("Queued {} import {} ({})", entityType, job.getId(), format);
+
+        try {
+            importExecutor.execute(() -> run(job, upload));
+        } catch (TaskRejectedException e) {
+            job.fail("Import queue is full, retry later");
+            deleteQuietly(upload);
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public ImportJobDTO getImportJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + id);
+        }
+        return job.toDto();
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.start();
+        try (InputStream input = Files.newInputStream(upload)) {
+            if (job.getEntityType() == EntityType.COURSE) {
+                try (CatalogRowReader<CourseDTO> reader =
+                             CatalogRowReader.open(job.getFormat(), input, CourseDTO.class, objectMapper)) {
+                    importCourses(job, reader);
+                }
+            } else {
+                try (CatalogRowReader<LecturerDTO> reader =
+                             CatalogRowReader.open(job.getFormat(), input, LecturerDTO.class, objectMapper)) {
+                    importLecturers(job, reader);
+                }
+            }
+            job.complete();
+            log.info("Import {} completed: {}", job.getId(), job.toDto());
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void importCourses(ImportJob job, CatalogRowReader<CourseDTO> reader) throws IOException {
+        List<Course> batch = new ArrayList<>(properties.batchSize());
+        CatalogRowReader.Row<CourseDTO> row;
+        while ((row = reader.next()) != null) {
+            job.rowRead();
+            String violation = rejectionReason(row);
+            if (violation != null) {
+                job.reject(row.number(), violation);
+                continue;
+            }
+            Course course = courseMapper.toEntity(row.value());
+            LocalDateTime now = LocalDateTime.now();
+            course.setId(UUID.randomUUID().toString());
+            course.setCreatedAt(now);
+            course.setUpdatedAt(now);
+            batch.add(course);
+            if (batch.size() >= properties.batchSize()) {
+                flushCourses(job, batch);
+                batch = new ArrayList<>(properties.batchSize());
+            }
+        }
+        flushCourses(job, batch);
+    }
+
+    private void importLecturers(ImportJob job, CatalogRowReader<LecturerDTO> reader) throws IOException {
+        // emails seen earlier in the same upload; the database is checked once per batch
+        Set<String> seenEmails = new HashSet<>();
+        List<CatalogRowReader.Row<LecturerDTO>> batch = new ArrayList<>(properties.batchSize());
+        CatalogRowReader.Row<LecturerDTO> row;
+        while ((row = reader.next()) != null) {
+            job.rowRead();
+            String violation = rejectionReason(row);
+            if (violation == null && !seenEmails.add(row.value().getEmail())) {
+                violation = "Email appears more than once in the upload: " + row.value().getEmail();
+            }
+            if (violation != null) {
+                job.reject(row.number(), violation);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() >= properties.batchSize()) {
+                flushLecturers(job, batch);
+                batch = new ArrayList<>(properties.batchSize());
+            }
+        }
+        flushLecturers(job, batch);
+    }
+
+    private void flushCourses(ImportJob job, List<Course> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // ids are random, so each row goes to the shard its id hashes to
+        batch.stream()
+                .collect(Collectors.groupingBy(course -> shardExecutor.shardOf(course.getId())))
+                .forEach((shard, courses) -> shardExecutor.onShard(shard, () ->
+                        transactionTemplate.execute(status -> {
+                            bulkWriter.writeCourses(courses);
+                            courses.forEach(course -> eventPublisher.publishEvent(
+                                    EntityChangedEvent.courseChanged(ChangeType.CREATED, course)));
+                            return null;
+                        })));
+        job.rowsImported(batch.size());
+    }
+
+    private void flushLecturers(ImportJob job, List<CatalogRowReader.Row<LecturerDTO>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> emails = batch.stream().map(row -> row.value().getEmail()).toList();
+        Set<String> existing = new HashSet<>();
+        shardExecutor.onEachShard(() -> transactionTemplate.execute(status ->
+                        lecturerRepository.findExistingEmails(emails)))
+                .forEach(existing::addAll);
+
+        List<Lecturer> lecturers = new ArrayList<>(batch.size());
+        for (CatalogRowReader.Row<LecturerDTO> row : batch) {
+            if (existing.contains(row.value().getEmail())) {
+                job.reject(row.number(), "Email already exists: " + row.value().getEmail());
+                continue;
+            }
+            Lecturer lecturer = lecturerMapper.toEntity(row.value());
+            LocalDateTime now = LocalDateTime.now();
+            lecturer.setId(UUID.randomUUID().toString());
+            lecturer.setCreatedAt(now);
+            lecturer.setUpdatedAt(now);
+            lecturers.add(lecturer);
+        }
+        lecturers.stream()
+                .collect(Collectors.groupingBy(lecturer -> shardExecutor.shardOf(lecturer.getId())))
+                .forEach((shard, group) -> shardExecutor.onShard(shard, () ->
+                        transactionTemplate.execute(status -> {
+                            bulkWriter.writeLecturers(group);
+                            group.forEach(lecturer -> eventPublisher.publishEvent(
+                                    EntityChangedEvent.lecturerChanged(ChangeType.CREATED, lecturer)));
+                            return null;
+                        })));
+        job.rowsImported(lecturers.size());
+    }
+
+    private <T> String rejectionReason(CatalogRowReader.Row<T> row) {
+        if (row.isRejected()) {
+            return row.error();
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(row.value());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < properties.retainedJobs()) {
+            return;
+        }
+        jobs.values().removeIf(ImportJob::isFinished);
+    }
+
+    private void deleteQuietly(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}", upload, e);
+        }
+    }
+}
@@ -1,21 +1,44 @@
 package com.emiryucel.courseportal.service.impl;
 
+import com.emiryucel.courseportal.budget.QueryBudget;
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
+import com.emiryucel.courseportal.cache.ServeStale;
+import com.emiryucel.courseportal.dto.ChangeDTO;
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
 import com.emiryucel.courseportal.exception.DuplicateResourceException;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.fields.SparseFieldset;
 import com.emiryucel.courseportal.mapper.LecturerMapper;
 import com.emiryucel.courseportal.model.Course;
 import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
+import com.emiryucel.courseportal.purge.PurgeProperties;
 import com.emiryucel.courseportal.repository.CourseRepository;
 import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.repository.SparseFieldsetReader;
 import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.shard.CourseRelocator;
+import com.emiryucel.courseportal.shard.ScatterGather;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import com.emiryucel.courseportal.shard.ShardKey;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -26,37 +49,41 @@ public class LecturerServiceImpl implements LecturerService {
     private final LecturerRepository lecturerRepository;
     private final CourseRepository courseRepository;
     private final LecturerMapper lecturerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NegativeLookupCache negativeLookupCache;
+    private final JsonMergePatcher jsonMergePatcher;
+    private final SparseFieldsetReader sparseFieldsetReader;
+    private final ShardExecutor shardExecutor;
+    private final PurgeProperties purgeProperties;
+    private final ObjectProvider<CourseRelocator> courseRelocator;
 
     @Override
+    @QueryBudget(selects = 1, inserts = 2, deletes = 1)
     public LecturerResponseDTO createLecturer(LecturerDTO lecturerDTO) {
         log.debug("Creating new lecturer: {} {}", lecturerDTO.getFirstName(), lecturerDTO.getLastName());
         
-        if (lecturerRepository.findByEmail(lecturerDTO.getEmail()).isPresent()) {
-            log.error("Email already exists: {}", lecturerDTO.getEmail());
+        if (emailTaken(lecturerDTO.getEmail())) {
             throw new DuplicateResourceException("Email already exists: " + lecturerDTO.getEmail());
         }
         
         Lecturer lecturer = lecturerMapper.toEntity(lecturerDTO);
         Lecturer savedLecturer = lecturerRepository.save(lecturer);
         log.debug("Lecturer saved successfully with ID: {}", savedLecturer.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.lecturerChanged(ChangeType.CREATED, savedLecturer));
         
         return lecturerMapper.toResponseDto(savedLecturer);
     }
 
     @Override
-    public LecturerResponseDTO updateLecturer(String id, LecturerDTO lecturerDTO) {
+    @QueryBudget(selects = 2, inserts = 1, updates = 1, deletes = 1)
+    public LecturerResponseDTO updateLecturer(@ShardKey(EntityType.LECTURER) String id, LecturerDTO lecturerDTO) {
         log.debug("Updating lecturer with ID: {}", id);
         
-        Lecturer existingLecturer = lecturerRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Lecturer not found with id: {}", id);
-                    return new ResourceNotFoundException("Lecturer not found with id: " + id);
-                });
+        Lecturer existingLecturer = findLecturerOrThrow(id);
         
         if (!existingLecturer.getEmail().equals(lecturerDTO.getEmail())) {
-            if (lecturerRepository.findByEmail(lecturerDTO.getEmail()).isPresent()) {
-                log.error("Email already exists: {}", lecturerDTO.getEmail());
-                throw new DuplicateResourceException("Email already exists: " + lecturerDTO.getEmail());
+            if (emailTaken(lecturerDTO.getEmail())) {
+                    throw new DuplicateResourceException("Email already exists: " + lecturerDTO.getEmail());
             }
         }
         
@@ -64,27 +91,51 @@ public class LecturerServiceImpl implements LecturerService {
         
         Lecturer updatedLecturer = lecturerRepository.save(existingLecturer);
         log.debug("Lecturer updated successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.lecturerChanged(ChangeType.UPDATED, updatedLecturer));
         
         return lecturerMapper.toResponseDto(updatedLecturer);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public LecturerResponseDTO getLecturerById(String id) {
+    @QueryBudget(selects = 2, inserts = 1, updates = 1, deletes = 1)
+    public LecturerResponseDTO patchLecturer(@ShardKey(EntityType.LECTURER) String id, JsonNode patch) {
+        log.debug("Patching lecturer with ID: {}", id);
+
+        Lecturer existingLecturer = findLecturerOrThrow(id);
+
+        LecturerDTO patched = jsonMergePatcher.apply(patch, lecturerMapper.toDto(existingLecturer));
+        if (!existingLecturer.getEmail().equals(patched.getEmail())
+                && emailTaken(patched.getEmail())) {
+            throw new DuplicateResourceException("Email already exists: " + patched.getEmail());
+        }
+        lecturerMapper.patchEntityFromDto(patched, existingLecturer);
+
+        // flushed with @DynamicUpdate: only the columns the patch actually changed are written
+        Lecturer updatedLecturer = lecturerRepository.save(existingLecturer);
+        log.debug("Lecturer patched successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.lecturerChanged(ChangeType.UPDATED, updatedLecturer));
+
+        return lecturerMapper.toResponseDto(updatedLecturer);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @QueryBudget(selects = 1)
+    public LecturerResponseDTO getLecturerById(@ShardKey(EntityType.LECTURER) String id) {
         log.debug("Fetching lecturer with ID: {}", id);
         
-        Lecturer lecturer = lecturerRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Lecturer not found with id: {}", id);
-                    return new ResourceNotFoundException("Lecturer not found with id: " + id);
-                });
+        Lecturer lecturer = findLecturerOrThrow(id);
         
         log.debug("Lecturer found successfully with ID: {}", id);
         return lecturerMapper.toResponseDto(lecturer);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 1)
     public List<LecturerResponseDTO> getAllLecturers() {
         log.debug("Fetching all lecturers");
         
@@ -95,66 +146,214 @@ public class LecturerServiceImpl implements LecturerService {
     }
 
     @Override
-    public void deleteLecturer(String id) {
-        log.debug("Deleting lecturer with ID: {}", id);
-        
-        Lecturer lecturer = lecturerRepository.findById(id)
+    @Transactional(readOnly = true)
+    @ScatterGather
+    @QueryBudget(selects = 1)
+    public List<LecturerResponseDTO> getLecturersByIds(List<String> ids) {
+        log.debug("Fetching {} lecturers by ID", ids.size());
+
+        List<Lecturer> lecturers = lecturerRepository.findAllById(ids);
+        log.debug("Found {} of {} lecturers", lecturers.size(), ids.size());
+
+        return lecturerMapper.toResponseDtoList(lecturers);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @QueryBudget(selects = 1)
+    public LecturerResponseDTO getLecturerWithCourses(@ShardKey(EntityType.LECTURER) String id) {
+        log.debug("Fetching lecturer with courses, ID: {}", id);
+
+        Lecturer lecturer = findLecturerOrThrow(id, true);
+
+        return lecturerMapper.toResponseDtoWithCourses(lecturer);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 1)
+    public List<LecturerResponseDTO> getAllLecturersWithCourses() {
+        log.debug("Fetching all lecturers with courses");
+
+        // one query with a join on courses, however many lecturers come back
+        List<Lecturer> lecturers = lecturerRepository.findAllWithCourses();
+        log.debug("Found {} lecturers", lecturers.size());
+
+        return lecturerMapper.toResponseDtoListWithCourses(lecturers);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @QueryBudget(selects = 1)
+    public Map<String, Object> getLecturerFields(@ShardKey(EntityType.LECTURER) String id, Set<String> fields) {
+        log.debug("Fetching fields {} of lecturer with ID: {}", fields, id);
+
+        List<String> selected = SparseFieldset.LECTURER.select(fields);
+        if (negativeLookupCache.isKnownMissing(EntityType.LECTURER, id)) {
+            throw new ResourceNotFoundException("Lecturer not found with id: " + id);
+        }
+        return sparseFieldsetReader.findById(Lecturer.class, id, selected)
                 .orElseThrow(() -> {
-                    log.error("Lecturer not found with id: {}", id);
+                    negativeLookupCache.recordMissing(EntityType.LECTURER, id);
                     return new ResourceNotFoundException("Lecturer not found with id: " + id);
                 });
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = ServeStale.QUERY_TIMEOUT)
+    @ServeStale
+    @ScatterGather
+    @QueryBudget(selects = 1)
+    public List<Map<String, Object>> getAllLecturerFields(Set<String> fields) {
+        log.debug("Fetching fields {} of all lecturers", fields);
+
+        List<Map<String, Object>> lecturers = sparseFieldsetReader.findAll(Lecturer.class, SparseFieldset.LECTURER.select(fields));
+        log.debug("Found {} lecturers", lecturers.size());
+
+        return lecturers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ScatterGather
+    @QueryBudget(selects = 1)
+    public List<ChangeDTO<LecturerResponseDTO>> getLecturerChanges(SyncCursor after, LocalDateTime until, int limit) {
+        log.debug("Fetching up to {} lecturer changes after {}", limit, after);
+
+        List<ChangeDTO<LecturerResponseDTO>> changes = lecturerRepository.findChangedAfter(after.changedAt(), after.id(), until, limit)
+                .stream()
+                .map(lecturer -> lecturer.getDeletedAt() != null
+                        ? new ChangeDTO<LecturerResponseDTO>(lecturer.getId(), lecturer.getUpdatedAt(), true, null)
+                        : new ChangeDTO<>(lecturer.getId(), lecturer.getUpdatedAt(), false, lecturerMapper.toResponseDto(lecturer)))
+                .toList();
+        log.debug("Found {} lecturer changes", changes.size());
+
+        return changes;
+    }
+
+    @Override
+    @QueryBudget(selects = 1, inserts = 1, updates = 2, deletes = 1)
+    public void deleteLecturer(@ShardKey(EntityType.LECTURER) String id) {
+        log.debug("Deleting lecturer with ID: {}", id);
+        
+        Lecturer lecturer = findLecturerOrThrow(id);
+        LocalDateTime deletedAt = LocalDateTime.now();
         
-        lecturer.getCourses().forEach(course -> course.setLecturer(null));
+        // courses are owned by the lecturer and go with it, under the same tombstone so they can come back with it
+        courseRepository.softDeleteAllByLecturerId(id, deletedAt);
         
-        lecturerRepository.deleteById(id);
+        lecturer.setDeletedAt(deletedAt);
+        Lecturer deletedLecturer = lecturerRepository.save(lecturer);
         log.debug("Lecturer deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(EntityChangedEvent.lecturerChanged(ChangeType.DELETED, deletedLecturer));
     }
 
     @Override
-    public LecturerResponseDTO assignCourse(String lecturerId, String courseId) {
+    @QueryBudget(selects = 2, inserts = 1, updates = 2, deletes = 1)
+    public LecturerResponseDTO restoreLecturer(@ShardKey(EntityType.LECTURER) String id) {
+        log.debug("Restoring lecturer with ID: {}", id);
+
+        Lecturer lecturer = lecturerRepository.findDeletedById(id, LocalDateTime.now().minus(purgeProperties.retention()))
+                .orElseThrow(() -> new ResourceNotFoundException("No restorable lecturer with id: " + id));
+        LocalDateTime deletedAt = lecturer.getDeletedAt();
+        List<Course> courses = courseRepository.findDeletedWithLecturer(id, deletedAt);
+
+        lecturer.setDeletedAt(null);
+        Lecturer restoredLecturer = lecturerRepository.save(lecturer);
+        // courses deleted on their own before the lecturer carry an older tombstone and stay deleted
+        courseRepository.restoreAllDeletedWithLecturer(id, deletedAt, LocalDateTime.now());
+        log.debug("Lecturer restored successfully with ID: {} ({} courses)", id, courses.size());
+
+        eventPublisher.publishEvent(EntityChangedEvent.lecturerChanged(ChangeType.RESTORED, restoredLecturer));
+        courses.forEach(course -> eventPublisher.publishEvent(EntityChangedEvent.courseChanged(ChangeType.RESTORED, course)));
+
+        return lecturerMapper.toResponseDto(restoredLecturer);
+    }
+
+    @Override
+    @QueryBudget(selects = 3, inserts = 1, updates = 1, deletes = 1)
+    public LecturerResponseDTO assignCourse(@ShardKey(EntityType.LECTURER) String lecturerId,
+                                            @ShardKey(EntityType.COURSE) String courseId) {
         log.debug("Assigning course {} to lecturer {}", courseId, lecturerId);
         
-        Lecturer lecturer = lecturerRepository.findById(lecturerId)
-                .orElseThrow(() -> {
-                    log.error("Lecturer not found with id: {}", lecturerId);
-                    return new ResourceNotFoundException("Lecturer not found with id: " + lecturerId);
-                });
+        Lecturer lecturer = findLecturerOrThrow(lecturerId);
         
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> {
-                    log.error("Course not found with id: {}", courseId);
-                    return new ResourceNotFoundException("Course not found with id: " + courseId);
-                });
+        // sharded: the course joins its lecturer's shard in this transaction
+        courseRelocator.ifAvailable(relocator -> {
+            relocator.moveHere(courseId);
+            negativeLookupCache.invalidate(EntityType.COURSE, courseId);
+        });
+        Course course = findCourseOrThrow(courseId);
         
         lecturer.addCourse(course);
         
         Lecturer updatedLecturer = lecturerRepository.save(lecturer);
         log.debug("Course assigned successfully to lecturer {}", lecturerId);
+        eventPublisher.publishEvent(EntityChangedEvent.courseAssignment(ChangeType.ASSIGNED, updatedLecturer, course));
         
         return lecturerMapper.toResponseDto(updatedLecturer);
     }
 
     @Override
-    public LecturerResponseDTO removeCourse(String lecturerId, String courseId) {
+    @QueryBudget(selects = 3, inserts = 1, updates = 1, deletes = 1)
+    public LecturerResponseDTO removeCourse(@ShardKey(EntityType.LECTURER) String lecturerId,
+                                            @ShardKey(EntityType.COURSE) String courseId) {
         log.debug("Removing course {} from lecturer {}", courseId, lecturerId);
         
-        Lecturer lecturer = lecturerRepository.findById(lecturerId)
-                .orElseThrow(() -> {
-                    log.error("Lecturer not found with id: {}", lecturerId);
-                    return new ResourceNotFoundException("Lecturer not found with id: " + lecturerId);
-                });
+        Lecturer lecturer = findLecturerOrThrow(lecturerId);
         
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> {
-                    log.error("Course not found with id: {}", courseId);
-                    return new ResourceNotFoundException("Course not found with id: " + courseId);
-                });
+        Course course = findCourseOrThrow(courseId);
+        if (course.getLecturer() == null || !lecturerId.equals(course.getLecturer().getId())) {
+            throw new ResourceNotFoundException("Course " + courseId + " not found for lecturer with id: " + lecturerId);
+        }
         
-        lecturer.removeCourse(course);
+        // an unlinked course is deleted; tombstoned here, since orphan removal would delete the row outright.
+        // The link goes too, so a restore brings the course back unassigned rather than to this lecturer
+        course.setDeletedAt(LocalDateTime.now());
+        course.setLecturer(null);
         
         Lecturer updatedLecturer = lecturerRepository.save(lecturer);
         log.debug("Course removed successfully from lecturer {}", lecturerId);
+        eventPublisher.publishEvent(EntityChangedEvent.courseAssignment(ChangeType.REMOVED, updatedLecturer, course));
         
         return lecturerMapper.toResponseDto(updatedLecturer);
     }
-} 
\ No newline at end of file
+
+    // lecturers are spread over shards by id, so an email may be taken on any of them
+    private boolean emailTaken(String email) {
+        return shardExecutor.existsOnAnyShard(() -> lecturerRepository.existsByEmailIncludingDeleted(email));
+    }
+
+    private Lecturer findLecturerOrThrow(String id) {
+        return findLecturerOrThrow(id, false);
+    }
+
+    private Lecturer findLecturerOrThrow(String id, boolean withCourses) {
+        if (negativeLookupCache.isKnownMissing(EntityType.LECTURER, id)) {
+            throw new ResourceNotFoundException("Lecturer not found with id: " + id);
+        }
+        Optional<Lecturer> lecturer = withCourses
+                ? lecturerRepository.findWithCoursesById(id)
+                : lecturerRepository.findById(id);
+        return lecturer
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(EntityType.LECTURER, id);
+                    return new ResourceNotFoundException("Lecturer not found with id: " + id);
+                });
+    }
+
+    private Course findCourseOrThrow(String id) {
+        if (negativeLookupCache.isKnownMissing(EntityType.COURSE, id)) {
+            throw new ResourceNotFoundException("Course not found with id: " + id);
+        }
+        return courseRepository.findById(id)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(EntityType.COURSE, id);
+                    return new ResourceNotFoundException("Course not found with id: " + id);
+                });
+    }
+}
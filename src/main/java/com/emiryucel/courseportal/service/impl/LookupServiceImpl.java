@@ -0,0 +1,77 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.dto.LookupResultDTO;
+import com.emiryucel.courseportal.exception.InvalidLookupException;
+import com.emiryucel.courseportal.lookup.LookupProperties;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.service.LookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LookupServiceImpl implements LookupService {
+
+    private final CourseService courseService;
+    private final LecturerService lecturerService;
+    private final LookupProperties lookupProperties;
+
+    @Override
+    public LookupResultDTO<CourseResponseDTO> lookupCourses(List<String> ids) {
+        List<String> requested = requested(ids);
+        return inRequestedOrder(requested, courseService.getCoursesByIds(requested), CourseResponseDTO::getId);
+    }
+
+    @Override
+    public LookupResultDTO<LecturerResponseDTO> lookupLecturers(List<String> ids) {
+        List<String> requested = requested(ids);
+        return inRequestedOrder(requested, lecturerService.getLecturersByIds(requested), LecturerResponseDTO::getId);
+    }
+
+    // trimmed and de-duplicated, keeping the first occurrence of each id
+    private List<String> requested(List<String> ids) {
+        LinkedHashSet<String> requested = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isBlank()) {
+                requested.add(id.strip());
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidLookupException("At least one id is required");
+        }
+        if (requested.size() > lookupProperties.maxIds()) {
+            throw new InvalidLookupException("At most " + lookupProperties.maxIds()
+                    + " ids can be looked up at once, got " + requested.size());
+        }
+        log.debug("Looking up {} ids", requested.size());
+        return new ArrayList<>(requested);
+    }
+
+    private static <T> LookupResultDTO<T> inRequestedOrder(List<String> requested, List<T> resolved, Function<T, String> id) {
+        Map<String, T> byId = new HashMap<>();
+        resolved.forEach(value -> byId.put(id.apply(value), value));
+        List<T> found = new ArrayList<>(byId.size());
+        List<String> missing = new ArrayList<>();
+        for (String requestedId : requested) {
+            T value = byId.get(requestedId);
+            if (value != null) {
+                found.add(value);
+            } else {
+                missing.add(requestedId);
+            }
+        }
+        return new LookupResultDTO<>(found, missing);
+    }
+}
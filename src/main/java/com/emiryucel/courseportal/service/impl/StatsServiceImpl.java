@@ -0,0 +1,19 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.dto.CatalogStatsDTO;
+import com.emiryucel.courseportal.service.StatsService;
+import com.emiryucel.courseportal.stats.CatalogStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class StatsServiceImpl implements StatsService {
+
+    private final CatalogStatistics catalogStatistics;
+
+    @Override
+    public CatalogStatsDTO getStatistics() {
+        return catalogStatistics.snapshot();
+    }
+}
@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.service.SuggestionService;
+import com.emiryucel.courseportal.suggest.CourseSuggester;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private final CourseSuggester courseSuggester;
+
+    @Override
+    public List<CourseSuggestionDTO> suggestCourses(String prefix, int limit) {
+        return courseSuggester.suggest(prefix, limit);
+    }
+}
@@ -0,0 +1,84 @@
+package com.emiryucel.courseportal.service.impl;
+
+import com.emiryucel.courseportal.dto.ChangeDTO;
+import com.emiryucel.courseportal.dto.ChangeSetDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.exception.ExpiredCursorException;
+import com.emiryucel.courseportal.purge.PurgeProperties;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.service.SyncService;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.emiryucel.courseportal.sync.SyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    private final CourseService courseService;
+    private final LecturerService lecturerService;
+    private final SyncProperties syncProperties;
+    private final PurgeProperties purgeProperties;
+
+    @Override
+    public ChangeSetDTO<CourseResponseDTO> getCourseChanges(String since, int limit) {
+        SyncCursor after = cursor(since);
+        LocalDateTime until = settledUntil();
+        // one extra row tells whether another page follows
+        return changeSet(since, after, until, courseService.getCourseChanges(after, until, limit + 1), limit);
+    }
+
+    @Override
+    public ChangeSetDTO<LecturerResponseDTO> getLecturerChanges(String since, int limit) {
+        SyncCursor after = cursor(since);
+        LocalDateTime until = settledUntil();
+        return changeSet(since, after, until, lecturerService.getLecturerChanges(after, until, limit + 1), limit);
+    }
+
+    private SyncCursor cursor(String since) {
+        if (since == null) {
+            return SyncCursor.START;
+        }
+        SyncCursor cursor = SyncCursor.decode(since);
+        // tombstones older than the retention are gone, so the client could miss deletes
+        if (purgeProperties.enabled() && !cursor.equals(SyncCursor.START)
+                && cursor.changedAt().isBefore(LocalDateTime.now().minus(purgeProperties.retention()))) {
+            log.debug("Rejecting sync cursor from {}", cursor.changedAt());
+            throw new ExpiredCursorException("Sync cursor is older than the " + purgeProperties.retention().toDays()
+                    + " day tombstone retention; sync again without since");
+        }
+        return cursor;
+    }
+
+    private LocalDateTime settledUntil() {
+        return LocalDateTime.now().minus(syncProperties.settleTime());
+    }
+
+    // each shard returns its own first rows after the cursor; merged in order, the first ones make the page
+    private static <T> ChangeSetDTO<T> changeSet(String since, SyncCursor after, LocalDateTime until,
+                                                 List<ChangeDTO<T>> fetched, int limit) {
+        List<ChangeDTO<T>> changes = new ArrayList<>(fetched);
+        changes.sort(SyncCursor.ORDER);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = new ArrayList<>(changes.subList(0, limit));
+        }
+        // nothing changed up to the settled time, so an idle client's cursor still moves and never expires
+        SyncCursor next = !changes.isEmpty() ? SyncCursor.after(changes.getLast())
+                : until.isAfter(after.changedAt()) ? new SyncCursor(until, "") : after;
+        if (since == null) {
+            // a first sync starts from nothing, so it has nothing to delete
+            changes.removeIf(ChangeDTO::isDeleted);
+        }
+        return new ChangeSetDTO<>(changes, next.encode(), hasMore);
+    }
+}
@@ -0,0 +1,135 @@
+package com.emiryucel.courseportal.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves a course row onto the shard of the caller's transaction under the same id. The copy is written in
+ * that transaction; the original row and its listing stay on the source shard, lecturer included, until
+ * the transaction commits. A failed assignment therefore leaves the course where it was, and a failure
+ * after the commit leaves a duplicate rather than losing the course. The move is recorded in
+ * {@code course_relocation} with the copy, so {@link #reconcile()} can delete such a duplicate later.
+ */
+@Slf4j
+public class CourseRelocator {
+
+    private final ShardExecutor shardExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate sourceTransaction;
+
+    public CourseRelocator(ShardExecutor shardExecutor, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.shardExecutor = shardExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        // the caller's transaction holds a connection to the target shard
+        this.sourceTransaction = new TransactionTemplate(transactionManager);
+        this.sourceTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Copies the course onto the current shard. Does nothing if it already lives there or exists nowhere.
+     * Must run inside a transaction on the target shard.
+     */
+    public void moveHere(String courseId) {
+        String target = ShardContext.currentShard();
+        if (target == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Courses can only be moved inside a transaction on the target shard");
+        }
+        if (exists(courseId)) {
+            return;
+        }
+        for (String source : shardExecutor.shardNames()) {
+            if (source.equals(target)) {
+                continue;
+            }
+            List<Map<String, Object>> rows = shardExecutor.onShard(source, () -> sourceTransaction.execute(status ->
+                    jdbcTemplate.queryForList("select id, title, description, price, created_at, updated_at "
+                            + "from course where id = ? and deleted_at is null", courseId)));
+            if (rows.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> row = rows.get(0);
+            // the previous lecturer lives on the source shard; the caller assigns the new one
+            jdbcTemplate.update("insert into course (id, title, description, price, lecturer_id, created_at, updated_at) "
+                            + "values (?, ?, ?, ?, null, ?, ?)",
+                    row.get("id"), row.get("title"), row.get("description"), row.get("price"),
+                    row.get("created_at"), row.get("updated_at"));
+            LocalDateTime movedAt = LocalDateTime.now();
+            jdbcTemplate.update("delete from course_relocation where id = ? and source_shard = ?", courseId, source);
+            jdbcTemplate.update("insert into course_relocation (id, source_shard, moved_at) values (?, ?, ?)",
+                    courseId, source, movedAt);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        deleteOriginal(courseId, source, target, movedAt);
+                        log.info("Moved course {} from shard {} to shard {}", courseId, source, target);
+                    } catch (RuntimeException e) {
+                        log.error("Moved course {} to shard {} but could not delete it from shard {}; "
+                                + "the next reconcile retries", courseId, target, source, e);
+                    }
+                }
+            });
+            return;
+        }
+    }
+
+    /**
+     * Deletes the originals of moves whose delete after the commit failed, and returns how many moves were
+     * settled. Moves that fail again stay recorded for the next run.
+     */
+    public long reconcile() {
+        return shardExecutor.onEachShard(() -> {
+            String target = ShardContext.currentShard();
+            long settled = 0;
+            List<Move> moves = jdbcTemplate.query("select id, source_shard, moved_at from course_relocation",
+                    (rs, rowNum) -> new Move(rs.getString("id"), rs.getString("source_shard"),
+                            rs.getTimestamp("moved_at").toLocalDateTime()));
+            for (Move move : moves) {
+                try {
+                    deleteOriginal(move.courseId(), move.source(), target, move.movedAt());
+                    settled++;
+                } catch (RuntimeException e) {
+                    log.warn("Could not delete course {} from shard {} after its move to shard {}",
+                            move.courseId(), move.source(), target, e);
+                }
+            }
+            return settled;
+        }).stream().mapToLong(Long::longValue).sum();
+    }
+
+    // an original changed since the move, by an edit that reached it or by a move back, is kept
+    private void deleteOriginal(String courseId, String source, String target, LocalDateTime movedAt) {
+        int deleted = shardExecutor.onShard(source, () -> sourceTransaction.execute(status -> {
+            int rows = jdbcTemplate.update("delete from course where id = ? "
+                    + "and (updated_at is null or updated_at <= ?)", courseId, movedAt);
+            if (rows > 0) {
+                jdbcTemplate.update("delete from course_listing where id = ?", courseId);
+            }
+            return rows;
+        }));
+        if (deleted == 0 && shardExecutor.onShard(source, () -> sourceTransaction.execute(status -> exists(courseId)))) {
+            log.warn("Course {} on shard {} changed after its move to shard {}; both rows are kept",
+                    courseId, source, target);
+        }
+        shardExecutor.onShard(target, () -> sourceTransaction.execute(status -> jdbcTemplate.update(
+                "delete from course_relocation where id = ? and source_shard = ?", courseId, source)));
+    }
+
+    private boolean exists(String courseId) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from course where id = ?", Integer.class, courseId);
+        return count != null && count > 0;
+    }
+
+    private record Move(String courseId, String source, LocalDateTime movedAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.emiryucel.courseportal.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a listing on every shard in parallel and merges the results. Lists are concatenated; pages are
+ * merged in the requested sort order, with the id as the tie-break.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ScatterGather {
+}
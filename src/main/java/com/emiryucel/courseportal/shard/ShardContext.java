@@ -0,0 +1,51 @@
+package com.emiryucel.courseportal.shard;
+
+import java.util.UUID;
+
+/**
+ * The shard the current thread works against. It is bound before a transaction starts, so the routing
+ * data source hands out a connection to that shard for the whole transaction.
+ */
+final class ShardContext {
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    record Binding(ShardMap shardMap, String shard) {
+    }
+
+    private ShardContext() {
+    }
+
+    static String currentShard() {
+        Binding binding = CURRENT.get();
+        return binding != null ? binding.shard() : null;
+    }
+
+    static Binding bind(ShardMap shardMap, String shard) {
+        Binding previous = CURRENT.get();
+        CURRENT.set(new Binding(shardMap, shard));
+        return previous;
+    }
+
+    static void restore(Binding previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    // a random UUID that hashes to the bound shard, so the new row can later be found from its id alone;
+    // takes as many draws on average as there are shards
+    static String newId() {
+        Binding binding = CURRENT.get();
+        String id = UUID.randomUUID().toString();
+        if (binding == null || !binding.shardMap().shardNames().contains(binding.shard())) {
+            return id;
+        }
+        while (!binding.shard().equals(binding.shardMap().shardOf(id))) {
+            id = UUID.randomUUID().toString();
+        }
+        return id;
+    }
+}
@@ -0,0 +1,84 @@
+package com.emiryucel.courseportal.shard;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs work against one shard or each shard in turn. Work that opens a transaction must do so inside the
+ * supplier, after the shard is bound. With a single shard everything runs inline on the caller's thread
+ * and transaction.
+ */
+public class ShardExecutor {
+
+    private final ShardMap shardMap;
+    private final TransactionTemplate otherShardLookup;
+
+    public ShardExecutor(ShardMap shardMap, PlatformTransactionManager transactionManager) {
+        this.shardMap = shardMap;
+        if (shardMap.isSharded()) {
+            this.otherShardLookup = new TransactionTemplate(transactionManager);
+            this.otherShardLookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.otherShardLookup.setReadOnly(true);
+        } else {
+            this.otherShardLookup = null;
+        }
+    }
+
+    public List<String> shardNames() {
+        return shardMap.shardNames();
+    }
+
+    public String shardOf(String id) {
+        return shardMap.shardOf(id);
+    }
+
+    public <T> T onShard(String shard, Supplier<T> work) {
+        ShardContext.Binding previous = ShardContext.bind(shardMap, shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    public <T> List<T> onEachShard(Supplier<T> work) {
+        if (shardMap.isSharded() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // the open transaction already holds a connection to one shard and would be reused for all
+            throw new IllegalStateException("Cannot run work on each shard inside a transaction");
+        }
+        List<T> results = new ArrayList<>(shardMap.shardNames().size());
+        for (String shard : shardMap.shardNames()) {
+            results.add(onShard(shard, work));
+        }
+        return results;
+    }
+
+    /**
+     * Runs a read-only lookup on the current shard inside the caller's transaction, then on every other
+     * shard in a transaction of its own, stopping at the first match. Used for uniqueness checks that
+     * span shards.
+     */
+    public boolean existsOnAnyShard(Supplier<Boolean> lookup) {
+        if (lookup.get()) {
+            return true;
+        }
+        if (!shardMap.isSharded()) {
+            return false;
+        }
+        // unbound callers are served by the first shard
+        String current = ShardContext.currentShard() != null ? ShardContext.currentShard() : shardMap.shardNames().get(0);
+        for (String shard : shardMap.shardNames()) {
+            if (!shard.equals(current)
+                    && Boolean.TRUE.equals(onShard(shard, () -> otherShardLookup.execute(status -> lookup.get())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.emiryucel.courseportal.shard;
+
+import com.emiryucel.courseportal.event.EntityType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the id parameter a service call is routed by. When a method has a lecturer and a course key, the
+ * call runs on the lecturer's shard: a lecturer's courses always live there, and a course assigned from
+ * another shard is moved over by the service once the lecturer is known to exist.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ShardKey {
+
+    EntityType value();
+}
@@ -0,0 +1,106 @@
+package com.emiryucel.courseportal.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Maps keys to shards: a key hashes to one of a fixed number of buckets and every bucket is owned by
+ * exactly one shard. The hash is CRC32 of the key, so placement is stable across JVMs and restarts.
+ */
+public final class ShardMap {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private final List<String> shardNames;
+    private final String[] bucketOwners;
+
+    private ShardMap(List<String> shardNames, String[] bucketOwners) {
+        this.shardNames = List.copyOf(shardNames);
+        this.bucketOwners = bucketOwners;
+    }
+
+    public static ShardMap single() {
+        return new ShardMap(List.of(DEFAULT_SHARD), new String[]{DEFAULT_SHARD});
+    }
+
+    public static ShardMap of(int buckets, List<ShardingProperties.Shard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("Sharding is enabled but no shards are configured");
+        }
+        if (buckets < shards.size()) {
+            throw new IllegalStateException("Need at least one bucket per shard, got " + buckets
+                    + " buckets for " + shards.size() + " shards");
+        }
+        boolean explicit = shards.stream().anyMatch(shard -> shard.buckets() != null);
+        if (explicit && shards.stream().anyMatch(shard -> shard.buckets() == null)) {
+            throw new IllegalStateException("Either every shard lists its buckets or none does");
+        }
+
+        List<String> names = new ArrayList<>(shards.size());
+        String[] owners = new String[buckets];
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            if (shard.name() == null || shard.name().isBlank() || names.contains(shard.name())) {
+                throw new IllegalStateException("Shard names must be present and unique: " + shard.name());
+            }
+            names.add(shard.name());
+            if (explicit) {
+                for (String range : shard.buckets().split(",")) {
+                    assign(owners, shard.name(), range.trim());
+                }
+            } else {
+                Arrays.fill(owners, i * buckets / shards.size(), (i + 1) * buckets / shards.size(), shard.name());
+            }
+        }
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (owners[bucket] == null) {
+                throw new IllegalStateException("Bucket " + bucket + " is not owned by any shard");
+            }
+        }
+        return new ShardMap(names, owners);
+    }
+
+    private static void assign(String[] owners, String shard, String range) {
+        int dash = range.indexOf('-');
+        int from;
+        int to;
+        try {
+            from = Integer.parseInt(dash < 0 ? range : range.substring(0, dash).trim());
+            to = Integer.parseInt(dash < 0 ? range : range.substring(dash + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid bucket range '" + range + "' for shard " + shard);
+        }
+        if (from < 0 || to >= owners.length || from > to) {
+            throw new IllegalStateException("Bucket range '" + range + "' for shard " + shard
+                    + " is outside 0-" + (owners.length - 1));
+        }
+        for (int bucket = from; bucket <= to; bucket++) {
+            if (owners[bucket] != null) {
+                throw new IllegalStateException("Bucket " + bucket + " is owned by both "
+                        + owners[bucket] + " and " + shard);
+            }
+            owners[bucket] = shard;
+        }
+    }
+
+    public int bucketOf(String key) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % bucketOwners.length);
+    }
+
+    public String shardOf(String key) {
+        return bucketOwners[bucketOf(key)];
+    }
+
+    public List<String> shardNames() {
+        return shardNames;
+    }
+
+    public boolean isSharded() {
+        return shardNames.size() > 1;
+    }
+}
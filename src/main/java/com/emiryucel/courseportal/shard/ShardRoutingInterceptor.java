@@ -0,0 +1,250 @@
+package com.emiryucel.courseportal.shard;
+
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.exception.InvalidFieldSelectionException;
+import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Binds each catalog service call to a shard before its transaction starts:
+ * <ul>
+ *     <li>calls keyed by a lecturer id run on that lecturer's shard, where its courses live too;</li>
+ *     <li>calls keyed by a course id run on the shard the id hashes to, then on the others if the course
+ *     was moved to its lecturer's shard;</li>
+ *     <li>creates are spread round-robin, and the generated id hashes to the chosen shard;</li>
+ *     <li>{@link ScatterGather} listings run on every shard in parallel and are merged.</li>
+ * </ul>
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor, DisposableBean {
+
+    private final ShardMap shardMap;
+    private final Comparator<String> textOrder;
+    private final ObjectProvider<NegativeLookupCache> negativeLookupCache;
+    private final Map<Method, Route> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger placement = new AtomicInteger();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardRoutingInterceptor(ShardMap shardMap, Comparator<String> textOrder,
+                                   ObjectProvider<NegativeLookupCache> negativeLookupCache) {
+        this.shardMap = shardMap;
+        this.textOrder = textOrder;
+        this.negativeLookupCache = negativeLookupCache;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ShardContext.currentShard() != null) {
+            // nested call, already routed by the outer one
+            return invocation.proceed();
+        }
+        Route route = routes.computeIfAbsent(invocation.getMethod(),
+                method -> Route.of(AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass())));
+        Object[] args = invocation.getArguments();
+
+        if (route.scatterGather()) {
+            return scatterGather(invocation);
+        }
+        if (route.keyIndex() < 0) {
+            List<String> shards = shardMap.shardNames();
+            return onShard(shards.get(Math.floorMod(placement.getAndIncrement(), shards.size())), invocation);
+        }
+        String key = (String) args[route.keyIndex()];
+        String shard = shardMap.shardOf(key);
+        if (route.keyType() == EntityType.LECTURER) {
+            return onShard(shard, invocation);
+        }
+        return onCourseShard(key, shard, invocation);
+    }
+
+    private Object onCourseShard(String courseId, String home, MethodInvocation invocation) throws Throwable {
+        List<MethodInvocation> retries = new ArrayList<>();
+        for (int i = 1; i < shardMap.shardNames().size(); i++) {
+            retries.add(((ProxyMethodInvocation) invocation).invocableClone());
+        }
+        // the course may have moved to its lecturer's shard, so a miss is only cached once every shard missed
+        try (NegativeLookupCache.DeferredMisses misses = negativeLookupCache.getObject().deferMisses()) {
+            ResourceNotFoundException notFound;
+            try {
+                return onShard(home, invocation);
+            } catch (ResourceNotFoundException e) {
+                notFound = e;
+            }
+            int next = 0;
+            for (String shard : shardMap.shardNames()) {
+                if (shard.equals(home)) {
+                    continue;
+                }
+                try {
+                    return onShard(shard, retries.get(next++));
+                } catch (ResourceNotFoundException ignored) {
+                    // try the next shard
+                }
+            }
+            misses.record();
+            throw notFound;
+        }
+    }
+
+    private Object onShard(String shard, MethodInvocation invocation) throws Throwable {
+        ShardContext.Binding previous = ShardContext.bind(shardMap, shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private Object scatterGather(MethodInvocation invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        Pageable pageable = null;
+        int pageableIndex = -1;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Pageable candidate && candidate.isPaged()) {
+                pageable = candidate;
+                pageableIndex = i;
+            }
+        }
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (String shard : shardMap.shardNames()) {
+            Object[] shardArgs = args.clone();
+            if (pageable != null) {
+                // every shard returns everything up to the end of the requested page, in a total order
+                shardArgs[pageableIndex] = PageRequest.of(0,
+                        Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), withIdTieBreak(pageable.getSort()));
+            }
+            MethodInvocation call = ((ProxyMethodInvocation) invocation).invocableClone(shardArgs);
+            results.add(scatterExecutor.submit(() -> {
+                try {
+                    return onShard(shard, call);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            }));
+        }
+
+        List<Object> partials = new ArrayList<>(results.size());
+        for (Future<Object> result : results) {
+            try {
+                partials.add(result.get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        return pageable != null ? mergePages(partials, pageable) : concat(partials);
+    }
+
+    @Override
+    public void destroy() {
+        scatterExecutor.shutdownNow();
+    }
+
+    private static List<Object> concat(List<Object> partials) {
+        List<Object> merged = new ArrayList<>();
+        partials.forEach(partial -> merged.addAll((List<?>) partial));
+        return merged;
+    }
+
+    private Page<Object> mergePages(List<Object> partials, Pageable pageable) {
+        List<Object> merged = new ArrayList<>();
+        long total = 0;
+        for (Object partial : partials) {
+            Page<?> page = (Page<?>) partial;
+            merged.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        merged.sort(comparator(withIdTieBreak(pageable.getSort())));
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    private static Sort withIdTieBreak(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+    }
+
+    // nulls go last ascending and first descending, as PostgreSQL sorts them by default
+    private Comparator<Object> comparator(Sort sort) {
+        Comparator<Object> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Object> byProperty = (left, right) -> compare(
+                    property(left, order.getProperty()), property(right, order.getProperty()), order.isIgnoreCase());
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(Object left, Object right, boolean ignoreCase) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : 1) : -1;
+        }
+        if (left instanceof String l && right instanceof String r) {
+            // an ignore-case sort orders by lower(...) in SQL
+            return ignoreCase
+                    ? textOrder.compare(l.toLowerCase(Locale.ROOT), r.toLowerCase(Locale.ROOT))
+                    : textOrder.compare(l, r);
+        }
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static Object property(Object row, String property) {
+        if (row instanceof Map<?, ?> fields) {
+            if (!fields.containsKey(property)) {
+                throw new InvalidFieldSelectionException("Sorting by '" + property
+                        + "' requires selecting it when the catalog is sharded");
+            }
+            return fields.get(property);
+        }
+        BeanWrapperImpl bean = new BeanWrapperImpl(row);
+        if (!bean.isReadableProperty(property)) {
+            throw new InvalidFieldSelectionException("Cannot sort by '" + property + "' when the catalog is sharded");
+        }
+        return bean.getPropertyValue(property);
+    }
+
+    private record Route(boolean scatterGather, int keyIndex, EntityType keyType) {
+
+        // the first key routes the call
+        static Route of(Method method) {
+            if (method.isAnnotationPresent(ScatterGather.class)) {
+                return new Route(true, -1, null);
+            }
+            var parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                ShardKey shardKey = parameters[i].getAnnotation(ShardKey.class);
+                if (shardKey != null) {
+                    return new Route(false, i, shardKey.value());
+                }
+            }
+            return new Route(false, -1, null);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.emiryucel.courseportal.shard;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A random UUID primary key that hashes to the shard the row is inserted into. Without sharding it is
+ * the same as {@code @GeneratedValue(strategy = GenerationType.UUID)}.
+ */
+@IdGeneratorType(ShardedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ShardedId {
+}
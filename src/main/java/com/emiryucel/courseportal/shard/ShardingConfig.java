@@ -0,0 +1,135 @@
+package com.emiryucel.courseportal.shard;
+
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final List<Class<?>> ROUTED_SERVICES = List.of(CourseService.class, LecturerService.class);
+
+    @Bean
+    public static ShardMap shardMap(ShardingProperties properties) {
+        return properties.enabled() ? ShardMap.of(properties.buckets(), properties.shards()) : ShardMap.single();
+    }
+
+    @Bean
+    public ShardExecutor shardExecutor(ShardMap shardMap, PlatformTransactionManager transactionManager) {
+        return new ShardExecutor(shardMap, transactionManager);
+    }
+
+    // replaces the auto-configured data source; every shard is migrated before anything can use it
+    @Bean
+    @ConditionalOnProperty(prefix = "courseportal.sharding", name = "enabled", havingValue = "true")
+    public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+        Map<Object, Object> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.shards()) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            pool.setPoolName("shard-" + shard.name());
+            // same locations as spring.flyway.locations, with {vendor} resolved from the shard's url
+            Flyway.configure()
+                    .dataSource(pool)
+                    .locations("classpath:db/migration",
+                            "classpath:db/vendor/" + DatabaseDriver.fromJdbcUrl(shard.url()).getId())
+                    .load()
+                    .migrate();
+            shards.put(shard.name(), pool);
+        }
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+        dataSource.setTargetDataSources(shards);
+        dataSource.setDefaultTargetDataSource(shards.values().iterator().next());
+        return dataSource;
+    }
+
+    // schema generation would only reach the first shard
+    @Bean
+    @ConditionalOnProperty(prefix = "courseportal.sharding", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer shardedSchemaManagement() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "courseportal.sharding", name = "enabled", havingValue = "true")
+    public CourseRelocator courseRelocator(ShardExecutor shardExecutor, JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        return new CourseRelocator(shardExecutor, jdbcTemplate, transactionManager);
+    }
+
+    // a bean of its own, so its scatter threads are shut down with the context
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "courseportal.sharding", name = "enabled", havingValue = "true")
+    public static ShardRoutingInterceptor shardRoutingInterceptor(ShardMap shardMap, ShardingProperties properties,
+                                                                  ObjectProvider<NegativeLookupCache> negativeLookupCache) {
+        return new ShardRoutingInterceptor(shardMap, textOrder(properties.collation()), negativeLookupCache);
+    }
+
+    // inside the concurrency limit and outside the transaction advisor, which needs the shard bound
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "courseportal.sharding", name = "enabled", havingValue = "true")
+    public static Advisor shardRoutingAdvisor(ShardRoutingInterceptor shardRoutingInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new RoutedServicePointcut(), shardRoutingInterceptor);
+        advisor.setOrder(2);
+        return advisor;
+    }
+
+    // each shard has already sorted its page by this collation, so the merge must agree with it
+    private static Comparator<String> textOrder(String collation) {
+        if (collation == null || collation.isBlank()) {
+            return Comparator.naturalOrder();
+        }
+        Collator collator = Collator.getInstance(Locale.forLanguageTag(collation));
+        return collator::compare;
+    }
+
+    // only the transactional implementations; decorators such as the snapshot services call into them
+    private static final class RoutedServicePointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return ROUTED_SERVICES.stream().anyMatch(service -> service.isAssignableFrom(targetClass)
+                    && ReflectionUtils.findMethod(service, method.getName(), method.getParameterTypes()) != null)
+                    && (AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class)
+                    || AnnotatedElementUtils.hasAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Transactional.class));
+        }
+    }
+}
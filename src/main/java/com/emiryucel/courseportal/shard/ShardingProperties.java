@@ -0,0 +1,27 @@
+package com.emiryucel.courseportal.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * @param buckets   number of hash buckets keys are spread over; shards own ranges of buckets, so moving a
+ *                  range to another shard does not rehash every key
+ * @param shards    the shard map; when no shard lists its buckets they are split evenly in declaration order
+ * @param collation language tag of the shards' {@code LC_COLLATE}, e.g. {@code en-US}, used to merge pages
+ *                  sorted by text; unset means code point order, as in the {@code C} collation
+ */
+@ConfigurationProperties(prefix = "courseportal.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int buckets,
+        @DefaultValue List<Shard> shards,
+        String collation) {
+
+    /**
+     * @param buckets owned bucket ranges, e.g. {@code 0-127} or {@code 0-63,192-255}
+     */
+    public record Shard(String name, String url, String username, String password, String buckets) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * One version of the in-memory catalog. It is never modified once built, so any number of readers can
+ * use it without locking; {@link #with} returns the next version instead. Each sortable course field
+ * has a {@link CourseSortIndex}, keyed by property name.
+ */
+public record CatalogSnapshot(
+        long version,
+        Map<String, CourseSnapshot> courses,
+        Map<String, LecturerSnapshot> lecturers,
+        Map<String, CourseSortIndex> sortIndexes) {
+
+    public CatalogSnapshot {
+        courses = Collections.unmodifiableMap(courses);
+        lecturers = Collections.unmodifiableMap(lecturers);
+        sortIndexes = Map.copyOf(sortIndexes);
+    }
+
+    // sorts every index from scratch; used for a full load
+    public CatalogSnapshot(long version, Map<String, CourseSnapshot> courses, Map<String, LecturerSnapshot> lecturers) {
+        this(version, courses, lecturers, buildIndexes(courses));
+    }
+
+    // copies the maps and merges the sort indexes once for the whole batch, so a committed import costs one pass
+    CatalogSnapshot with(List<EntityChangedEvent> events) {
+        Map<String, CourseSnapshot> nextCourses = new LinkedHashMap<>(courses);
+        Map<String, LecturerSnapshot> nextLecturers = new LinkedHashMap<>(lecturers);
+        Set<String> changedCourses = new HashSet<>();
+        for (EntityChangedEvent event : events) {
+            switch (event.entityType()) {
+                case COURSE -> {
+                    switch (event.changeType()) {
+                        case DELETED, ARCHIVED -> nextCourses.remove(event.entityId());
+                        default -> nextCourses.put(event.entityId(), event.course());
+                    }
+                    changedCourses.add(event.entityId());
+                }
+                case LECTURER -> {
+                    switch (event.changeType()) {
+                        case DELETED -> {
+                            // the lecturer's courses are deleted with it in one bulk update, without events of their own
+                            String lecturerId = event.entityId();
+                            nextLecturers.remove(lecturerId);
+                            for (Iterator<CourseSnapshot> remaining = nextCourses.values().iterator(); remaining.hasNext(); ) {
+                                CourseSnapshot course = remaining.next();
+                                if (lecturerId.equals(course.lecturerId())) {
+                                    remaining.remove();
+                                    changedCourses.add(course.id());
+                                }
+                            }
+                        }
+                        case ASSIGNED -> {
+                            nextLecturers.put(event.entityId(), event.lecturer());
+                            nextCourses.put(event.relatedId(), event.course());
+                            changedCourses.add(event.relatedId());
+                        }
+                        // unlinking a course from its lecturer deletes it
+                        case REMOVED -> {
+                            nextCourses.remove(event.relatedId());
+                            changedCourses.add(event.relatedId());
+                        }
+                        default -> nextLecturers.put(event.entityId(), event.lecturer());
+                    }
+                }
+            }
+        }
+        List<CourseSnapshot> upserted = changedCourses.stream()
+                .map(nextCourses::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, CourseSortIndex> nextIndexes = new LinkedHashMap<>();
+        sortIndexes.forEach((property, index) -> nextIndexes.put(property, index.update(changedCourses, upserted)));
+        return new CatalogSnapshot(version + 1, nextCourses, nextLecturers, nextIndexes);
+    }
+
+    private static Map<String, CourseSortIndex> buildIndexes(Map<String, CourseSnapshot> courses) {
+        Map<String, CourseSortIndex> indexes = new LinkedHashMap<>();
+        CourseSortIndex.SORTABLE.forEach((property, order) -> indexes.put(property, CourseSortIndex.build(order, courses.values())));
+        return indexes;
+    }
+}
@@ -0,0 +1,84 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The courses of one {@link CatalogSnapshot} sorted by a single field, with the id as tie-break, so a
+ * page in either direction is an array slice. Like the snapshot it is never modified; {@link #update}
+ * merges a batch of changes into a new array in one linear pass.
+ */
+public final class CourseSortIndex {
+
+    // nulls go last ascending and first descending, as PostgreSQL sorts them by default; titles are left
+    // to the database, whose collation cannot be reproduced here
+    static final Map<String, Comparator<CourseSnapshot>> SORTABLE = Map.of(
+            "price", byField(CourseSnapshot::price),
+            "createdAt", byField(CourseSnapshot::createdAt));
+
+    private final Comparator<CourseSnapshot> order;
+    private final CourseSnapshot[] sorted;
+
+    private CourseSortIndex(Comparator<CourseSnapshot> order, CourseSnapshot[] sorted) {
+        this.order = order;
+        this.sorted = sorted;
+    }
+
+    static CourseSortIndex build(Comparator<CourseSnapshot> order, Collection<CourseSnapshot> courses) {
+        CourseSnapshot[] sorted = courses.toArray(CourseSnapshot[]::new);
+        Arrays.sort(sorted, order);
+        return new CourseSortIndex(order, sorted);
+    }
+
+    /**
+     * @param changedIds courses that were added, updated or removed
+     * @param upserted   the current version of those that still exist
+     */
+    CourseSortIndex update(Set<String> changedIds, Collection<CourseSnapshot> upserted) {
+        CourseSnapshot[] inserts = upserted.toArray(CourseSnapshot[]::new);
+        Arrays.sort(inserts, order);
+        CourseSnapshot[] merged = new CourseSnapshot[sorted.length + inserts.length];
+        int size = 0;
+        int next = 0;
+        for (CourseSnapshot course : sorted) {
+            if (changedIds.contains(course.id())) {
+                continue;
+            }
+            while (next < inserts.length && order.compare(inserts[next], course) < 0) {
+                merged[size++] = inserts[next++];
+            }
+            merged[size++] = course;
+        }
+        while (next < inserts.length) {
+            merged[size++] = inserts[next++];
+        }
+        return new CourseSortIndex(order, Arrays.copyOf(merged, size));
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    // descending pages read the array from the end, so ties come out by id descending as well
+    public List<CourseSnapshot> slice(long offset, int limit, boolean descending) {
+        int from = (int) Math.min(offset, sorted.length);
+        int to = (int) Math.min(offset + limit, sorted.length);
+        CourseSnapshot[] page = new CourseSnapshot[to - from];
+        for (int i = from; i < to; i++) {
+            page[i - from] = sorted[descending ? sorted.length - 1 - i : i];
+        }
+        return List.of(page);
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<CourseSnapshot> byField(Function<CourseSnapshot, T> field) {
+        return Comparator.comparing(field, Comparator.nullsLast(Comparator.<T>naturalOrder()))
+                .thenComparing(CourseSnapshot::id);
+    }
+}
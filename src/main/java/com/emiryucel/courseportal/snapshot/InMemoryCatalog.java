@@ -0,0 +1,151 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import com.emiryucel.courseportal.repository.CatalogExportReader;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CatalogSnapshot}. Readers take it with a single volatile read and never wait;
+ * the change events of a committed transaction are applied to a copy that then replaces the current
+ * version, so a reader sees either all of a transaction's changes or none. A periodic reconcile reloads
+ * the copy from the database to correct any drift.
+ */
+@Component
+@ConditionalOnProperty(prefix = "courseportal.snapshot", name = "enabled", havingValue = "true")
+@Slf4j
+public class InMemoryCatalog {
+
+    private final CatalogExportReader exportReader;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate reconcileTransaction;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final Object writeLock = new Object();
+    // non-null while a reconcile scan is running; changes committed meanwhile are replayed onto the reload
+    private List<EntityChangedEvent> replay;
+
+    public InMemoryCatalog(CatalogExportReader exportReader, ShardExecutor shardExecutor,
+                           PlatformTransactionManager transactionManager) {
+        this.exportReader = exportReader;
+        this.shardExecutor = shardExecutor;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setReadOnly(true);
+        // both tables of a shard must be read from the same snapshot
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // null until the first reconcile has loaded the catalog
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(event));
+            return;
+        }
+        pendingChanges().events.add(event);
+    }
+
+    public void reconcile() {
+        synchronized (writeLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            Map<String, CourseSnapshot> courses = new LinkedHashMap<>();
+            Map<String, LecturerSnapshot> lecturers = new LinkedHashMap<>();
+            shardExecutor.onEachShard(() -> reconcileTransaction.execute(status -> {
+                try {
+                    exportReader.streamLecturers(lecturer -> lecturers.put(lecturer.id(), lecturer));
+                    exportReader.streamCourses(course -> courses.put(course.id(), course));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            }));
+            synchronized (writeLock) {
+                CatalogSnapshot previous = current.get();
+                CatalogSnapshot reloaded = new CatalogSnapshot(previous != null ? previous.version() + 1 : 1,
+                        courses, lecturers);
+                // events are full snapshots, so replaying ones the scan already saw is harmless
+                if (!replay.isEmpty()) {
+                    reloaded = reloaded.with(replay);
+                }
+                logDrift(previous, reloaded);
+                current.set(reloaded);
+            }
+        } catch (RuntimeException e) {
+            log.warn("In-memory catalog reconcile failed", e);
+        } finally {
+            synchronized (writeLock) {
+                replay = null;
+            }
+        }
+    }
+
+    // writers are serialized so no committed change is lost between reading and swapping the version
+    private void publish(List<EntityChangedEvent> events) {
+        synchronized (writeLock) {
+            if (replay != null) {
+                replay.addAll(events);
+            }
+            CatalogSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                current.set(snapshot.with(events));
+            }
+        }
+    }
+
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges changes) {
+                return changes;
+            }
+        }
+        PendingChanges changes = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(changes);
+        return changes;
+    }
+
+    private void logDrift(CatalogSnapshot before, CatalogSnapshot after) {
+        if (before == null) {
+            log.info("In-memory catalog loaded: {} courses, {} lecturers", after.courses().size(), after.lecturers().size());
+            return;
+        }
+        int courseDrift = after.courses().size() - before.courses().size();
+        int lecturerDrift = after.lecturers().size() - before.lecturers().size();
+        if (courseDrift != 0 || lecturerDrift != 0) {
+            log.warn("In-memory catalog drifted from the database: courses {}, lecturers {}", courseDrift, lecturerDrift);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<EntityChangedEvent> events = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            publish(events);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.mapper.LecturerMapper;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SnapshotProperties.class)
+@ConditionalOnProperty(prefix = "courseportal.snapshot", name = "enabled", havingValue = "true")
+public class SnapshotConfig implements SchedulingConfigurer {
+
+    private final InMemoryCatalog inMemoryCatalog;
+    private final SnapshotProperties properties;
+
+    public SnapshotConfig(InMemoryCatalog inMemoryCatalog, SnapshotProperties properties) {
+        this.inMemoryCatalog = inMemoryCatalog;
+        this.properties = properties;
+    }
+
+    // wraps the transactional services from outside; the limiter and shard routing only advise those, so a
+    // snapshot read takes no permit and a miss is routed once, when it reaches the inner service
+    @Bean
+    @Primary
+    public CourseService snapshotCourseService(@Qualifier("courseServiceImpl") CourseService courseService,
+                                               CourseMapper courseMapper) {
+        return new SnapshotCourseService(courseService, inMemoryCatalog, courseMapper);
+    }
+
+    @Bean
+    @Primary
+    public LecturerService snapshotLecturerService(@Qualifier("lecturerServiceImpl") LecturerService lecturerService,
+                                                   LecturerMapper lecturerMapper, CourseMapper courseMapper) {
+        return new SnapshotLecturerService(lecturerService, inMemoryCatalog, lecturerMapper, courseMapper);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // the first run happens immediately and loads the catalog; until then reads go to the database
+        registrar.addFixedDelayTask(inMemoryCatalog::reconcile, properties.reconcileInterval());
+    }
+}
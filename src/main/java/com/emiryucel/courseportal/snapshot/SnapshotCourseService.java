@@ -0,0 +1,159 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.dto.ChangeDTO;
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers single-course and full-list reads, and pages sorted by one indexed field, from the
+ * {@link InMemoryCatalog} once it is loaded, and hands everything else to the database-backed service.
+ */
+public class SnapshotCourseService implements CourseService {
+
+    private final CourseService delegate;
+    private final InMemoryCatalog inMemoryCatalog;
+    private final CourseMapper courseMapper;
+
+    public SnapshotCourseService(CourseService delegate, InMemoryCatalog inMemoryCatalog, CourseMapper courseMapper) {
+        this.delegate = delegate;
+        this.inMemoryCatalog = inMemoryCatalog;
+        this.courseMapper = courseMapper;
+    }
+
+    @Override
+    public CourseResponseDTO getCourseById(String id) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        CourseSnapshot course = snapshot != null ? snapshot.courses().get(id) : null;
+        // misses still go to the service, which also looks in the archive and answers not found
+        return course != null ? courseMapper.snapshotToResponseDto(course) : delegate.getCourseById(id);
+    }
+
+    @Override
+    public List<CourseResponseDTO> getAllCourses() {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        if (snapshot == null) {
+            return delegate.getAllCourses();
+        }
+        return snapshot.courses().values().stream()
+                .map(course -> courseMapper.snapshotToListingDto(course, snapshot.lecturers().get(course.lecturerId())))
+                .toList();
+    }
+
+    @Override
+    public List<CourseResponseDTO> getCoursesByIds(List<String> ids) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        if (snapshot == null) {
+            return delegate.getCoursesByIds(ids);
+        }
+        List<CourseResponseDTO> found = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            CourseSnapshot course = snapshot.courses().get(id);
+            if (course != null) {
+                found.add(courseMapper.snapshotToListingDto(course, snapshot.lecturers().get(course.lecturerId())));
+            } else {
+                misses.add(id);
+            }
+        }
+        // misses still go to the service in one batch, as single reads do
+        if (!misses.isEmpty()) {
+            found.addAll(delegate.getCoursesByIds(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public Page<CourseResponseDTO> getAllCourses(Pageable pageable) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        Sort.Order order = snapshot != null && pageable.isPaged() ? indexedOrder(pageable.getSort()) : null;
+        if (order == null) {
+            return delegate.getAllCourses(pageable);
+        }
+        CourseSortIndex index = snapshot.sortIndexes().get(order.getProperty());
+        List<CourseResponseDTO> content = index.slice(pageable.getOffset(), pageable.getPageSize(), order.isDescending())
+                .stream()
+                .map(course -> courseMapper.snapshotToListingDto(course, snapshot.lecturers().get(course.lecturerId())))
+                .toList();
+        return new PageImpl<>(content, pageable, index.size());
+    }
+
+    @Override
+    public CourseResponseDTO createCourse(CourseDTO courseDTO) {
+        return delegate.createCourse(courseDTO);
+    }
+
+    @Override
+    public CourseResponseDTO updateCourse(String id, CourseDTO courseDTO) {
+        return delegate.updateCourse(id, courseDTO);
+    }
+
+    @Override
+    public CourseResponseDTO patchCourse(String id, JsonNode patch) {
+        return delegate.patchCourse(id, patch);
+    }
+
+    @Override
+    public Map<String, Object> getCourseFields(String id, Set<String> fields) {
+        return delegate.getCourseFields(id, fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllCourseFields(Set<String> fields) {
+        return delegate.getAllCourseFields(fields);
+    }
+
+    @Override
+    public Page<Map<String, Object>> getAllCourseFields(Set<String> fields, Pageable pageable) {
+        return delegate.getAllCourseFields(fields, pageable);
+    }
+
+    @Override
+    public List<ChangeDTO<CourseResponseDTO>> getCourseChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return delegate.getCourseChanges(after, until, limit);
+    }
+
+    @Override
+    public void deleteCourse(String id) {
+        delegate.deleteCourse(id);
+    }
+
+    @Override
+    public CourseResponseDTO restoreCourse(String id) {
+        return delegate.restoreCourse(id);
+    }
+
+    // one indexed field, optionally followed by the id in the same direction, which the index already breaks ties on
+    private static Sort.Order indexedOrder(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return null;
+        }
+        Sort.Order order = orders.next();
+        if (order.isIgnoreCase() || !CourseSortIndex.SORTABLE.containsKey(order.getProperty())) {
+            return null;
+        }
+        if (orders.hasNext()) {
+            Sort.Order tieBreak = orders.next();
+            if (orders.hasNext() || !tieBreak.getProperty().equals("id") || tieBreak.getDirection() != order.getDirection()) {
+                return null;
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,164 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.dto.ChangeDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.mapper.LecturerMapper;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Answers lecturer reads, with or without courses, from the {@link InMemoryCatalog} once it is loaded,
+ * and hands everything else to the database-backed service.
+ */
+public class SnapshotLecturerService implements LecturerService {
+
+    private final LecturerService delegate;
+    private final InMemoryCatalog inMemoryCatalog;
+    private final LecturerMapper lecturerMapper;
+    private final CourseMapper courseMapper;
+
+    public SnapshotLecturerService(LecturerService delegate, InMemoryCatalog inMemoryCatalog,
+                                   LecturerMapper lecturerMapper, CourseMapper courseMapper) {
+        this.delegate = delegate;
+        this.inMemoryCatalog = inMemoryCatalog;
+        this.lecturerMapper = lecturerMapper;
+        this.courseMapper = courseMapper;
+    }
+
+    @Override
+    public LecturerResponseDTO getLecturerById(String id) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        LecturerSnapshot lecturer = snapshot != null ? snapshot.lecturers().get(id) : null;
+        return lecturer != null ? lecturerMapper.snapshotToResponseDto(lecturer) : delegate.getLecturerById(id);
+    }
+
+    @Override
+    public List<LecturerResponseDTO> getAllLecturers() {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        if (snapshot == null) {
+            return delegate.getAllLecturers();
+        }
+        return snapshot.lecturers().values().stream()
+                .map(lecturerMapper::snapshotToResponseDto)
+                .toList();
+    }
+
+    @Override
+    public List<LecturerResponseDTO> getLecturersByIds(List<String> ids) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        if (snapshot == null) {
+            return delegate.getLecturersByIds(ids);
+        }
+        List<LecturerResponseDTO> found = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            LecturerSnapshot lecturer = snapshot.lecturers().get(id);
+            if (lecturer != null) {
+                found.add(lecturerMapper.snapshotToResponseDto(lecturer));
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            found.addAll(delegate.getLecturersByIds(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public LecturerResponseDTO getLecturerWithCourses(String id) {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        LecturerSnapshot lecturer = snapshot != null ? snapshot.lecturers().get(id) : null;
+        if (lecturer == null) {
+            return delegate.getLecturerWithCourses(id);
+        }
+        LecturerResponseDTO response = lecturerMapper.snapshotToResponseDto(lecturer);
+        response.setCourses(snapshot.courses().values().stream()
+                .filter(course -> id.equals(course.lecturerId()))
+                .map(courseMapper::snapshotToResponseDto)
+                .toList());
+        return response;
+    }
+
+    @Override
+    public List<LecturerResponseDTO> getAllLecturersWithCourses() {
+        CatalogSnapshot snapshot = inMemoryCatalog.current();
+        if (snapshot == null) {
+            return delegate.getAllLecturersWithCourses();
+        }
+        Map<String, List<CourseResponseDTO>> coursesByLecturer = snapshot.courses().values().stream()
+                .filter(course -> course.lecturerId() != null)
+                .collect(Collectors.groupingBy(CourseSnapshot::lecturerId,
+                        Collectors.mapping(courseMapper::snapshotToResponseDto, Collectors.toList())));
+        return snapshot.lecturers().values().stream()
+                .map(lecturer -> {
+                    LecturerResponseDTO response = lecturerMapper.snapshotToResponseDto(lecturer);
+                    response.setCourses(coursesByLecturer.getOrDefault(lecturer.id(), List.of()));
+                    return response;
+                })
+                .toList();
+    }
+
+    @Override
+    public LecturerResponseDTO createLecturer(LecturerDTO lecturerDTO) {
+        return delegate.createLecturer(lecturerDTO);
+    }
+
+    @Override
+    public LecturerResponseDTO updateLecturer(String id, LecturerDTO lecturerDTO) {
+        return delegate.updateLecturer(id, lecturerDTO);
+    }
+
+    @Override
+    public LecturerResponseDTO patchLecturer(String id, JsonNode patch) {
+        return delegate.patchLecturer(id, patch);
+    }
+
+    @Override
+    public Map<String, Object> getLecturerFields(String id, Set<String> fields) {
+        return delegate.getLecturerFields(id, fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllLecturerFields(Set<String> fields) {
+        return delegate.getAllLecturerFields(fields);
+    }
+
+    @Override
+    public List<ChangeDTO<LecturerResponseDTO>> getLecturerChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return delegate.getLecturerChanges(after, until, limit);
+    }
+
+    @Override
+    public void deleteLecturer(String id) {
+        delegate.deleteLecturer(id);
+    }
+
+    @Override
+    public LecturerResponseDTO restoreLecturer(String id) {
+        return delegate.restoreLecturer(id);
+    }
+
+    @Override
+    public LecturerResponseDTO assignCourse(String lecturerId, String courseId) {
+        return delegate.assignCourse(lecturerId, courseId);
+    }
+
+    @Override
+    public LecturerResponseDTO removeCourse(String lecturerId, String courseId) {
+        return delegate.removeCourse(lecturerId, courseId);
+    }
+}
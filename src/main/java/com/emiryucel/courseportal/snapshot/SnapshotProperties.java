@@ -0,0 +1,16 @@
+package com.emiryucel.courseportal.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled           serve course and lecturer reads from an in-memory copy of the catalog
+ * @param reconcileInterval how often the copy is reloaded from the database; the first load runs at startup
+ */
+@ConfigurationProperties(prefix = "courseportal.snapshot")
+public record SnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5m") Duration reconcileInterval) {
+}
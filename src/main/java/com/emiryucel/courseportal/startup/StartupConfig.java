@@ -0,0 +1,26 @@
+package com.emiryucel.courseportal.startup;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class StartupConfig {
+
+    static final String CONTEXT_EXIT_PROPERTY = "spring.context.exit";
+
+    /**
+     * Migrates on startup, except during the AppCDS training run ({@code spring.context.exit=onRefresh}).
+     * That run only records which classes get loaded and has no database; with AOT the Flyway beans are
+     * fixed at build time, so they cannot be switched off with {@code spring.flyway.enabled} instead.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (!"onRefresh".equals(environment.getProperty(CONTEXT_EXIT_PROPERTY))) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,231 @@
+package com.emiryucel.courseportal.stats;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One generation of catalog statistics. Readers only touch the adders and concurrent maps; the fact maps
+ * record what has been counted for each entity so an update or delete can subtract exactly its previous
+ * contribution. Counters take commutative deltas from any thread. A change to one entity's facts holds
+ * the lock stripes of that course and of the lecturers it moves between, acquired in stripe order, so
+ * writes to unrelated entities never wait on each other.
+ */
+final class CatalogAggregates {
+
+    private static final int STRIPES = 64;
+
+    private record CourseFact(Double price, String lecturerId) {
+    }
+
+    final LongAdder courses = new LongAdder();
+    final LongAdder lecturers = new LongAdder();
+    final LongAdder unassignedCourses = new LongAdder();
+    final ConcurrentHashMap<String, LongAdder> coursesPerLecturer = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, DepartmentAggregate> departments = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, CourseFact> courseFacts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> lecturerDepartments = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> lecturerCourses = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    CatalogAggregates() {
+        Arrays.setAll(stripes, i -> new ReentrantLock());
+    }
+
+    void apply(EntityChangedEvent event) {
+        switch (event.entityType()) {
+            case COURSE -> {
+                switch (event.changeType()) {
+                    case DELETED, ARCHIVED -> removeCourse(event.entityId());
+                    default -> putCourse(event.course());
+                }
+            }
+            case LECTURER -> {
+                switch (event.changeType()) {
+                    case DELETED -> removeLecturer(event.entityId());
+                    case ASSIGNED -> {
+                        putLecturer(event.lecturer());
+                        putCourse(event.course());
+                    }
+                    // unlinking a course from its lecturer deletes it
+                    case REMOVED -> removeCourse(event.relatedId());
+                    default -> putLecturer(event.lecturer());
+                }
+            }
+        }
+    }
+
+    void putLecturer(LecturerSnapshot lecturer) {
+        int[] held = stripesOf(lecturer.id());
+        lock(held);
+        try {
+            String previous = lecturerDepartments.put(lecturer.id(), lecturer.department());
+            if (previous == null) {
+                lecturers.increment();
+                coursesPerLecturer.computeIfAbsent(lecturer.id(), id -> new LongAdder());
+            } else if (!previous.equals(lecturer.department())) {
+                for (String courseId : lecturerCourses.getOrDefault(lecturer.id(), Set.of())) {
+                    CourseFact fact = courseFacts.get(courseId);
+                    if (fact != null) {
+                        removePrice(previous, fact.price());
+                        addPrice(lecturer.department(), fact.price());
+                    }
+                }
+            }
+        } finally {
+            unlock(held);
+        }
+    }
+
+    void removeLecturer(String lecturerId) {
+        int[] held = stripesOf(lecturerId);
+        lock(held);
+        try {
+            if (!lecturerDepartments.containsKey(lecturerId)) {
+                return;
+            }
+            // the lecturer's courses are deleted with it (cascade), so they leave the statistics too;
+            // any change to one of them needs this lecturer's stripe as well, so none is in flight
+            for (String courseId : new ArrayList<>(lecturerCourses.getOrDefault(lecturerId, Set.of()))) {
+                CourseFact fact = courseFacts.get(courseId);
+                if (fact != null && courseFacts.remove(courseId, fact)) {
+                    subtract(courseId, fact);
+                    courses.decrement();
+                }
+            }
+            lecturerDepartments.remove(lecturerId);
+            lecturerCourses.remove(lecturerId);
+            coursesPerLecturer.remove(lecturerId);
+            lecturers.decrement();
+        } finally {
+            unlock(held);
+        }
+    }
+
+    void putCourse(CourseSnapshot course) {
+        while (true) {
+            CourseFact seen = courseFacts.get(course.id());
+            int[] held = stripesOf(course.id(), seen != null ? seen.lecturerId() : null, course.lecturerId());
+            lock(held);
+            try {
+                CourseFact previous = courseFacts.get(course.id());
+                if (!covers(held, previous)) {
+                    // reassigned between the read and the lock; retry with the lecturer it has now
+                    continue;
+                }
+                if (previous != null) {
+                    subtract(course.id(), previous);
+                } else {
+                    courses.increment();
+                }
+                CourseFact fact = new CourseFact(course.price(), course.lecturerId());
+                courseFacts.put(course.id(), fact);
+                add(course.id(), fact);
+                return;
+            } finally {
+                unlock(held);
+            }
+        }
+    }
+
+    void removeCourse(String courseId) {
+        while (true) {
+            CourseFact seen = courseFacts.get(courseId);
+            int[] held = stripesOf(courseId, seen != null ? seen.lecturerId() : null);
+            lock(held);
+            try {
+                CourseFact previous = courseFacts.get(courseId);
+                if (!covers(held, previous)) {
+                    continue;
+                }
+                if (previous != null) {
+                    courseFacts.remove(courseId);
+                    subtract(courseId, previous);
+                    courses.decrement();
+                }
+                return;
+            } finally {
+                unlock(held);
+            }
+        }
+    }
+
+    private void add(String courseId, CourseFact fact) {
+        if (fact.lecturerId() == null) {
+            unassignedCourses.increment();
+            return;
+        }
+        coursesPerLecturer.computeIfAbsent(fact.lecturerId(), id -> new LongAdder()).increment();
+        lecturerCourses.computeIfAbsent(fact.lecturerId(), id -> ConcurrentHashMap.newKeySet()).add(courseId);
+        addPrice(lecturerDepartments.get(fact.lecturerId()), fact.price());
+    }
+
+    private void subtract(String courseId, CourseFact fact) {
+        if (fact.lecturerId() == null) {
+            unassignedCourses.decrement();
+            return;
+        }
+        LongAdder count = coursesPerLecturer.get(fact.lecturerId());
+        if (count != null) {
+            count.decrement();
+        }
+        Set<String> owned = lecturerCourses.get(fact.lecturerId());
+        if (owned != null) {
+            owned.remove(courseId);
+        }
+        removePrice(lecturerDepartments.get(fact.lecturerId()), fact.price());
+    }
+
+    // several lecturers can share a department, so its aggregate is only changed inside compute
+    private void addPrice(String department, Double price) {
+        if (department != null) {
+            departments.compute(department, (key, aggregate) -> {
+                DepartmentAggregate target = aggregate != null ? aggregate : new DepartmentAggregate();
+                target.add(price);
+                return target;
+            });
+        }
+    }
+
+    private void removePrice(String department, Double price) {
+        if (department != null) {
+            departments.computeIfPresent(department, (key, aggregate) -> {
+                aggregate.remove(price);
+                return aggregate.isEmpty() ? null : aggregate;
+            });
+        }
+    }
+
+    private boolean covers(int[] held, CourseFact fact) {
+        return fact == null || fact.lecturerId() == null || Arrays.binarySearch(held, stripe(fact.lecturerId())) >= 0;
+    }
+
+    private int[] stripesOf(String... ids) {
+        return Arrays.stream(ids).filter(Objects::nonNull).mapToInt(CatalogAggregates::stripe).sorted().distinct().toArray();
+    }
+
+    private static int stripe(String id) {
+        return Math.floorMod(id.hashCode(), STRIPES);
+    }
+
+    private void lock(int[] held) {
+        for (int stripe : held) {
+            stripes[stripe].lock();
+        }
+    }
+
+    private void unlock(int[] held) {
+        for (int i = held.length - 1; i >= 0; i--) {
+            stripes[held[i]].unlock();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.emiryucel.courseportal.stats;
+
+import com.emiryucel.courseportal.dto.CatalogStatsDTO;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.repository.CatalogExportReader;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Catalog statistics kept up to date from committed change events, so reading them never scans the
+ * tables. Events are applied concurrently; the generation lock only keeps them out of the moment a
+ * periodic reconcile, which rebuilds the statistics from the database to correct any drift (missed
+ * events, floating point error in the price sums), swaps in its result.
+ */
+@Component
+@Slf4j
+public class CatalogStatistics {
+
+    private final CatalogExportReader exportReader;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate reconcileTransaction;
+
+    // shared by event listeners, exclusive for a reconcile starting and swapping generations
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private volatile CatalogAggregates current = new CatalogAggregates();
+    private volatile Instant reconciledAt;
+    // non-null while a reconcile scan is running; events seen meanwhile are replayed onto the rebuilt state
+    private Queue<EntityChangedEvent> replay;
+
+    public CatalogStatistics(CatalogExportReader exportReader, ShardExecutor shardExecutor,
+                             PlatformTransactionManager transactionManager) {
+        this.exportReader = exportReader;
+        this.shardExecutor = shardExecutor;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setReadOnly(true);
+        // both tables of a shard must be read from the same snapshot
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Lock lock = generationLock.readLock();
+        lock.lock();
+        try {
+            current.apply(event);
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void reconcile() {
+        Lock lock = generationLock.writeLock();
+        lock.lock();
+        try {
+            replay = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            CatalogAggregates rebuilt = new CatalogAggregates();
+            shardExecutor.onEachShard(() -> reconcileTransaction.execute(status -> {
+                try {
+                    exportReader.streamLecturers(rebuilt::putLecturer);
+                    exportReader.streamCourses(rebuilt::putCourse);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            }));
+            lock.lock();
+            try {
+                // events are full snapshots, so replaying ones the scan already saw is harmless
+                replay.forEach(rebuilt::apply);
+                logDrift(current, rebuilt);
+                current = rebuilt;
+            } finally {
+                lock.unlock();
+            }
+            reconciledAt = Instant.now();
+        } catch (RuntimeException e) {
+            log.warn("Catalog statistics reconcile failed", e);
+        } finally {
+            lock.lock();
+            try {
+                replay = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // read without any lock: each figure is current, but they may straddle a concurrent update
+    public CatalogStatsDTO snapshot() {
+        CatalogAggregates aggregates = current;
+        CatalogStatsDTO stats = new CatalogStatsDTO();
+        stats.setTotalCourses(aggregates.courses.sum());
+        stats.setTotalLecturers(aggregates.lecturers.sum());
+        stats.setUnassignedCourses(aggregates.unassignedCourses.sum());
+
+        Map<String, Long> perLecturer = new TreeMap<>();
+        aggregates.coursesPerLecturer.forEach((lecturerId, count) -> perLecturer.put(lecturerId, count.sum()));
+        stats.setCoursesPerLecturer(perLecturer);
+
+        Map<String, CatalogStatsDTO.DepartmentStats> departments = new TreeMap<>();
+        aggregates.departments.forEach((name, aggregate) -> {
+            CatalogStatsDTO.DepartmentStats department = new CatalogStatsDTO.DepartmentStats();
+            department.setCourses(aggregate.courses());
+            department.setAveragePrice(aggregate.averagePrice());
+            department.setMinPrice(aggregate.minPrice());
+            department.setMaxPrice(aggregate.maxPrice());
+            departments.put(name, department);
+        });
+        stats.setDepartments(departments);
+        stats.setReconciledAt(reconciledAt);
+        return stats;
+    }
+
+    private void logDrift(CatalogAggregates before, CatalogAggregates after) {
+        long courseDrift = after.courses.sum() - before.courses.sum();
+        long lecturerDrift = after.lecturers.sum() - before.lecturers.sum();
+        if (reconciledAt != null && (courseDrift != 0 || lecturerDrift != 0)) {
+            log.warn("Catalog statistics drifted from the database: courses {}, lecturers {}", courseDrift, lecturerDrift);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.emiryucel.courseportal.stats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Course count and price distribution of one department. The sorted multiset of prices keeps min and
+ * max exact when the current extreme is removed. Only mutated inside a compute on its entry in the
+ * departments map, so adds and removes for one department never interleave.
+ */
+final class DepartmentAggregate {
+
+    private final LongAdder courses = new LongAdder();
+    private final LongAdder pricedCourses = new LongAdder();
+    private final DoubleAdder priceSum = new DoubleAdder();
+    private final ConcurrentSkipListMap<Double, Integer> prices = new ConcurrentSkipListMap<>();
+
+    void add(Double price) {
+        courses.increment();
+        if (price != null) {
+            pricedCourses.increment();
+            priceSum.add(price);
+            prices.merge(price, 1, Integer::sum);
+        }
+    }
+
+    void remove(Double price) {
+        courses.decrement();
+        if (price != null) {
+            pricedCourses.decrement();
+            priceSum.add(-price);
+            prices.computeIfPresent(price, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    boolean isEmpty() {
+        return courses.sum() <= 0;
+    }
+
+    long courses() {
+        return courses.sum();
+    }
+
+    Double averagePrice() {
+        long priced = pricedCourses.sum();
+        return priced > 0 ? priceSum.sum() / priced : null;
+    }
+
+    Double minPrice() {
+        Map.Entry<Double, Integer> first = prices.firstEntry();
+        return first != null ? first.getKey() : null;
+    }
+
+    Double maxPrice() {
+        Map.Entry<Double, Integer> last = prices.lastEntry();
+        return last != null ? last.getKey() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.emiryucel.courseportal.stats;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(StatsProperties.class)
+public class StatsConfig implements SchedulingConfigurer {
+
+    private final CatalogStatistics catalogStatistics;
+    private final StatsProperties properties;
+
+    public StatsConfig(CatalogStatistics catalogStatistics, StatsProperties properties) {
+        this.catalogStatistics = catalogStatistics;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // the first run happens immediately and seeds the aggregates from the database
+        registrar.addFixedDelayTask(catalogStatistics::reconcile, properties.reconcileInterval());
+    }
+}
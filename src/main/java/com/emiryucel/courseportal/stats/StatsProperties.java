@@ -0,0 +1,11 @@
+package com.emiryucel.courseportal.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "courseportal.stats")
+public record StatsProperties(
+        @DefaultValue("5m") Duration reconcileInterval) {
+}
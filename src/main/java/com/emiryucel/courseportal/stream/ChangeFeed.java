@@ -0,0 +1,214 @@
+package com.emiryucel.courseportal.stream;
+
+import com.emiryucel.courseportal.dto.ChangeEventDTO;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.mapper.LecturerMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes committed catalog changes to the open course and lecturer streams. Each event is encoded
+ * once and numbered; the most recent ones are kept so a client reconnecting with {@code Last-Event-ID}
+ * receives exactly what it missed. Ids carry the start time of this instance, so an id from before a
+ * restart, or one older than the history, gets a resync event instead of a silent gap.
+ */
+@Component
+public class ChangeFeed implements DisposableBean {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private record FeedEvent(long sequence, Set<EntityType> streams, String name, String data) {
+    }
+
+    private final ChangeStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final CourseMapper courseMapper;
+    private final LecturerMapper lecturerMapper;
+    private final Executor deliveryExecutor;
+    private final String epoch = Long.toString(Instant.now().toEpochMilli(), Character.MAX_RADIX);
+
+    // guards everything below; events are numbered, recorded and handed out in one step
+    private final Object lock = new Object();
+    private final ArrayDeque<FeedEvent> history = new ArrayDeque<>();
+    private final List<ChangeSubscriber> subscribers = new ArrayList<>();
+    private long sequence;
+
+    // a client that stops reading blocks its delivery thread, so each gets a cheap one of its own
+    @Autowired
+    public ChangeFeed(ChangeStreamProperties properties, ObjectMapper objectMapper,
+                      CourseMapper courseMapper, LecturerMapper lecturerMapper) {
+        this(properties, objectMapper, courseMapper, lecturerMapper, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    ChangeFeed(ChangeStreamProperties properties, ObjectMapper objectMapper, CourseMapper courseMapper,
+               LecturerMapper lecturerMapper, Executor deliveryExecutor) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.courseMapper = courseMapper;
+        this.lecturerMapper = lecturerMapper;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        String data = encode(event);
+        synchronized (lock) {
+            FeedEvent feedEvent = new FeedEvent(++sequence, streamsFor(event),
+                    event.changeType().name().toLowerCase(Locale.ROOT), data);
+            history.addLast(feedEvent);
+            if (history.size() > properties.replayCapacity()) {
+                history.removeFirst();
+            }
+            Iterator<ChangeSubscriber> iterator = subscribers.iterator();
+            while (iterator.hasNext()) {
+                ChangeSubscriber subscriber = iterator.next();
+                if (subscriber.isClosed()) {
+                    iterator.remove();
+                } else if (feedEvent.streams().contains(subscriber.stream()) && !subscriber.offer(toSse(feedEvent))) {
+                    if (properties.slowConsumerPolicy() == SlowConsumerPolicy.DROP) {
+                        iterator.remove();
+                        subscriber.close();
+                    } else {
+                        subscriber.replaceAll(resync("overflow"));
+                    }
+                }
+            }
+        }
+    }
+
+    public SseEmitter subscribe(EntityType stream, String lastEventId) {
+        return subscribe(stream, lastEventId, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(EntityType stream, String lastEventId, SseEmitter emitter) {
+        ChangeSubscriber subscriber = new ChangeSubscriber(stream, emitter, properties.bufferSize(), deliveryExecutor);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        synchronized (lock) {
+            if (lastEventId != null) {
+                resume(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    // keeps idle streams open through proxies and finds clients that left without closing
+    public void heartbeat() {
+        synchronized (lock) {
+            subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    int subscriberCount() {
+        synchronized (lock) {
+            return subscribers.size();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (lock) {
+            subscribers.forEach(ChangeSubscriber::close);
+            subscribers.clear();
+        }
+        if (deliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void resume(ChangeSubscriber subscriber, String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = history.isEmpty() ? sequence + 1 : history.getFirst().sequence();
+        if (after < oldest - 1 || after > sequence) {
+            subscriber.offer(resync("history"));
+            return;
+        }
+        List<FeedEvent> missed = history.stream()
+                .filter(event -> event.sequence() > after && event.streams().contains(subscriber.stream()))
+                .toList();
+        if (missed.size() > properties.bufferSize()) {
+            subscriber.offer(resync("overflow"));
+        } else {
+            missed.forEach(event -> subscriber.offer(toSse(event)));
+        }
+    }
+
+    private void unsubscribe(ChangeSubscriber subscriber) {
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    // -1 for anything this instance did not hand out, which is always behind the history
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(FeedEvent event) {
+        return SseEmitter.event()
+                .id(epoch + "-" + event.sequence())
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+    }
+
+    // carries the latest id, so a client that reloads and reconnects with it misses nothing
+    private SseEmitter.SseEventBuilder resync(String reason) {
+        return SseEmitter.event()
+                .id(epoch + "-" + sequence)
+                .name(RESYNC_EVENT)
+                .data("{\"reason\":\"" + reason + "\"}", MediaType.APPLICATION_JSON);
+    }
+
+    private String encode(EntityChangedEvent event) {
+        ChangeEventDTO dto = new ChangeEventDTO(event.entityType(), event.changeType(), event.entityId(),
+                event.relatedId(), event.occurredAt(),
+                event.course() != null ? courseMapper.snapshotToListingDto(event.course(), event.lecturer()) : null,
+                event.lecturer() != null ? lecturerMapper.snapshotToResponseDto(event.lecturer()) : null);
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode change event for " + event.entityId(), e);
+        }
+    }
+
+    // assigning, unassigning or deleting a lecturer changes courses too
+    private static Set<EntityType> streamsFor(EntityChangedEvent event) {
+        if (event.entityType() == EntityType.COURSE) {
+            return EnumSet.of(EntityType.COURSE);
+        }
+        return switch (event.changeType()) {
+            case ASSIGNED, REMOVED, DELETED -> EnumSet.of(EntityType.COURSE, EntityType.LECTURER);
+            default -> EnumSet.of(EntityType.LECTURER);
+        };
+    }
+}
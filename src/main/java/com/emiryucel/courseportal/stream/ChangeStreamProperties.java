@@ -0,0 +1,21 @@
+package com.emiryucel.courseportal.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param bufferSize         events queued per subscriber before the slow consumer policy applies
+ * @param replayCapacity     most recent events kept for clients resuming with {@code Last-Event-ID}
+ * @param heartbeatInterval  how often idle streams get a comment, so proxies keep them open
+ * @param timeout            how long a stream stays open before the client has to reconnect
+ */
+@ConfigurationProperties(prefix = "courseportal.stream")
+public record ChangeStreamProperties(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("10000") int replayCapacity,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("DROP") SlowConsumerPolicy slowConsumerPolicy) {
+}
@@ -0,0 +1,92 @@
+package com.emiryucel.courseportal.stream;
+
+import com.emiryucel.courseportal.event.EntityType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open stream. Events are queued without blocking the publisher and written by at most one
+ * delivery task at a time, so a client that stops reading only ever fills its own bounded queue.
+ */
+final class ChangeSubscriber {
+
+    private final EntityType stream;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+    private final Executor deliveryExecutor;
+    private final AtomicBoolean delivering = new AtomicBoolean();
+    private volatile boolean closed;
+
+    ChangeSubscriber(EntityType stream, SseEmitter emitter, int bufferSize, Executor deliveryExecutor) {
+        this.stream = stream;
+        this.emitter = emitter;
+        this.pending = new ArrayBlockingQueue<>(bufferSize);
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    EntityType stream() {
+        return stream;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // false when the buffer is full; the caller applies the slow consumer policy
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return true;
+        }
+        if (!pending.offer(event)) {
+            return false;
+        }
+        deliver();
+        return true;
+    }
+
+    // replaces everything buffered with a single event
+    void replaceAll(SseEmitter.SseEventBuilder event) {
+        pending.clear();
+        offer(event);
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    private void deliver() {
+        if (!delivering.compareAndSet(false, true)) {
+            return;
+        }
+        deliveryExecutor.execute(() -> {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client went away or the stream already completed
+                close();
+            } finally {
+                delivering.set(false);
+            }
+            // an event offered while the flag was still set would otherwise wait for the next one
+            if (!closed && !pending.isEmpty()) {
+                deliver();
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.emiryucel.courseportal.stream;
+
+public enum SlowConsumerPolicy {
+    // close the stream; the client reconnects with Last-Event-ID and catches up from the replay history
+    DROP,
+    // discard what is buffered and send a resync event telling the client to reload the full list
+    RESYNC
+}
@@ -0,0 +1,26 @@
+package com.emiryucel.courseportal.stream;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ChangeStreamProperties.class)
+public class StreamConfig implements SchedulingConfigurer {
+
+    private final ChangeFeed changeFeed;
+    private final ChangeStreamProperties properties;
+
+    public StreamConfig(ChangeFeed changeFeed, ChangeStreamProperties properties) {
+        this.changeFeed = changeFeed;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(changeFeed::heartbeat, properties.heartbeatInterval());
+    }
+}
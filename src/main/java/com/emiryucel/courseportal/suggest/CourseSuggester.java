@@ -0,0 +1,89 @@
+package com.emiryucel.courseportal.suggest;
+
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.repository.CatalogExportReader;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Title prefix suggestions served from memory and kept up to date from committed change events, so
+ * typing into the search box never reaches the database. A periodic reconcile rebuilds the index from
+ * the database to correct any drift.
+ */
+@Component
+@Slf4j
+public class CourseSuggester {
+
+    private final CatalogExportReader exportReader;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate reconcileTransaction;
+
+    private final Object writeLock = new Object();
+    private volatile TitleIndex current = new TitleIndex();
+    // non-null while a reconcile scan is running; events seen meanwhile are replayed onto the rebuilt index
+    private List<EntityChangedEvent> replay;
+
+    public CourseSuggester(CatalogExportReader exportReader, ShardExecutor shardExecutor,
+                           PlatformTransactionManager transactionManager) {
+        this.exportReader = exportReader;
+        this.shardExecutor = shardExecutor;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setReadOnly(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        synchronized (writeLock) {
+            current.apply(event);
+            if (replay != null) {
+                replay.add(event);
+            }
+        }
+    }
+
+    public void reconcile() {
+        synchronized (writeLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            TitleIndex rebuilt = new TitleIndex();
+            shardExecutor.onEachShard(() -> reconcileTransaction.execute(status -> {
+                try {
+                    exportReader.streamCourses(rebuilt::putCourse);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            }));
+            synchronized (writeLock) {
+                // events are full snapshots, so replaying ones the scan already saw is harmless
+                replay.forEach(rebuilt::apply);
+                if (rebuilt.size() != current.size()) {
+                    log.info("Course title index reloaded with {} titles (was {})", rebuilt.size(), current.size());
+                }
+                current = rebuilt;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Course title index reconcile failed", e);
+        } finally {
+            synchronized (writeLock) {
+                replay = null;
+            }
+        }
+    }
+
+    // exact title first, then the other titles starting with the prefix in alphabetical order
+    public List<CourseSuggestionDTO> suggest(String prefix, int limit) {
+        return current.suggest(prefix, limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.emiryucel.courseportal.suggest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SuggestProperties.class)
+public class SuggestConfig implements SchedulingConfigurer {
+
+    private final CourseSuggester courseSuggester;
+    private final SuggestProperties properties;
+
+    public SuggestConfig(CourseSuggester courseSuggester, SuggestProperties properties) {
+        this.courseSuggester = courseSuggester;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // the first run happens immediately and loads the titles from the database
+        registrar.addFixedDelayTask(courseSuggester::reconcile, properties.reconcileInterval());
+    }
+}
@@ -0,0 +1,11 @@
+package com.emiryucel.courseportal.suggest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "courseportal.suggest")
+public record SuggestProperties(
+        @DefaultValue("5m") Duration reconcileInterval) {
+}
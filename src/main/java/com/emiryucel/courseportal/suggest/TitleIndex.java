@@ -0,0 +1,122 @@
+package com.emiryucel.courseportal.suggest;
+
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * One generation of the title index. Titles are kept in a concurrent skip list keyed by their
+ * normalized form, so every title starting with a prefix sits in one contiguous key range: a lookup is
+ * a seek plus a scan of at most {@code limit} entries, whatever the catalog size. Readers only touch
+ * the skip list; the plain maps remember each course's key so an update or delete can remove it, and
+ * are only used under the owning {@link CourseSuggester} write lock.
+ */
+final class TitleIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Cntrl}]+");
+
+    // the key is the normalized title, then NUL (which normalization removes from titles) and the id
+    private final ConcurrentSkipListMap<String, CourseSuggestionDTO> titles = new ConcurrentSkipListMap<>();
+
+    private final Map<String, String> courseKeys = new HashMap<>();
+    private final Map<String, String> courseLecturers = new HashMap<>();
+    private final Map<String, Set<String>> lecturerCourses = new HashMap<>();
+
+    void apply(EntityChangedEvent event) {
+        switch (event.entityType()) {
+            case COURSE -> {
+                switch (event.changeType()) {
+                    case DELETED, ARCHIVED -> removeCourse(event.entityId());
+                    default -> putCourse(event.course());
+                }
+            }
+            case LECTURER -> {
+                switch (event.changeType()) {
+                    case DELETED -> removeLecturer(event.entityId());
+                    case ASSIGNED -> putCourse(event.course());
+                    // unlinking a course from its lecturer deletes it
+                    case REMOVED -> removeCourse(event.relatedId());
+                    default -> {
+                        // lecturer details are not part of a suggestion
+                    }
+                }
+            }
+        }
+    }
+
+    void putCourse(CourseSnapshot course) {
+        String key = normalize(course.title()) + '\u0000' + course.id();
+        String previous = courseKeys.put(course.id(), key);
+        // added before the old key goes, so a concurrent lookup never misses a retitled course
+        titles.put(key, new CourseSuggestionDTO(course.id(), course.title()));
+        if (previous != null && !previous.equals(key)) {
+            titles.remove(previous);
+        }
+        unlink(course.id());
+        if (course.lecturerId() != null) {
+            courseLecturers.put(course.id(), course.lecturerId());
+            lecturerCourses.computeIfAbsent(course.lecturerId(), id -> new HashSet<>()).add(course.id());
+        }
+    }
+
+    void removeCourse(String courseId) {
+        String previous = courseKeys.remove(courseId);
+        if (previous != null) {
+            titles.remove(previous);
+        }
+        unlink(courseId);
+    }
+
+    // the lecturer's courses are deleted with it in one bulk update, without events of their own
+    void removeLecturer(String lecturerId) {
+        for (String courseId : new ArrayList<>(lecturerCourses.getOrDefault(lecturerId, Set.of()))) {
+            removeCourse(courseId);
+        }
+        lecturerCourses.remove(lecturerId);
+    }
+
+    List<CourseSuggestionDTO> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        if (from.isEmpty()) {
+            return List.of();
+        }
+        List<CourseSuggestionDTO> suggestions = new ArrayList<>(limit);
+        for (CourseSuggestionDTO suggestion : titles.subMap(from, from + Character.MAX_VALUE).values()) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            suggestions.add(suggestion);
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return titles.size();
+    }
+
+    private void unlink(String courseId) {
+        String lecturerId = courseLecturers.remove(courseId);
+        Set<String> courses = lecturerId != null ? lecturerCourses.get(lecturerId) : null;
+        if (courses != null) {
+            courses.remove(courseId);
+        }
+    }
+
+    // case, accents and runs of whitespace do not matter when typing into a search box
+    static String normalize(String text) {
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+}
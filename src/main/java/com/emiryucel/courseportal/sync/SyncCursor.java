@@ -0,0 +1,45 @@
+package com.emiryucel.courseportal.sync;
+
+import com.emiryucel.courseportal.dto.ChangeDTO;
+import com.emiryucel.courseportal.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position in the change log: the change time and id of the last row a client has seen. Rows are read
+ * in (changed at, id) order, so the id breaks ties between rows changed in the same microsecond.
+ */
+public record SyncCursor(LocalDateTime changedAt, String id) {
+
+    // before every row, for the first sync
+    public static final SyncCursor START = new SyncCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+    public static final Comparator<ChangeDTO<?>> ORDER =
+            Comparator.<ChangeDTO<?>, LocalDateTime>comparing(ChangeDTO::getChangedAt).thenComparing(ChangeDTO::getId);
+
+    public static SyncCursor after(ChangeDTO<?> change) {
+        return new SyncCursor(change.getChangedAt(), change.getId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((changedAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed sync cursor: " + cursor);
+            }
+            return new SyncCursor(LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed sync cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.emiryucel.courseportal.sync;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param settleTime  changes this recent are held back until the next call; updated_at is stamped
+ *                    before commit, so a slower transaction could otherwise land behind a cursor
+ */
+@ConfigurationProperties(prefix = "courseportal.sync")
+public record SyncProperties(
+        @DefaultValue("2s") Duration settleTime) {
+}
@@ -0,0 +1,26 @@
+create table lecturer (
+    id          varchar(255)  not null,
+    first_name  varchar(50)   not null,
+    last_name   varchar(50)   not null,
+    email       varchar(100)  not null,
+    department  varchar(100)  not null,
+    bio         varchar(1000),
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    constraint pk_lecturer primary key (id),
+    constraint uk_lecturer_email unique (email)
+);
+
+create table course (
+    id           varchar(255)     not null,
+    title        varchar(100)     not null,
+    description  varchar(1000)    not null,
+    price        double precision not null,
+    lecturer_id  varchar(255),
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    constraint pk_course primary key (id),
+    constraint fk_course_lecturer foreign key (lecturer_id) references lecturer (id)
+);
+
+create index idx_course_lecturer_id on course (lecturer_id);
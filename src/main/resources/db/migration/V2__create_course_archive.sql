@@ -0,0 +1,11 @@
+create table course_archive (
+    id           varchar(255)     not null,
+    title        varchar(100)     not null,
+    description  varchar(1000)    not null,
+    price        double precision not null,
+    lecturer_id  varchar(255),
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    archived_at  timestamp(6),
+    constraint pk_course_archive primary key (id)
+);
@@ -0,0 +1,6 @@
+-- deletes only stamp deleted_at; the purger removes tombstoned rows later, in small batches
+alter table lecturer add column deleted_at timestamp(6);
+alter table course add column deleted_at timestamp(6);
+
+create index idx_lecturer_deleted_at on lecturer (deleted_at);
+create index idx_course_deleted_at on course (deleted_at);
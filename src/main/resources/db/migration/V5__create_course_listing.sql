@@ -0,0 +1,24 @@
+-- denormalized read model for course listings: each live course with its lecturer's name and department
+create table course_listing (
+    id                   varchar(255)     not null,
+    title                varchar(100)     not null,
+    description          varchar(1000)    not null,
+    price                double precision not null,
+    lecturer_id          varchar(255),
+    lecturer_first_name  varchar(50),
+    lecturer_last_name   varchar(50),
+    lecturer_department  varchar(100),
+    created_at           timestamp(6),
+    updated_at           timestamp(6),
+    constraint pk_course_listing primary key (id)
+);
+
+create index idx_course_listing_lecturer_id on course_listing (lecturer_id);
+
+insert into course_listing (id, title, description, price, lecturer_id, lecturer_first_name, lecturer_last_name,
+                            lecturer_department, created_at, updated_at)
+select c.id, c.title, c.description, c.price, c.lecturer_id, l.first_name, l.last_name, l.department,
+       c.created_at, c.updated_at
+from course c
+left join lecturer l on l.id = c.lecturer_id
+where c.deleted_at is null;
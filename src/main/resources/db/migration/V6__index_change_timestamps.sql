@@ -0,0 +1,4 @@
+-- delta sync reads rows changed after a cursor in (updated_at, id) order, tombstones included
+create index idx_course_updated_at on course (updated_at, id);
+create index idx_lecturer_updated_at on lecturer (updated_at, id);
+create index idx_course_archive_archived_at on course_archive (archived_at, id);
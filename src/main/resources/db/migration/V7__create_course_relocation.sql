@@ -0,0 +1,8 @@
+-- courses copied onto this shard whose original row on the source shard is still to be deleted;
+-- written with the copy, removed once the original is gone
+create table course_relocation (
+    id            varchar(255) not null,
+    source_shard  varchar(100) not null,
+    moved_at      timestamp(6) not null,
+    constraint pk_course_relocation primary key (id, source_shard)
+);
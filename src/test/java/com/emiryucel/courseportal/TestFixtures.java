@@ -0,0 +1,75 @@
+package com.emiryucel.courseportal;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+
+import java.time.Instant;
+
+/**
+ * Request DTOs and change events shared by the tests. Fields no test asserts on get fixed values.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static CourseDTO course(String title) {
+        return course(title, 25.0);
+    }
+
+    public static CourseDTO course(String title, double price) {
+        CourseDTO course = new CourseDTO();
+        course.setTitle(title);
+        course.setDescription("Description of " + title);
+        course.setPrice(price);
+        return course;
+    }
+
+    public static LecturerDTO lecturer(String email) {
+        return lecturer(email, "Mathematics");
+    }
+
+    public static LecturerDTO lecturer(String email, String department) {
+        LecturerDTO lecturer = new LecturerDTO();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail(email);
+        lecturer.setDepartment(department);
+        return lecturer;
+    }
+
+    public static LecturerSnapshot lecturerSnapshot(String id) {
+        return lecturerSnapshot(id, "Physics");
+    }
+
+    public static LecturerSnapshot lecturerSnapshot(String id, String department) {
+        return new LecturerSnapshot(id, "First", "Last", id + "@university.edu", department, null, null, null);
+    }
+
+    public static CourseSnapshot courseSnapshot(String id, String lecturerId) {
+        return courseSnapshot(id, 10.0, lecturerId);
+    }
+
+    public static CourseSnapshot courseSnapshot(String id, Double price, String lecturerId) {
+        return new CourseSnapshot(id, "Title", "Description", price, lecturerId, null, null);
+    }
+
+    public static EntityChangedEvent lecturerEvent(ChangeType changeType, LecturerSnapshot lecturer) {
+        return new EntityChangedEvent(EntityType.LECTURER, changeType, lecturer.id(), null, null, lecturer, Instant.now());
+    }
+
+    public static EntityChangedEvent courseEvent(ChangeType changeType, CourseSnapshot course) {
+        return new EntityChangedEvent(EntityType.COURSE, changeType, course.id(), course.lecturerId(), course, null,
+                Instant.now());
+    }
+
+    public static EntityChangedEvent assignment(ChangeType changeType, LecturerSnapshot lecturer, CourseSnapshot course) {
+        return new EntityChangedEvent(EntityType.LECTURER, changeType, lecturer.id(), course.id(), course, lecturer,
+                Instant.now());
+    }
+}
@@ -0,0 +1,66 @@
+package com.emiryucel.courseportal.archive;
+
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.service.CourseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.archive.retention=365d",
+        "courseportal.archive.batch-size=2"
+})
+@AutoConfigureMockMvc
+@DisplayName("Course Archiver Integration Tests")
+class CourseArchiverIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseArchiver courseArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should move courses past retention to the archive and still serve them by id")
+    void givenCoursesPastRetention_whenArchived_thenMovedAndStillReadableById() throws Exception {
+        List<String> stale = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String id = courseService.createCourse(course("Legacy Course " + i)).getId();
+            jdbcTemplate.update("update course set created_at = ? where id = ?", LocalDateTime.now().minusYears(2), id);
+            stale.add(id);
+        }
+        CourseResponseDTO fresh = courseService.createCourse(course("Current Course"));
+
+        long archived = courseArchiver.archive();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from course_archive", Integer.class)).isEqualTo(3);
+        assertThat(courseService.getAllCourses()).extracting(CourseResponseDTO::getId).containsExactly(fresh.getId());
+        mockMvc.perform(get("/course/{id}", stale.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Legacy Course 0"));
+        mockMvc.perform(get("/course/{id}", fresh.getId()))
+                .andExpect(status().isOk());
+        assertThat(courseArchiver.archive()).isZero();
+    }
+}
@@ -0,0 +1,151 @@
+package com.emiryucel.courseportal.audit;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Audit Journal Tests")
+class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should reject offers once the ring buffer is full")
+    void givenFullBuffer_whenOffer_thenReturnFalse() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reject capacities that are not a power of two")
+    void givenInvalidCapacity_whenCreateBuffer_thenThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new AuditRingBuffer<>(6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should deliver every element offered by concurrent producers")
+    void givenConcurrentProducers_whenDrain_thenReceiveAllElements() throws Exception {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        List<Integer> received = new ArrayList<>();
+        while (received.size() < producers * perProducer) {
+            buffer.drain(received::add, 256);
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should rotate segments and read records back in order")
+    void givenManyRecords_whenAppend_thenRotateAndReadBackInOrder() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 1024, 0)) {
+            for (int i = 0; i < 50; i++) {
+                journal.append(record("course-" + i));
+            }
+        }
+
+        List<AuditRecord> records = AuditJournalReader.readAll(directory);
+
+        assertThat(AuditJournal.listSegments(directory)).hasSizeGreaterThan(1);
+        assertThat(records).hasSize(50);
+        assertThat(records.get(0).sequence()).isEqualTo(1);
+        assertThat(records.get(49).entityId()).isEqualTo("course-49");
+        assertThat(records.get(49).payload()).isEqualTo("{\"title\":\"Java Programming\"}");
+    }
+
+    @Test
+    @DisplayName("Should continue the sequence after reopening the journal")
+    void givenExistingJournal_whenReopen_thenContinueSequence() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 0)) {
+            journal.append(record("course-1"));
+            journal.append(record("course-2"));
+        }
+
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 0)) {
+            assertThat(journal.append(record("course-3"))).isEqualTo(3);
+        }
+
+        assertThat(AuditJournalReader.readAll(directory)).extracting(AuditRecord::entityId)
+                .containsExactly("course-1", "course-2", "course-3");
+    }
+
+    @Test
+    @DisplayName("Should drop oldest segments beyond the retention limit")
+    void givenMaxSegments_whenRotate_thenDeleteOldestSegments() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 512, 2)) {
+            for (int i = 0; i < 50; i++) {
+                journal.append(record("course-" + i));
+            }
+        }
+
+        assertThat(AuditJournal.listSegments(directory)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should compact journal keeping only retained records")
+    void givenCutoff_whenCompact_thenKeepNewerRecordsOnly(@TempDir Path target) throws Exception {
+        Instant cutoff = Instant.parse("2025-01-01T00:00:00Z");
+        try (AuditJournal journal = new AuditJournal(directory, 1024, 0)) {
+            journal.append(record("old", cutoff.minusSeconds(60)));
+            journal.append(record("new-1", cutoff.plusSeconds(60)));
+            journal.append(record("new-2", cutoff.plusSeconds(120)));
+        }
+
+        long written = AuditJournalReader.compact(directory, target, 4096,
+                record -> record.occurredAt().isAfter(cutoff));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(AuditJournalReader.readAll(target)).extracting(AuditRecord::sequence)
+                .containsExactly(2L, 3L);
+    }
+
+    private AuditRecord record(String entityId) {
+        return record(entityId, Instant.now());
+    }
+
+    private AuditRecord record(String entityId, Instant occurredAt) {
+        return new AuditRecord(0, occurredAt, ChangeType.CREATED, EntityType.COURSE, entityId, null,
+                "{\"title\":\"Java Programming\"}");
+    }
+}
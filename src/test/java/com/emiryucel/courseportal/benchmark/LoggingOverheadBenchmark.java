@@ -0,0 +1,126 @@
+package com.emiryucel.courseportal.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.emiryucel.courseportal.logging.LogSamplingInterceptor;
+import com.emiryucel.courseportal.logging.SampledOutTurboFilter;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the log statements issued while serving one {@code POST /course}. {@code legacy} mirrors the
+ * previous setup (two INFO lines with eager concatenation, synchronous file appender), the other modes
+ * use the current statements. Run with {@code mvn -Pbenchmark test -Dbenchmark=LoggingOverhead}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingOverheadBenchmark {
+
+    @Param({"legacy", "sync-json", "async-json", "async-json-sampled-out", "off"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Path logFile;
+
+    private final String title = "Java Programming";
+    private final String id = UUID.randomUUID().toString();
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        context.addTurboFilter(new SampledOutTurboFilter());
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder("legacy".equals(mode) ? patternEncoder() : jsonEncoder());
+        file.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        if (mode.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(20);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            root.addAppender(async);
+        } else {
+            root.addAppender(file);
+        }
+        root.setLevel("off".equals(mode) ? Level.OFF : Level.INFO);
+
+        controllerLog = context.getLogger("com.emiryucel.courseportal.controller.CourseController");
+        serviceLog = context.getLogger("com.emiryucel.courseportal.service.impl.CourseServiceImpl");
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void createCourseRequest() {
+        MDC.put(LogSamplingInterceptor.ROUTE_KEY, "POST:/course");
+        MDC.put(LogSamplingInterceptor.SAMPLED_KEY, Boolean.toString(!"async-json-sampled-out".equals(mode)));
+        try {
+            if ("legacy".equals(mode)) {
+                controllerLog.info("Creating new course with title: {}", title);
+                serviceLog.debug("Creating new course with title: {}", title);
+                serviceLog.debug("Course saved successfully with ID: {}", id);
+                controllerLog.info("Course created successfully with name: {}", title + id);
+            } else {
+                controllerLog.debug("Creating new course with title: {}", title);
+                serviceLog.debug("Creating new course with title: {}", title);
+                serviceLog.debug("Course saved successfully with ID: {}", id);
+                controllerLog.info("Course created successfully with name: {}", title);
+            }
+        } finally {
+            MDC.remove(LogSamplingInterceptor.ROUTE_KEY);
+            MDC.remove(LogSamplingInterceptor.SAMPLED_KEY);
+        }
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.start();
+        return encoder;
+    }
+}
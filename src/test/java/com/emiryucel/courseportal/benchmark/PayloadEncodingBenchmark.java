@@ -0,0 +1,99 @@
+package com.emiryucel.courseportal.benchmark;
+
+import com.emiryucel.courseportal.codec.CatalogProtobufCodec;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a lecturer list (each with its courses) in every representation the API
+ * negotiates. Payload sizes are printed once per trial. Run with
+ * {@code mvn -Pbenchmark test -DskipTests -Dbenchmark=PayloadEncoding}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"100"})
+    public int lecturers;
+
+    private final CatalogProtobufCodec protobufCodec = new CatalogProtobufCodec();
+    private ObjectMapper mapper;
+    private JavaType listType;
+    private List<LecturerResponseDTO> payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        listType = mapper.getTypeFactory().constructCollectionType(List.class, LecturerResponseDTO.class);
+        payload = new ArrayList<>(lecturers);
+        for (int i = 0; i < lecturers; i++) {
+            payload.add(lecturer(i));
+        }
+        encoded = encode();
+        System.out.printf("%n%s payload for %d lecturers: %d bytes%n", format, lecturers, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if ("protobuf".equals(format)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            protobufCodec.writeDelimited(payload, output);
+            return output.toByteArray();
+        }
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public List<LecturerResponseDTO> decode() throws IOException {
+        if ("protobuf".equals(format)) {
+            return protobufCodec.readDelimited(LecturerResponseDTO.class, new ByteArrayInputStream(encoded));
+        }
+        return mapper.readValue(encoded, listType);
+    }
+
+    private static LecturerResponseDTO lecturer(int index) {
+        LecturerResponseDTO lecturer = new LecturerResponseDTO();
+        lecturer.setId(UUID.randomUUID().toString());
+        lecturer.setFirstName("First" + index);
+        lecturer.setLastName("Last" + index);
+        lecturer.setEmail("lecturer" + index + "@university.edu");
+        lecturer.setDepartment("Computer Science");
+        lecturer.setBio("Teaches programming languages and distributed systems");
+        List<CourseResponseDTO> courses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CourseResponseDTO course = new CourseResponseDTO();
+            course.setId(UUID.randomUUID().toString());
+            course.setTitle("Course " + index + "-" + i);
+            course.setDescription("A course description long enough to look like real catalog content");
+            course.setPrice(49.99 + i);
+            courses.add(course);
+        }
+        lecturer.setCourses(courses);
+        return lecturer;
+    }
+}
@@ -0,0 +1,68 @@
+package com.emiryucel.courseportal.budget;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the statements issued during each call of a {@link QueryBudget} method and records calls that
+ * exceed the budget. Counting relies on datasource-proxy's thread-bound counters, so the service call
+ * must run on the test thread.
+ */
+class QueryBudgetInterceptor implements MethodInterceptor {
+
+    private final String dataSourceName;
+    private final List<String> violations = new ArrayList<>();
+    private final Set<Method> exercised = ConcurrentHashMap.newKeySet();
+
+    QueryBudgetInterceptor(String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getThis() == null
+                ? invocation.getMethod()
+                : AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+        QueryBudget budget = AnnotationUtils.findAnnotation(method, QueryBudget.class);
+
+        QueryCountHolder.clear();
+        try {
+            return invocation.proceed();
+        } finally {
+            QueryCount count = QueryCountHolder.get(dataSourceName);
+            exercised.add(method);
+            check(method, budget, count == null ? new QueryCount() : count);
+        }
+    }
+
+    private void check(Method method, QueryBudget budget, QueryCount count) {
+        if (count.getSelect() > budget.selects() || count.getInsert() > budget.inserts()
+                || count.getUpdate() > budget.updates() || count.getDelete() > budget.deletes()) {
+            violations.add(String.format("%s.%s issued select=%d insert=%d update=%d delete=%d, budget is "
+                            + "select=%d insert=%d update=%d delete=%d",
+                    method.getDeclaringClass().getSimpleName(), method.getName(),
+                    count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(),
+                    budget.selects(), budget.inserts(), budget.updates(), budget.deletes()));
+        }
+    }
+
+    List<String> takeViolations() {
+        List<String> taken = List.copyOf(violations);
+        violations.clear();
+        return taken;
+    }
+
+    Set<Method> exercised() {
+        return exercised;
+    }
+}
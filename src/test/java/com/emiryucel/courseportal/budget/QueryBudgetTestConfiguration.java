@@ -0,0 +1,50 @@
+package com.emiryucel.courseportal.budget;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Role;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application data source through datasource-proxy and checks every {@link QueryBudget}
+ * method against its budget. The advisor sits outside the transaction advice, so statements flushed
+ * at commit are counted too.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class QueryBudgetTestConfiguration {
+
+    static final String DATA_SOURCE_NAME = "query-budget";
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource).countQuery().build()
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    static QueryBudgetInterceptor queryBudgetInterceptor() {
+        return new QueryBudgetInterceptor(DATA_SOURCE_NAME);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor queryBudgetAdvisor(QueryBudgetInterceptor queryBudgetInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(QueryBudget.class), queryBudgetInterceptor);
+        advisor.setOrder(1);
+        return advisor;
+    }
+}
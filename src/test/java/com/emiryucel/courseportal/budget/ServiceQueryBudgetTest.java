@@ -0,0 +1,218 @@
+package com.emiryucel.courseportal.budget;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.service.impl.CourseServiceImpl;
+import com.emiryucel.courseportal.service.impl.LecturerServiceImpl;
+import com.emiryucel.courseportal.sync.SyncCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every service method against H2 with datasource-proxy counting the statements, failing when a
+ * method issues more than its {@link QueryBudget}. Lecturers are seeded with several courses each, so
+ * per-row lazy loading (N+1) cannot stay within a budget.
+ */
+@SpringBootTest
+@Import(QueryBudgetTestConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Service Query Budget Tests")
+class ServiceQueryBudgetTest {
+
+    private static final int LECTURERS = 3;
+    private static final int COURSES_PER_LECTURER = 3;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private QueryBudgetInterceptor queryBudgetInterceptor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Lecturer> lecturers = new ArrayList<>();
+    private Course unassignedCourse;
+
+    @BeforeEach
+    void setUp() {
+        // repository deletes skip tombstoned rows, which the write tests leave behind
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from lecturer");
+        lecturers.clear();
+        for (int i = 0; i < LECTURERS; i++) {
+            Lecturer lecturer = lecturer("lecturer" + i + "@university.edu");
+            for (int j = 0; j < COURSES_PER_LECTURER; j++) {
+                lecturer.addCourse(course("Course " + i + "-" + j));
+            }
+            lecturers.add(lecturerRepository.save(lecturer));
+        }
+        unassignedCourse = courseRepository.save(course("Unassigned course"));
+        queryBudgetInterceptor.takeViolations();
+    }
+
+    @AfterEach
+    void checkBudgets() {
+        assertThat(queryBudgetInterceptor.takeViolations()).as("query budget violations").isEmpty();
+    }
+
+    @AfterAll
+    void everyBudgetedMethodExercised() {
+        List<Method> budgeted = Stream.of(CourseServiceImpl.class, LecturerServiceImpl.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(QueryBudget.class))
+                .toList();
+        assertThat(queryBudgetInterceptor.exercised()).containsAll(budgeted);
+    }
+
+    @Test
+    @DisplayName("Should declare a query budget on every service method")
+    void givenServiceInterfaces_whenInspectingImplementations_thenEveryMethodHasBudget() throws Exception {
+        for (Method method : CourseService.class.getMethods()) {
+            assertThat(CourseServiceImpl.class.getMethod(method.getName(), method.getParameterTypes())
+                    .isAnnotationPresent(QueryBudget.class)).as(method.toString()).isTrue();
+        }
+        for (Method method : LecturerService.class.getMethods()) {
+            assertThat(LecturerServiceImpl.class.getMethod(method.getName(), method.getParameterTypes())
+                    .isAnnotationPresent(QueryBudget.class)).as(method.toString()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Course writes should stay within their budgets")
+    void givenCourses_whenWriting_thenWithinBudget() {
+        String assignedId = firstCourseId(lecturers.getFirst());
+
+        courseService.createCourse(courseDto("New course"));
+        courseService.updateCourse(assignedId, courseDto("Renamed course"));
+        courseService.patchCourse(unassignedCourse.getId(), objectMapper.createObjectNode().put("price", 12.5));
+        courseService.deleteCourse(assignedId);
+        courseService.deleteCourse(unassignedCourse.getId());
+        courseService.restoreCourse(assignedId);
+    }
+
+    @Test
+    @DisplayName("Course reads should stay within their budgets")
+    void givenCourses_whenReading_thenWithinBudget() {
+        courseService.getCourseById(unassignedCourse.getId());
+        courseService.getAllCourses();
+        courseService.getCoursesByIds(List.of(unassignedCourse.getId(), "missing-course"));
+        courseService.getAllCourses(PageRequest.of(0, 5, Sort.by("title")));
+        courseService.getCourseFields(unassignedCourse.getId(), Set.of("title"));
+        courseService.getAllCourseFields(Set.of("title", "price"));
+        courseService.getAllCourseFields(Set.of("title"), PageRequest.of(1, 5));
+        courseService.getCourseChanges(SyncCursor.START, LocalDateTime.now(), 5);
+    }
+
+    @Test
+    @DisplayName("Lecturer writes should stay within their budgets")
+    void givenLecturers_whenWriting_thenWithinBudget() {
+        Lecturer lecturer = lecturers.getFirst();
+        Lecturer other = lecturers.get(1);
+
+        lecturerService.createLecturer(lecturerDto("new@university.edu"));
+        lecturerService.updateLecturer(lecturer.getId(), lecturerDto("renamed@university.edu"));
+        lecturerService.patchLecturer(other.getId(), objectMapper.createObjectNode().put("department", "Physics"));
+        lecturerService.assignCourse(lecturer.getId(), unassignedCourse.getId());
+        lecturerService.removeCourse(other.getId(), firstCourseId(other));
+        lecturerService.deleteLecturer(lecturers.get(2).getId());
+        lecturerService.restoreLecturer(lecturers.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("Lecturer reads should stay within their budgets, with or without courses")
+    void givenLecturers_whenReading_thenWithinBudget() {
+        String id = lecturers.getFirst().getId();
+
+        lecturerService.getLecturerById(id);
+        lecturerService.getAllLecturers();
+        lecturerService.getLecturersByIds(List.of(id, lecturers.get(1).getId()));
+        lecturerService.getLecturerWithCourses(id);
+        lecturerService.getAllLecturersWithCourses();
+        lecturerService.getLecturerFields(id, Set.of("email"));
+        lecturerService.getAllLecturerFields(Set.of("firstName", "lastName"));
+        lecturerService.getLecturerChanges(SyncCursor.START, LocalDateTime.now(), 5);
+    }
+
+    private String firstCourseId(Lecturer lecturer) {
+        return courseRepository.findAll().stream()
+                .filter(course -> course.getLecturer() != null && course.getLecturer().getId().equals(lecturer.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private static Lecturer lecturer(String email) {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail(email);
+        lecturer.setDepartment("Mathematics");
+        return lecturer;
+    }
+
+    private static Course course(String title) {
+        Course course = new Course();
+        course.setTitle(title);
+        course.setDescription("Course description long enough to be valid");
+        course.setPrice(49.99);
+        return course;
+    }
+
+    private static CourseDTO courseDto(String title) {
+        CourseDTO course = new CourseDTO();
+        course.setTitle(title);
+        course.setDescription("Course description long enough to be valid");
+        course.setPrice(59.99);
+        return course;
+    }
+
+    private static LecturerDTO lecturerDto(String email) {
+        LecturerDTO lecturer = new LecturerDTO();
+        lecturer.setFirstName("Grace");
+        lecturer.setLastName("Hopper");
+        lecturer.setEmail(email);
+        lecturer.setDepartment("Computer Science");
+        return lecturer;
+    }
+}
@@ -0,0 +1,104 @@
+package com.emiryucel.courseportal.bulk;
+
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "courseportal.export.fetch-size=2")
+@AutoConfigureMockMvc
+@DisplayName("Catalog Export Integration Tests")
+class CatalogExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail("ada@example.com");
+        lecturer.setDepartment("Mathematics");
+        for (int i = 1; i <= 5; i++) {
+            Course course = new Course();
+            course.setTitle("Course " + i);
+            course.setDescription("Description of course " + i);
+            course.setPrice(10.0 * i);
+            lecturer.addCourse(course);
+        }
+        lecturerRepository.save(lecturer);
+    }
+
+    @Test
+    @DisplayName("Should stream one NDJSON line per course")
+    void givenCourses_whenExportAsNdjson_thenOneLinePerCourse() throws Exception {
+        String body = export("/course/export", null).getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(5).allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+        assertThat(body).contains("\"lecturerId\":").endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("Should stream lecturers as CSV with a header row")
+    void givenLecturers_whenExportAsCsv_thenHeaderAndRows() throws Exception {
+        String body = export("/lecturer/export?format=CSV", null).getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().findFirst()).hasValue(
+                "id,firstName,lastName,email,department,bio,createdAt,updatedAt");
+        assertThat(body).contains("ada@example.com");
+    }
+
+    @Test
+    @DisplayName("Should gzip the export when the client accepts it")
+    void givenGzipAccepted_whenExport_thenBodyIsCompressed() throws Exception {
+        MvcResult result = export("/course/export", "gzip, deflate");
+
+        assertThat(result.getResponse().getHeader("Content-Encoding")).isEqualTo("gzip");
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body.lines()).hasSize(5);
+        }
+    }
+
+    private MvcResult export(String uri, String acceptEncoding) throws Exception {
+        var request = get(uri);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        MvcResult started = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn();
+    }
+}
@@ -0,0 +1,104 @@
+package com.emiryucel.courseportal.bulk;
+
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.service.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "courseportal.import.batch-size=2")
+@DisplayName("Catalog Import Integration Tests")
+class CatalogImportIntegrationTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV course rows and reject invalid ones")
+    void givenCsvWithInvalidRow_whenImportCourses_thenImportValidRowsOnly() throws Exception {
+        Path upload = write("""
+                title,description,price
+                Java Programming,Complete Java programming course,99.99
+                Spring Boot,Building services with Spring Boot,149.00
+                X,Too short,-1
+                Kotlin,Kotlin for Java developers in depth,79.50
+                """);
+
+        ImportJobDTO job = awaitCompletion(importService.startImport(EntityType.COURSE, BulkFormat.CSV, upload));
+
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(4);
+        assertThat(job.getRowsImported()).isEqualTo(3);
+        assertThat(job.getRowsRejected()).isEqualTo(1);
+        assertThat(job.getErrors()).singleElement().asString().startsWith("Row 3:");
+        assertThat(courseRepository.count()).isEqualTo(3);
+        assertThat(Files.exists(upload)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject NDJSON lecturers with duplicate or malformed rows")
+    void givenNdjsonWithDuplicates_whenImportLecturers_thenRejectDuplicates() throws Exception {
+        Path first = write("""
+                {"firstName":"Ada","lastName":"Lovelace","email":"ada@example.com","department":"Mathematics"}
+                """);
+        awaitCompletion(importService.startImport(EntityType.LECTURER, BulkFormat.NDJSON, first));
+
+        Path upload = write("""
+                {"firstName":"Alan","lastName":"Turing","email":"alan@example.com","department":"Computing"}
+                {"firstName":"Ada","lastName":"Lovelace","email":"ada@example.com","department":"Mathematics"}
+                {"firstName":"Grace","lastName":"Hopper","email":"grace@example.com","department":"Computing"}
+                {"firstName":"Alan","lastName":"Turing","email":"alan@example.com","department":"Computing"}
+                {not json
+                """);
+
+        ImportJobDTO job = awaitCompletion(importService.startImport(EntityType.LECTURER, BulkFormat.NDJSON, upload));
+
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(5);
+        assertThat(job.getRowsImported()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(lecturerRepository.count()).isEqualTo(3);
+        assertThat(lecturerRepository.findByEmail("grace@example.com")).isPresent();
+    }
+
+    private Path write(String content) throws Exception {
+        Path upload = Files.createTempFile("catalog-import-test-", ".tmp");
+        Files.writeString(upload, content);
+        return upload;
+    }
+
+    private ImportJobDTO awaitCompletion(ImportJobDTO started) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        ImportJobDTO job = importService.getImportJob(started.getId());
+        while (job.getStatus() != ImportJob.Status.COMPLETED && job.getStatus() != ImportJob.Status.FAILED
+                && Instant.now().isBefore(deadline)) {
+            Thread.sleep(20);
+            job = importService.getImportJob(started.getId());
+        }
+        return job;
+    }
+}
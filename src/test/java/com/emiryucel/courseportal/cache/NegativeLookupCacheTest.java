@@ -0,0 +1,67 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.model.Course;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Negative Lookup Cache Tests")
+class NegativeLookupCacheTest {
+
+    private final NegativeLookupCache cache =
+            new NegativeLookupCache(new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)));
+
+    @Test
+    @DisplayName("Should remember missing ids per entity type")
+    void givenRecordedMiss_whenIsKnownMissing_thenReturnTrueForSameTypeOnly() {
+        cache.recordMissing(EntityType.COURSE, "course-123");
+
+        assertThat(cache.isKnownMissing(EntityType.COURSE, "course-123")).isTrue();
+        assertThat(cache.isKnownMissing(EntityType.LECTURER, "course-123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep deferred misses only once they are recorded")
+    void givenDeferredMisses_whenClosedWithoutRecording_thenNothingCached() {
+        try (NegativeLookupCache.DeferredMisses misses = cache.deferMisses()) {
+            cache.recordMissing(EntityType.COURSE, "course-123");
+            assertThat(cache.isKnownMissing(EntityType.COURSE, "course-123")).isFalse();
+        }
+        assertThat(cache.isKnownMissing(EntityType.COURSE, "course-123")).isFalse();
+
+        try (NegativeLookupCache.DeferredMisses misses = cache.deferMisses()) {
+            cache.recordMissing(EntityType.COURSE, "course-123");
+            misses.record();
+        }
+        assertThat(cache.isKnownMissing(EntityType.COURSE, "course-123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget a missing id once an entity with that id is created")
+    void givenRecordedMiss_whenEntityCreated_thenInvalidate() {
+        Course course = new Course();
+        course.setId("course-123");
+        cache.recordMissing(EntityType.COURSE, "course-123");
+
+        cache.onEntityChanged(EntityChangedEvent.courseChanged(ChangeType.CREATED, course));
+
+        assertThat(cache.isKnownMissing(EntityType.COURSE, "course-123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not cache anything when disabled")
+    void givenDisabledCache_whenRecordMissing_thenNothingIsKnown() {
+        NegativeLookupCache disabled =
+                new NegativeLookupCache(new NegativeCacheProperties(false, 100, Duration.ofMinutes(1)));
+
+        disabled.recordMissing(EntityType.COURSE, "course-123");
+
+        assertThat(disabled.isKnownMissing(EntityType.COURSE, "course-123")).isFalse();
+    }
+}
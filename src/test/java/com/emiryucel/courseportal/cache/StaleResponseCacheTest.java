@@ -0,0 +1,50 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.emiryucel.courseportal.TestFixtures.courseEvent;
+import static com.emiryucel.courseportal.TestFixtures.courseSnapshot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Stale Response Cache Tests")
+class StaleResponseCacheTest {
+
+    private final StaleResponseCache cache =
+            new StaleResponseCache(new StaleCacheProperties(true, Duration.ofMinutes(10), 2, 1));
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    @DisplayName("Should stop serving older by-id results once change times are dropped for room")
+    void givenMoreChangesThanFit_whenGetServable_thenOlderByIdResultsNotServed() throws Exception {
+        StaleResponseCache.Key older = key("course-1");
+        cache.put(older, "older", Instant.now().minusSeconds(1));
+
+        for (int i = 0; i < 10; i++) {
+            cache.onEntityChanged(courseEvent(ChangeType.UPDATED, courseSnapshot("course-" + (i + 2), null)));
+        }
+        // eviction runs in the cache's background maintenance
+        for (int attempt = 0; attempt < 100 && cache.getServable(older) != null; attempt++) {
+            Thread.sleep(20);
+        }
+        StaleResponseCache.Key newer = key("course-20");
+        cache.put(newer, "newer", Instant.now());
+
+        assertThat(cache.getServable(older)).isNull();
+        assertThat(cache.getServable(newer).value()).isEqualTo("newer");
+    }
+
+    private static StaleResponseCache.Key key(String id) throws NoSuchMethodException {
+        return new StaleResponseCache.Key(Object.class.getMethod("toString"), List.of(id));
+    }
+}
@@ -0,0 +1,121 @@
+package com.emiryucel.courseportal.cache;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.limit.AdaptiveConcurrencyLimiter;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.impl.CourseServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.limiter.initial-limit=1",
+        "courseportal.limiter.min-limit=1",
+        "courseportal.limiter.max-limit=1"
+})
+@AutoConfigureMockMvc
+@DisplayName("Stale-While-Revalidate Integration Tests")
+class StaleWhileRevalidateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private TransactionAttributeSource transactionAttributeSource;
+
+    @MockitoSpyBean
+    private CourseRepository courseRepository;
+
+    @Test
+    @DisplayName("Should answer with the last result and a Warning header while the limit is taken")
+    void givenLimitReached_whenReadSeenBefore_thenServedStale() throws Exception {
+        String courseId = courseService.createCourse(course("Distributed Systems")).getId();
+        mockMvc.perform(get("/course/{id}", courseId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Warning"));
+
+        limiter.tryAcquire();
+        try {
+            mockMvc.perform(get("/course/{id}", courseId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Warning", StaleResponseHeaderAdvice.STALE_WARNING))
+                    .andExpect(header().exists("Age"))
+                    .andExpect(jsonPath("$.title").value("Distributed Systems"));
+            // never read before, so there is nothing to fall back on
+            mockMvc.perform(get("/lecturer"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            limiter.release(0, 0, false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve the last result when a query times out, but not once the course has changed")
+    void givenQueryTimeout_whenCourseChangedSinceCached_thenErrorGoesThrough() throws Exception {
+        String courseId = courseService.createCourse(course("Operating Systems")).getId();
+        mockMvc.perform(get("/course/{id}", courseId)).andExpect(status().isOk());
+
+        doThrow(new QueryTimeoutException("Query timed out")).when(courseRepository).findById(any());
+        mockMvc.perform(get("/course/{id}", courseId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Warning", StaleResponseHeaderAdvice.STALE_WARNING))
+                .andExpect(jsonPath("$.title").value("Operating Systems"));
+        awaitPermitFree();
+
+        reset(courseRepository);
+        courseService.deleteCourse(courseId);
+        doThrow(new QueryTimeoutException("Query timed out")).when(courseRepository).findById(any());
+
+        mockMvc.perform(get("/course/{id}", courseId))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("Should put a timeout on stale-servable reads only")
+    void givenServiceMethods_whenResolvingTransactionAttributes_thenOnlyStaleReadsTimeOut() throws Exception {
+        TransactionAttribute read = transactionAttributeSource.getTransactionAttribute(
+                CourseServiceImpl.class.getMethod("getCourseById", String.class), CourseServiceImpl.class);
+        TransactionAttribute write = transactionAttributeSource.getTransactionAttribute(
+                CourseServiceImpl.class.getMethod("createCourse", CourseDTO.class), CourseServiceImpl.class);
+
+        assertThat(read.getTimeout()).isEqualTo(5);
+        assertThat(write.getTimeout()).isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    // the stale answer starts a background refresh, which holds the only permit while it runs
+    private void awaitPermitFree() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (limiter.tryAcquire()) {
+                limiter.release(0, 0, false);
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Background refresh still holds the concurrency permit");
+    }
+}
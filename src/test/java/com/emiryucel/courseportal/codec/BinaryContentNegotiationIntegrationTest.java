@@ -0,0 +1,145 @@
+package com.emiryucel.courseportal.codec;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Binary Content Negotiation Integration Tests")
+class BinaryContentNegotiationIntegrationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CatalogProtobufCodec protobufCodec;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.update("delete from course_listing");
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        CourseDTO course = new CourseDTO();
+        course.setTitle("Java Programming");
+        course.setDescription("Complete Java programming course for beginners");
+        course.setPrice(99.99);
+        mockMvc.perform(post("/course")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(course)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default representation")
+    void givenNoAcceptHeader_whenGetCourses_thenJson() throws Exception {
+        mockMvc.perform(get("/course"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should encode course lists as CBOR and Smile on request")
+    void givenBinaryAccept_whenGetCourses_thenEncodedBody() throws Exception {
+        byte[] cbor = mockMvc.perform(get("/course").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        CourseResponseDTO[] fromCbor = new CBORMapper().readValue(cbor, CourseResponseDTO[].class);
+        assertThat(fromCbor).singleElement().extracting(CourseResponseDTO::getTitle).isEqualTo("Java Programming");
+
+        byte[] smile = mockMvc.perform(get("/course").accept(SMILE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        CourseResponseDTO[] fromSmile = new SmileMapper().readValue(smile, CourseResponseDTO[].class);
+        assertThat(fromSmile).singleElement().extracting(CourseResponseDTO::getPrice).isEqualTo(99.99);
+    }
+
+    @Test
+    @DisplayName("Should stream course lists as length-delimited protobuf messages")
+    void givenProtobufAccept_whenGetCourses_thenDelimitedMessages() throws Exception {
+        byte[] body = mockMvc.perform(get("/course").accept(CatalogProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<CourseResponseDTO> courses = protobufCodec.readDelimited(CourseResponseDTO.class, new ByteArrayInputStream(body));
+        assertThat(courses).singleElement().satisfies(course -> {
+            assertThat(course.getId()).isNotBlank();
+            assertThat(course.getTitle()).isEqualTo("Java Programming");
+            assertThat(course.getPrice()).isEqualTo(99.99);
+        });
+    }
+
+    @Test
+    @DisplayName("Should accept protobuf request bodies and answer in protobuf")
+    void givenProtobufBody_whenCreateLecturer_thenCreatedAndEncoded() throws Exception {
+        LecturerDTO lecturer = new LecturerDTO();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail("ada@university.edu");
+        lecturer.setDepartment("Mathematics");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        protobufCodec.write(lecturer, body);
+
+        byte[] response = mockMvc.perform(post("/lecturer")
+                        .contentType(CatalogProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(CatalogProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        LecturerResponseDTO created = protobufCodec.read(LecturerResponseDTO.class, new ByteArrayInputStream(response));
+        assertThat(created.getFirstName()).isEqualTo("Ada");
+        assertThat(created.getEmail()).isEqualTo("ada@university.edu");
+        assertThat(lecturerRepository.findByEmail("ada@university.edu")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should answer errors in JSON even when a binary representation was requested")
+    void givenProtobufAccept_whenCourseMissing_thenJsonError() throws Exception {
+        mockMvc.perform(get("/course/{id}", "missing").accept(CatalogProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
@@ -1,9 +1,21 @@
 package com.emiryucel.courseportal.controller;
 
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.dto.ChangeDTO;
+import com.emiryucel.courseportal.dto.ChangeSetDTO;
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.dto.LookupRequestDTO;
+import com.emiryucel.courseportal.dto.LookupResultDTO;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.service.ChangeStreamService;
+import com.emiryucel.courseportal.service.ExportService;
 import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.SuggestionService;
+import com.emiryucel.courseportal.service.LookupService;
+import com.emiryucel.courseportal.service.SyncService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +29,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -37,6 +53,21 @@ class CourseControllerTest {
     @MockitoBean
     private CourseService courseService;
 
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private SuggestionService suggestionService;
+
+    @MockitoBean
+    private ChangeStreamService changeStreamService;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @MockitoBean
+    private LookupService lookupService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -131,6 +162,32 @@ class CourseControllerTest {
         verify(courseService, times(1)).updateCourse(eq(courseId), any(CourseDTO.class));
     }
 
+    @Test
+    @DisplayName("Should patch course with a JSON merge patch")
+    void givenMergePatch_whenPatchCourse_thenReturnPatchedCourse() throws Exception {
+        String courseId = "course-123";
+        when(courseService.patchCourse(eq(courseId), any(JsonNode.class))).thenReturn(courseResponseDTO);
+
+        mockMvc.perform(patch("/course/{id}", courseId)
+                .contentType("application/merge-patch+json")
+                .content("{\"price\": 99.99}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(99.99));
+
+        verify(courseService, times(1)).patchCourse(eq(courseId), any(JsonNode.class));
+    }
+
+    @Test
+    @DisplayName("Should reject patch sent as plain JSON")
+    void givenPlainJsonContentType_whenPatchCourse_thenUnsupportedMediaType() throws Exception {
+        mockMvc.perform(patch("/course/{id}", "course-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": 99.99}"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(courseService, never()).patchCourse(any(), any());
+    }
+
     @Test
     @DisplayName("Should get course by id successfully")
     void givenValidCourseId_whenGetCourseById_thenReturnCourse() throws Exception {
@@ -229,5 +286,115 @@ class CourseControllerTest {
         verify(courseService, times(1)).deleteCourse(courseId);
     }
 
+    @Test
+    @DisplayName("Should stream course export in the requested format")
+    void givenCsvFormat_whenExportCourses_thenStreamAttachment() throws Exception {
+        when(exportService.exportCourses(eq(BulkFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write("id,title\n".getBytes());
+            return 0L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/course/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"courses.csv\""))
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,title\n"));
+
+        verify(exportService, times(1)).exportCourses(eq(BulkFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Should return title suggestions for a prefix")
+    void givenPrefix_whenSuggestCourses_thenReturnSuggestions() throws Exception {
+        when(suggestionService.suggestCourses("jav", 5)).thenReturn(List.of(
+                new CourseSuggestionDTO("course-1", "Java Programming"),
+                new CourseSuggestionDTO("course-2", "JavaScript Basics")));
+
+        mockMvc.perform(get("/course/suggest").param("q", "jav").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Java Programming"));
+
+        verify(suggestionService, times(1)).suggestCourses("jav", 5);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank suggestion prefix")
+    void givenBlankPrefix_whenSuggestCourses_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/course/suggest").param("q", " "))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(suggestionService);
+    }
+
+    @Test
+    @DisplayName("Should open the course change stream from the Last-Event-ID")
+    void givenLastEventId_whenStreamCourseChanges_thenResumeFromIt() throws Exception {
+        when(changeStreamService.streamCourseChanges("abc-41")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/course/stream")
+                        .header("Last-Event-ID", "abc-41")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(changeStreamService, times(1)).streamCourseChanges("abc-41");
+    }
+
+    @Test
+    @DisplayName("Should return the changes after a cursor with the next cursor")
+    void givenCursor_whenGetCourseChanges_thenReturnChangeSet() throws Exception {
+        when(syncService.getCourseChanges("cursor-1", 2)).thenReturn(new ChangeSetDTO<>(List.of(
+                new ChangeDTO<>("course-1", LocalDateTime.of(2026, 1, 1, 10, 0), false, courseResponseDTO),
+                new ChangeDTO<>("course-2", LocalDateTime.of(2026, 1, 1, 10, 5), true, null)), "cursor-2", true));
+
+        mockMvc.perform(get("/course/changes").param("since", "cursor-1").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].value.title").value("Java Programming"))
+                .andExpect(jsonPath("$.changes[1].deleted").value(true))
+                .andExpect(jsonPath("$.changes[1].value").doesNotExist())
+                .andExpect(jsonPath("$.cursor").value("cursor-2"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return the looked up courses with the ids that were not found")
+    void givenIds_whenGetCoursesByIds_thenReturnFoundAndMissing() throws Exception {
+        when(lookupService.lookupCourses(List.of("1", "unknown")))
+                .thenReturn(new LookupResultDTO<>(List.of(courseResponseDTO), List.of("unknown")));
+
+        mockMvc.perform(get("/course").param("ids", "1,unknown"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.length()").value(1))
+                .andExpect(jsonPath("$.found[0].title").value("Java Programming"))
+                .andExpect(jsonPath("$.missing[0]").value("unknown"));
+
+        verify(courseService, never()).getAllCourses();
+    }
+
+    @Test
+    @DisplayName("Should reject a field selection on a lookup by ids")
+    void givenIdsAndFields_whenGetCourses_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/course").param("ids", "1,2").param("fields", "title"))
+                .andExpect(status().isBadRequest());
+
+        verify(lookupService, never()).lookupCourses(any());
+        verify(courseService, never()).getAllCourseFields(any());
+    }
 
+    @Test
+    @DisplayName("Should reject a lookup body without ids")
+    void givenEmptyIds_whenLookupCourses_thenBadRequest() throws Exception {
+        mockMvc.perform(post("/course/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LookupRequestDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(lookupService, never()).lookupCourses(any());
+    }
 }
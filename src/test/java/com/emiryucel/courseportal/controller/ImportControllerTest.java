@@ -0,0 +1,74 @@
+package com.emiryucel.courseportal.controller;
+
+import com.emiryucel.courseportal.bulk.BulkFormat;
+import com.emiryucel.courseportal.bulk.ImportJob;
+import com.emiryucel.courseportal.dto.ImportJobDTO;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.service.ImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@DisplayName("Import Controller Tests")
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImportService importService;
+
+    @Test
+    @DisplayName("Should accept course upload and return job location")
+    void givenCsvUpload_whenImportCourses_thenReturnAcceptedWithLocation() throws Exception {
+        ImportJobDTO job = new ImportJob(EntityType.COURSE, BulkFormat.CSV, 10).toDto();
+        when(importService.startImport(eq(EntityType.COURSE), eq(BulkFormat.CSV), any(Path.class))).thenReturn(job);
+
+        MockMultipartFile file = new MockMultipartFile("file", "courses.csv", "text/csv",
+                "title,description,price\n".getBytes());
+
+        mockMvc.perform(multipart("/import/courses").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/import/" + job.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should pick the format from the file extension when not given")
+    void givenNdjsonUpload_whenImportLecturers_thenDetectFormat() throws Exception {
+        ImportJobDTO job = new ImportJob(EntityType.LECTURER, BulkFormat.NDJSON, 10).toDto();
+        when(importService.startImport(eq(EntityType.LECTURER), eq(BulkFormat.NDJSON), any(Path.class))).thenReturn(job);
+
+        MockMultipartFile file = new MockMultipartFile("file", "lecturers.ndjson", "application/x-ndjson",
+                "{}\n".getBytes());
+
+        mockMvc.perform(multipart("/import/lecturers").file(file))
+                .andExpect(status().isAccepted());
+
+        verify(importService, times(1)).startImport(eq(EntityType.LECTURER), eq(BulkFormat.NDJSON), any(Path.class));
+    }
+
+    @Test
+    @DisplayName("Should return not found for unknown import job")
+    void givenUnknownJobId_whenGetImportJob_thenReturnNotFound() throws Exception {
+        when(importService.getImportJob("missing"))
+                .thenThrow(new ResourceNotFoundException("Import job not found with id: missing"));
+
+        mockMvc.perform(get("/import/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
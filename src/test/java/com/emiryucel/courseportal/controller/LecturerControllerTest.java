@@ -1,10 +1,15 @@
 package com.emiryucel.courseportal.controller;
 
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
 import com.emiryucel.courseportal.exception.DuplicateResourceException;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.service.ChangeStreamService;
+import com.emiryucel.courseportal.service.ExportService;
 import com.emiryucel.courseportal.service.LecturerService;
+import com.emiryucel.courseportal.service.LookupService;
+import com.emiryucel.courseportal.service.SyncService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +39,18 @@ class LecturerControllerTest {
     @MockitoBean
     private LecturerService lecturerService;
 
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private ChangeStreamService changeStreamService;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @MockitoBean
+    private LookupService lookupService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -228,6 +245,35 @@ class LecturerControllerTest {
         verify(lecturerService, times(1)).getAllLecturers();
     }
 
+    @Test
+    @DisplayName("Should embed courses when requested with include=courses")
+    void givenIncludeCourses_whenGetAllLecturers_thenReturnLecturersWithCourses() throws Exception {
+        CourseResponseDTO course = new CourseResponseDTO();
+        course.setId("course-1");
+        course.setTitle("Java Programming");
+        lecturerResponseDTO.setCourses(List.of(course));
+        when(lecturerService.getAllLecturersWithCourses()).thenReturn(List.of(lecturerResponseDTO));
+
+        mockMvc.perform(get("/lecturer").param("include", "courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courses[0].id").value("course-1"))
+                .andExpect(jsonPath("$[0].courses[0].title").value("Java Programming"));
+
+        verify(lecturerService, never()).getAllLecturers();
+    }
+
+    @Test
+    @DisplayName("Should omit courses when not requested")
+    void givenNoInclude_whenGetLecturerById_thenCoursesOmitted() throws Exception {
+        when(lecturerService.getLecturerById("lecturer-123")).thenReturn(lecturerResponseDTO);
+
+        mockMvc.perform(get("/lecturer/{id}", "lecturer-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses").doesNotExist());
+
+        verify(lecturerService, never()).getLecturerWithCourses(any());
+    }
+
     @Test
     @DisplayName("Should delete lecturer successfully")
     void givenValidLecturerId_whenDeleteLecturer_thenLecturerDeleted() throws Exception {
@@ -0,0 +1,147 @@
+package com.emiryucel.courseportal.fields;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.service.CourseService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.emiryucel.courseportal.fields.SparseFieldsetIntegrationTest$CapturingInspector")
+@AutoConfigureMockMvc
+@DisplayName("Sparse Fieldset Integration Tests")
+class SparseFieldsetIntegrationTest {
+
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String courseId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        // through the service, so the course also reaches the listing read model
+        CourseDTO course = new CourseDTO();
+        course.setTitle("Java Programming");
+        course.setDescription("Complete Java programming course for beginners");
+        course.setPrice(99.99);
+        courseId = courseService.createCourse(course).getId();
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail("ada@university.edu");
+        lecturer.setDepartment("Mathematics");
+        lecturer.setBio("Wrote the first published algorithm");
+        lecturerRepository.save(lecturer);
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should select and return only the requested course columns")
+    void givenFields_whenGetCourses_thenDescriptionNeverRead() throws Exception {
+        mockMvc.perform(get("/course").param("fields", "title,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(courseId))
+                .andExpect(jsonPath("$[0].title").value("Java Programming"))
+                .andExpect(jsonPath("$[0].price").value(99.99))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        assertThat(selects()).singleElement().satisfies(sql -> {
+            assertThat(sql).contains("title", "price");
+            assertThat(sql).doesNotContain("description", "lecturer_id");
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply the field selection to single courses and pages")
+    void givenFields_whenGetCourseByIdAndPage_thenProjected() throws Exception {
+        mockMvc.perform(get("/course/{id}", courseId).param("fields", "price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(99.99))
+                .andExpect(jsonPath("$.title").doesNotExist());
+
+        mockMvc.perform(get("/course/paginated").param("fields", "title").param("sort", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Java Programming"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        assertThat(selects()).noneMatch(sql -> sql.contains("description"));
+    }
+
+    @Test
+    @DisplayName("Should never read the lecturer bio unless it is requested")
+    void givenFields_whenGetLecturers_thenBioNeverRead() throws Exception {
+        mockMvc.perform(get("/lecturer").param("fields", "firstName,lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].firstName").value("Ada"))
+                .andExpect(jsonPath("$[0].bio").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+
+        assertThat(selects()).singleElement().satisfies(sql -> assertThat(sql).doesNotContain("bio", "email"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields with 400")
+    void givenUnknownField_whenGetCourses_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/course").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Field Selection"));
+
+        mockMvc.perform(get("/lecturer").param("fields", "bio").param("include", "courses"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static List<String> selects() {
+        return CapturingInspector.STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select") && !sql.startsWith("select count"))
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.emiryucel.courseportal.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new ConcurrencyLimitProperties(true, 20, 4, 200, 0.2, 1.5, 10, 600, Duration.ofMillis(5)));
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at its baseline and the limit is in use")
+    void givenStableLatencyAtFullUse_whenSampling_thenLimitGrows() {
+        samples(100, RTT, 0, 20);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit while most of it is unused")
+    void givenLowConcurrency_whenSampling_thenLimitUnchanged() {
+        samples(100, RTT, 0, 2);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises above the baseline")
+    void givenRisingLatency_whenSampling_thenLimitShrinks() {
+        samples(50, RTT, 0, 20);
+        int beforeOverload = limiter.getLimit();
+
+        samples(100, RTT * 4, 0, 20);
+
+        assertThat(limiter.getLimit()).isLessThan(beforeOverload).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit on connection-pool wait before latency rises")
+    void givenPoolWait_whenSampling_thenLimitShrinks() {
+        samples(100, RTT, TimeUnit.MILLISECONDS.toNanos(8), 20);
+
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively when calls cannot get a connection")
+    void givenDroppedCall_whenWindowCompletes_thenLimitBacksOff() {
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(RTT, 0, 20, i == 9);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("Should reject calls above the limit and count them")
+    void givenFullLimit_whenTryAcquire_thenRejected() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.release(RTT, 0, false);
+        assertThat(limiter.getInFlight()).isEqualTo(19);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    private void samples(int count, long rttNanos, long poolWaitNanos, int inFlight) {
+        for (int i = 0; i < count; i++) {
+            limiter.onSample(rttNanos, poolWaitNanos, inFlight, false);
+        }
+    }
+}
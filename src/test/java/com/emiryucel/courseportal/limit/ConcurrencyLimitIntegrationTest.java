@@ -0,0 +1,67 @@
+package com.emiryucel.courseportal.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.limiter.initial-limit=1",
+        "courseportal.limiter.min-limit=1",
+        "courseportal.limiter.max-limit=1"
+})
+@AutoConfigureMockMvc
+@DisplayName("Concurrency Limit Integration Tests")
+class ConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the limit is taken and recover afterwards")
+    void givenLimitReached_whenGetCourses_thenServiceUnavailable() throws Exception {
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            mockMvc.perform(get("/course"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.status").value(503));
+            mockMvc.perform(get("/lecturer"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            limiter.release(0, 0, false);
+        }
+
+        mockMvc.perform(get("/course")).andExpect(status().isOk());
+        assertThat(meterRegistry.get("courseportal.limiter.rejected").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("courseportal.limiter.limit").gauge().value()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should measure connection-pool wait on the application data source")
+    void givenContext_whenDataSourceInjected_thenWrappedForPoolWaitMeasurement() {
+        assertThat(dataSource).isInstanceOf(PoolWaitMeasuringDataSource.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.emiryucel.courseportal.listing;
+
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Course Listing Read Model Integration Tests")
+class CourseListingProjectorIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from lecturer");
+    }
+
+    @Test
+    @DisplayName("Should list courses with their lecturer's name and department")
+    void givenAssignedCourse_whenListing_thenLecturerFieldsIncluded() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        String assigned = courseService.createCourse(course("Analytical Engines")).getId();
+        courseService.createCourse(course("Unassigned Course"));
+        lecturerService.assignCourse(lecturerId, assigned);
+
+        mockMvc.perform(get("/course/paginated").param("sort", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(assigned))
+                .andExpect(jsonPath("$.content[0].lecturerId").value(lecturerId))
+                .andExpect(jsonPath("$.content[0].lecturerFirstName").value("Ada"))
+                .andExpect(jsonPath("$.content[0].lecturerLastName").value("Lovelace"))
+                .andExpect(jsonPath("$.content[0].lecturerDepartment").value("Mathematics"))
+                .andExpect(jsonPath("$.content[1].lecturerId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should copy lecturer changes onto the listing rows of all its courses")
+    void givenLecturerPatched_whenListing_thenEveryCourseShowsNewDepartment() {
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        for (int i = 0; i < 3; i++) {
+            lecturerService.assignCourse(lecturerId, courseService.createCourse(course("Course " + i)).getId());
+        }
+
+        lecturerService.patchLecturer(lecturerId, objectMapper.createObjectNode().put("department", "Computing"));
+
+        assertThat(courseService.getAllCourses())
+                .hasSize(3)
+                .allSatisfy(course -> assertThat(course.getLecturerDepartment()).isEqualTo("Computing"));
+    }
+
+    @Test
+    @DisplayName("Should drop listing rows of deleted courses and lecturers")
+    void givenDeletes_whenListing_thenRowsGone() {
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        String owned = courseService.createCourse(course("Owned Course")).getId();
+        lecturerService.assignCourse(lecturerId, owned);
+        String standalone = courseService.createCourse(course("Standalone Course")).getId();
+
+        courseService.deleteCourse(standalone);
+        assertThat(courseService.getAllCourses()).extracting("id").containsExactly(owned);
+
+        lecturerService.deleteLecturer(lecturerId);
+        assertThat(courseService.getAllCourses()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from course_listing", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should roll the listing back together with the change")
+    void givenFailingTransaction_whenRolledBack_thenListingUnchanged() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            courseService.createCourse(course("Never Committed"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(courseService.getAllCourses()).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package com.emiryucel.courseportal.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Log Sampler Tests")
+class LogSamplerTest {
+
+    @Test
+    @DisplayName("Should never log a route sampled at zero")
+    void givenZeroSampleRate_whenShouldLog_thenReturnFalse() {
+        LogSampler sampler = sampler(Map.of("GET:/course/{id}", new LogSamplingProperties.Rule(0.0, 0)));
+
+        assertThat(IntStream.range(0, 100).noneMatch(i -> sampler.shouldLog("GET:/course/{id}"))).isTrue();
+        assertThat(sampler.shouldLog("GET:/course")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop logging a route once its per-second budget is spent")
+    void givenRateLimit_whenBudgetExhausted_thenReturnFalse() {
+        LogSampler sampler = sampler(Map.of("POST:/course", new LogSamplingProperties.Rule(1.0, 3)));
+
+        long logged = IntStream.range(0, 10).filter(i -> sampler.shouldLog("POST:/course")).count();
+
+        assertThat(logged).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should log everything when sampling is disabled")
+    void givenSamplingDisabled_whenShouldLog_thenReturnTrue() {
+        LogSampler sampler = new LogSampler(new LogSamplingProperties(false,
+                new LogSamplingProperties.Rule(0.0, 0), Map.of()));
+
+        assertThat(sampler.shouldLog("GET:/course/{id}")).isTrue();
+    }
+
+    private LogSampler sampler(Map<String, LogSamplingProperties.Rule> routes) {
+        return new LogSampler(new LogSamplingProperties(true, new LogSamplingProperties.Rule(1.0, 0), routes));
+    }
+}
@@ -0,0 +1,65 @@
+package com.emiryucel.courseportal.logging;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Log Sampling Interceptor Tests")
+class LogSamplingInterceptorTest {
+
+    private final LogSamplingInterceptor interceptor = new LogSamplingInterceptor(new LogSampler(
+            new LogSamplingProperties(true, new LogSamplingProperties.Rule(1.0, 1), Map.of())));
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should clear the MDC on the request thread once async handling starts")
+    void givenAsyncHandler_whenConcurrentHandlingStarted_thenMdcCleared() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/course/stream");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/course/stream");
+
+        interceptor.preHandle(request, response, null);
+        assertThat(MDC.get(LogSamplingInterceptor.ROUTE_KEY)).isEqualTo("GET:/course/stream");
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        assertThat(MDC.get(LogSamplingInterceptor.ROUTE_KEY)).isNull();
+        assertThat(MDC.get(LogSamplingInterceptor.SAMPLED_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the sampling decision on the async dispatch instead of spending budget again")
+    void givenAsyncDispatch_whenPreHandle_thenDecisionReused() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/course/export");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/course/export");
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+
+        assertThat(MDC.get(LogSamplingInterceptor.SAMPLED_KEY)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should put requests without a matching pattern on one route rather than their URI")
+    void givenNoMatchingPattern_whenPreHandle_thenUnmatchedRoute() {
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/no/such/path/1"), response, null);
+
+        assertThat(MDC.get(LogSamplingInterceptor.ROUTE_KEY)).isEqualTo("GET:" + LogSamplingInterceptor.UNMATCHED_ROUTE);
+    }
+}
@@ -0,0 +1,79 @@
+package com.emiryucel.courseportal.lookup;
+
+import com.emiryucel.courseportal.dto.LookupRequestDTO;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "courseportal.lookup.max-ids=3")
+@AutoConfigureMockMvc
+@DisplayName("Batch Lookup Integration Tests")
+class BatchLookupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should return courses in request order and list the ids that were not found")
+    void givenKnownAndUnknownIds_whenLookupCourses_thenFoundInRequestOrderAndMissingListed() throws Exception {
+        String first = courseService.createCourse(course("Cryptography")).getId();
+        String second = courseService.createCourse(course("Robotics")).getId();
+        String deleted = courseService.createCourse(course("Typesetting")).getId();
+        courseService.deleteCourse(deleted);
+
+        mockMvc.perform(get("/course").param("ids", second, "no-such-course", first, second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[*].id", contains(second, first)))
+                .andExpect(jsonPath("$.missing", contains("no-such-course")));
+
+        mockMvc.perform(post("/course/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LookupRequestDTO(List.of(deleted, first)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[*].title", contains("Cryptography")))
+                .andExpect(jsonPath("$.missing", contains(deleted)));
+    }
+
+    @Test
+    @DisplayName("Should look up lecturers, and reject more ids than the configured maximum")
+    void givenTooManyIds_whenLookupLecturers_thenBadRequest() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("lookup@university.edu")).getId();
+
+        mockMvc.perform(post("/lecturer/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LookupRequestDTO(List.of("nobody", lecturerId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[*].email", contains("lookup@university.edu")))
+                .andExpect(jsonPath("$.missing", contains("nobody")));
+
+        mockMvc.perform(get("/lecturer").param("ids", "a", "b", "c", "d"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Lookup"));
+    }
+}
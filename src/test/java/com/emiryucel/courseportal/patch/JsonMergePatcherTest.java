@@ -0,0 +1,69 @@
+package com.emiryucel.courseportal.patch;
+
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.exception.InvalidPatchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JSON Merge Patcher Tests")
+class JsonMergePatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMergePatcher patcher =
+            new JsonMergePatcher(objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+
+    private LecturerDTO lecturer;
+
+    @BeforeEach
+    void setUp() {
+        lecturer = new LecturerDTO();
+        lecturer.setFirstName("John");
+        lecturer.setLastName("Doe");
+        lecturer.setEmail("john.doe@university.edu");
+        lecturer.setDepartment("Computer Science");
+        lecturer.setBio("Long biography");
+    }
+
+    @Test
+    @DisplayName("Should change sent fields, clear null fields and keep the rest")
+    void givenMergePatch_whenApply_thenOnlySentFieldsChange() throws Exception {
+        LecturerDTO patched = patcher.apply(objectMapper.readTree("{\"department\":\"Physics\",\"bio\":null}"), lecturer);
+
+        assertThat(patched.getDepartment()).isEqualTo("Physics");
+        assertThat(patched.getBio()).isNull();
+        assertThat(patched.getFirstName()).isEqualTo("John");
+        assertThat(patched.getEmail()).isEqualTo("john.doe@university.edu");
+    }
+
+    @Test
+    @DisplayName("Should validate only the fields present in the patch")
+    void givenInvalidSentField_whenApply_thenConstraintViolationForThatFieldOnly() throws Exception {
+        lecturer.setLastName("");
+
+        assertThatThrownBy(() -> patcher.apply(objectMapper.readTree("{\"email\":\"not-an-email\"}"), lecturer))
+                .isInstanceOfSatisfying(ConstraintViolationException.class, ex ->
+                        assertThat(ex.getConstraintViolations())
+                                .extracting(violation -> violation.getPropertyPath().toString())
+                                .containsExactly("email"));
+
+        LecturerDTO patched = patcher.apply(objectMapper.readTree("{\"firstName\":\"Jane\"}"), lecturer);
+        assertThat(patched.getFirstName()).isEqualTo("Jane");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields and non-object patches")
+    void givenUnknownFieldOrArray_whenApply_thenInvalidPatch() throws Exception {
+        assertThatThrownBy(() -> patcher.apply(objectMapper.readTree("{\"id\":\"x\"}"), lecturer))
+                .isInstanceOf(InvalidPatchException.class)
+                .hasMessageContaining("id");
+        assertThatThrownBy(() -> patcher.apply(objectMapper.readTree("[]"), lecturer))
+                .isInstanceOf(InvalidPatchException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.emiryucel.courseportal.patch;
+
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.emiryucel.courseportal.patch.PatchUpdateIntegrationTest$CapturingInspector")
+@AutoConfigureMockMvc
+@DisplayName("Patch Update Integration Tests")
+class PatchUpdateIntegrationTest {
+
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private String courseId;
+
+    @BeforeEach
+    void setUp() {
+        Course course = new Course();
+        course.setTitle("Java Programming");
+        course.setDescription("Complete Java programming course for beginners");
+        course.setPrice(99.99);
+        courseId = courseRepository.save(course).getId();
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should update only the price column for a price patch")
+    void givenPricePatch_whenPatchCourse_thenUpdateTouchesOnlyChangedColumns() throws Exception {
+        mockMvc.perform(patch("/course/{id}", courseId)
+                        .contentType(JsonMergePatcher.MEDIA_TYPE)
+                        .content("{\"price\": 79.99}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(79.99))
+                .andExpect(jsonPath("$.title").value("Java Programming"));
+
+        List<String> updates = CapturingInspector.STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("update course"))
+                .toList();
+        assertThat(updates).singleElement().satisfies(sql -> {
+            assertThat(sql).contains("price", "updated_at");
+            assertThat(sql).doesNotContain("description", "title");
+        });
+        assertThat(courseRepository.findById(courseId)).get()
+                .extracting(Course::getPrice).isEqualTo(79.99);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that breaks validation of a sent field")
+    void givenInvalidPrice_whenPatchCourse_thenBadRequest() throws Exception {
+        mockMvc.perform(patch("/course/{id}", courseId)
+                        .contentType(JsonMergePatcher.MEDIA_TYPE)
+                        .content("{\"price\": -5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.price").exists());
+
+        assertThat(CapturingInspector.STATEMENTS).noneMatch(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update"));
+    }
+}
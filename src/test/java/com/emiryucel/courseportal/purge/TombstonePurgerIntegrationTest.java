@@ -0,0 +1,161 @@
+package com.emiryucel.courseportal.purge;
+
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.purge.enabled=false",
+        "courseportal.purge.retention=7d",
+        "courseportal.purge.batch-size=2",
+        "courseportal.purge.pause=0ms"
+})
+@AutoConfigureMockMvc
+@DisplayName("Soft Delete and Tombstone Purge Integration Tests")
+class TombstonePurgerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private TombstonePurger tombstonePurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from lecturer");
+    }
+
+    @Test
+    @DisplayName("Should hide a deleted course and bring it back on restore")
+    void givenDeletedCourse_whenRestored_thenVisibleAgain() throws Exception {
+        String id = courseService.createCourse(course("Compilers")).getId();
+
+        mockMvc.perform(delete("/course/{id}", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/course/{id}", id))
+                .andExpect(status().isNotFound());
+        assertThat(courseService.getAllCourses()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from course", Integer.class)).isEqualTo(1);
+
+        mockMvc.perform(post("/course/{id}/restore", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Compilers"));
+        mockMvc.perform(get("/course/{id}", id))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should restore a lecturer with the courses deleted along with it, but not older deletes")
+    void givenDeletedLecturer_whenRestored_thenCoursesDeletedWithItComeBack() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        String kept = courseService.createCourse(course("Analytical Engines")).getId();
+        String deletedEarlier = courseService.createCourse(course("Difference Engines")).getId();
+        lecturerService.assignCourse(lecturerId, kept);
+        lecturerService.assignCourse(lecturerId, deletedEarlier);
+        courseService.deleteCourse(deletedEarlier);
+
+        mockMvc.perform(delete("/lecturer/{id}", lecturerId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/lecturer/{id}", lecturerId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/course/{id}", kept))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/lecturer/{id}/restore", lecturerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("ada@university.edu"));
+
+        assertThat(courseService.getAllCourses()).extracting(CourseResponseDTO::getId).containsExactly(kept);
+        assertThat(lecturerService.getLecturerWithCourses(lecturerId).getCourses())
+                .extracting(CourseResponseDTO::getId).containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("Should keep a deleted lecturer's email reserved until it is purged")
+    void givenDeletedLecturer_whenEmailReused_thenConflictUntilPurged() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("grace@university.edu")).getId();
+        lecturerService.deleteLecturer(lecturerId);
+
+        mockMvc.perform(post("/lecturer")
+                        .contentType("application/json")
+                        .content("""
+                                {"firstName":"Grace","lastName":"Hopper","email":"grace@university.edu","department":"Navy"}
+                                """))
+                .andExpect(status().isConflict());
+
+        backdateTombstones("lecturer", 8);
+        tombstonePurger.purge();
+
+        mockMvc.perform(post("/lecturer")
+                        .contentType("application/json")
+                        .content("""
+                                {"firstName":"Grace","lastName":"Hopper","email":"grace@university.edu","department":"Navy"}
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should purge tombstones past retention in batches and leave recent ones restorable")
+    void givenTombstonesPastRetention_whenPurged_thenRemovedAndNoLongerRestorable() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("alan@university.edu")).getId();
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String id = courseService.createCourse(course("Expired Course " + i)).getId();
+            lecturerService.assignCourse(lecturerId, id);
+            expired.add(id);
+        }
+        lecturerService.deleteLecturer(lecturerId);
+        backdateTombstones("course", 8);
+        backdateTombstones("lecturer", 8);
+        String recent = courseService.createCourse(course("Recent Course")).getId();
+        courseService.deleteCourse(recent);
+
+        assertThat(tombstonePurger.purge()).isEqualTo(5);
+
+        assertThat(jdbcTemplate.queryForList("select id from course", String.class)).containsExactly(recent);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from lecturer", Integer.class)).isZero();
+        mockMvc.perform(post("/course/{id}/restore", expired.get(0)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/course/{id}/restore", recent))
+                .andExpect(status().isOk());
+        assertThat(tombstonePurger.purge()).isZero();
+    }
+
+    private void backdateTombstones(String table, int days) {
+        jdbcTemplate.update("update " + table + " set deleted_at = ? where deleted_at is not null",
+                LocalDateTime.now().minusDays(days));
+    }
+}
@@ -0,0 +1,96 @@
+package com.emiryucel.courseportal.repository;
+
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.service.LecturerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Lecturer Fetch Query Count Tests")
+class LecturerFetchQueryCountTest {
+
+    private static final int LECTURERS = 20;
+    private static final int COURSES_PER_LECTURER = 3;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String lecturerId;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        for (int i = 0; i < LECTURERS; i++) {
+            Lecturer lecturer = new Lecturer();
+            lecturer.setFirstName("First" + i);
+            lecturer.setLastName("Last" + i);
+            lecturer.setEmail("lecturer" + i + "@university.edu");
+            lecturer.setDepartment("Computer Science");
+            for (int j = 0; j < COURSES_PER_LECTURER; j++) {
+                Course course = new Course();
+                course.setTitle("Course " + i + "-" + j);
+                course.setDescription("Description for course " + i + "-" + j);
+                course.setPrice(49.99);
+                lecturer.addCourse(course);
+            }
+            lecturerId = lecturerRepository.save(lecturer).getId();
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load all lecturers with their courses in one statement")
+    void givenManyLecturers_whenGetAllLecturersWithCourses_thenSingleQuery() {
+        List<LecturerResponseDTO> lecturers = lecturerService.getAllLecturersWithCourses();
+
+        assertThat(lecturers).hasSize(LECTURERS)
+                .allSatisfy(lecturer -> assertThat(lecturer.getCourses()).hasSize(COURSES_PER_LECTURER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load one lecturer with courses in one statement")
+    void givenLecturer_whenGetLecturerWithCourses_thenSingleQuery() {
+        LecturerResponseDTO lecturer = lecturerService.getLecturerWithCourses(lecturerId);
+
+        assertThat(lecturer.getId()).isEqualTo(lecturerId);
+        assertThat(lecturer.getCourses()).hasSize(COURSES_PER_LECTURER)
+                .allSatisfy(course -> assertThat(course.getId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not touch courses when they are not requested")
+    void givenManyLecturers_whenGetAllLecturers_thenCoursesNotLoaded() {
+        List<LecturerResponseDTO> lecturers = lecturerService.getAllLecturers();
+
+        assertThat(lecturers).hasSize(LECTURERS).allSatisfy(lecturer -> assertThat(lecturer.getCourses()).isNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+}
@@ -1,12 +1,25 @@
 package com.emiryucel.courseportal.service.impl;
 
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
 import com.emiryucel.courseportal.dto.CourseDTO;
 import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.exception.InvalidFieldSelectionException;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
 import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.model.ArchivedCourse;
 import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.CourseListing;
 import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
+import com.emiryucel.courseportal.repository.ArchivedCourseRepository;
+import com.emiryucel.courseportal.repository.CourseListingRepository;
 import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.SparseFieldsetReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,11 +36,14 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +56,24 @@ class CourseServiceImplTest {
     @Mock
     private CourseMapper courseMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private JsonMergePatcher jsonMergePatcher;
+
+    @Mock
+    private SparseFieldsetReader sparseFieldsetReader;
+
+    @Mock
+    private ArchivedCourseRepository archivedCourseRepository;
+
+    @Mock
+    private CourseListingRepository courseListingRepository;
+
     @InjectMocks
     private CourseServiceImpl courseService;
 
@@ -92,6 +127,8 @@ class CourseServiceImplTest {
         verify(courseMapper, times(1)).toEntity(courseDTO);
         verify(courseRepository, times(1)).save(course);
         verify(courseMapper, times(1)).toResponseDto(course);
+        verify(eventPublisher, times(1)).publishEvent(argThat((EntityChangedEvent event) ->
+                event.changeType() == ChangeType.CREATED && event.entityId().equals("course-123")));
     }
 
     @Test
@@ -128,6 +165,27 @@ class CourseServiceImplTest {
         verify(courseMapper, times(1)).toResponseDto(updatedCourse);
     }
 
+    @Test
+    @DisplayName("Should apply merge patch onto the current course state")
+    void givenMergePatch_whenPatchCourse_thenPatchedStateWrittenBack() {
+        String courseId = "course-123";
+        JsonNode patch = JsonNodeFactory.instance.objectNode().put("price", 79.99);
+        CourseDTO current = new CourseDTO();
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+        when(courseMapper.toDto(course)).thenReturn(current);
+        when(jsonMergePatcher.apply(patch, current)).thenReturn(courseDTO);
+        when(courseRepository.save(course)).thenReturn(course);
+        when(courseMapper.toResponseDto(course)).thenReturn(courseResponseDTO);
+
+        CourseResponseDTO result = courseService.patchCourse(courseId, patch);
+
+        assertThat(result).isEqualTo(courseResponseDTO);
+        verify(courseMapper, times(1)).patchEntityFromDto(courseDTO, course);
+        verify(courseMapper, never()).updateEntityFromDto(any(), any());
+        verify(eventPublisher).publishEvent(argThat((EntityChangedEvent event) ->
+                event.changeType() == ChangeType.UPDATED && courseId.equals(event.entityId())));
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when updating non-existent course")
     void givenNonExistentCourseId_whenUpdateCourse_thenThrowResourceNotFoundException() {
@@ -174,28 +232,74 @@ class CourseServiceImplTest {
                 .hasMessage("Course not found with id: " + courseId);
 
         verify(courseRepository, times(1)).findById(courseId);
+        verify(archivedCourseRepository, times(1)).findById(courseId);
         verify(courseMapper, never()).toResponseDto(any());
+        verify(negativeLookupCache, times(1)).recordMissing(EntityType.COURSE, courseId);
     }
 
     @Test
-    @DisplayName("Should get all courses successfully")
+    @DisplayName("Should resolve a course moved to the archive by id")
+    void givenArchivedCourseId_whenGetCourseById_thenReturnArchivedCourse() {
+        String courseId = "archived-course";
+        ArchivedCourse archived = new ArchivedCourse();
+        archived.setId(courseId);
+        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+        when(archivedCourseRepository.findById(courseId)).thenReturn(Optional.of(archived));
+        when(courseMapper.archivedToResponseDto(archived)).thenReturn(courseResponseDTO);
+
+        CourseResponseDTO result = courseService.getCourseById(courseId);
+
+        assertThat(result).isSameAs(courseResponseDTO);
+        verify(negativeLookupCache, never()).recordMissing(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should look up ids missing from the listing read model in the archive")
+    void givenListedAndArchivedIds_whenGetCoursesByIds_thenReturnBoth() {
+        CourseListing listing = listing("course-123", "Java Programming");
+        ArchivedCourse archived = new ArchivedCourse();
+        archived.setId("archived-course");
+        CourseResponseDTO archivedResponse = new CourseResponseDTO();
+        when(courseListingRepository.findAllById(List.of("course-123", "archived-course", "unknown")))
+                .thenReturn(List.of(listing));
+        when(courseMapper.listingsToResponseDtoList(List.of(listing))).thenReturn(List.of(courseResponseDTO));
+        when(archivedCourseRepository.findAllById(List.of("archived-course", "unknown"))).thenReturn(List.of(archived));
+        when(courseMapper.archivedToResponseDto(archived)).thenReturn(archivedResponse);
+
+        List<CourseResponseDTO> result = courseService.getCoursesByIds(List.of("course-123", "archived-course", "unknown"));
+
+        assertThat(result).containsExactly(courseResponseDTO, archivedResponse);
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for a course id known to be missing")
+    void givenKnownMissingCourseId_whenGetCourseById_thenThrowWithoutRepositoryLookup() {
+        String courseId = "non-existent-course";
+        when(negativeLookupCache.isKnownMissing(EntityType.COURSE, courseId)).thenReturn(true);
+
+        assertThatThrownBy(() -> courseService.getCourseById(courseId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Course not found with id: " + courseId);
+
+        verify(courseRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should get all courses from the listing read model")
     void givenCoursesExist_whenGetAllCourses_thenReturnListOfCourses() {
-        Course course2 = new Course();
-        course2.setId("course-456");
-        course2.setTitle("Python Programming");
-        course2.setDescription("Complete Python programming course");
-        course2.setPrice(89.99);
+        CourseListing listing = listing("course-123", "Java Programming");
+        CourseListing listing2 = listing("course-456", "Python Programming");
 
         CourseResponseDTO courseResponseDTO2 = new CourseResponseDTO();
         courseResponseDTO2.setTitle("Python Programming");
         courseResponseDTO2.setDescription("Complete Python programming course");
         courseResponseDTO2.setPrice(89.99);
 
-        List<Course> courses = Arrays.asList(course, course2);
+        List<CourseListing> listings = Arrays.asList(listing, listing2);
         List<CourseResponseDTO> courseResponseDTOs = Arrays.asList(courseResponseDTO, courseResponseDTO2);
 
-        when(courseRepository.findAll()).thenReturn(courses);
-        when(courseMapper.toResponseDtoList(courses)).thenReturn(courseResponseDTOs);
+        when(courseListingRepository.findAll()).thenReturn(listings);
+        when(courseMapper.listingsToResponseDtoList(listings)).thenReturn(courseResponseDTOs);
 
         List<CourseResponseDTO> result = courseService.getAllCourses();
 
@@ -204,19 +308,20 @@ class CourseServiceImplTest {
         assertThat(result.get(0).getTitle()).isEqualTo("Java Programming");
         assertThat(result.get(1).getTitle()).isEqualTo("Python Programming");
 
-        verify(courseRepository, times(1)).findAll();
-        verify(courseMapper, times(1)).toResponseDtoList(courses);
+        verify(courseListingRepository, times(1)).findAll();
+        verify(courseMapper, times(1)).listingsToResponseDtoList(listings);
+        verifyNoInteractions(courseRepository);
     }
 
     @Test
-    @DisplayName("Should get paginated courses successfully")
+    @DisplayName("Should get paginated courses from the listing read model")
     void givenPageableRequest_whenGetAllCourses_thenReturnPageOfCourses() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Course> courses = Arrays.asList(course);
-        Page<Course> coursePage = new PageImpl<>(courses, pageable, 1);
+        CourseListing listing = listing("course-123", "Java Programming");
+        Page<CourseListing> listingPage = new PageImpl<>(List.of(listing), pageable, 1);
 
-        when(courseRepository.findAll(pageable)).thenReturn(coursePage);
-        when(courseMapper.toResponseDto(course)).thenReturn(courseResponseDTO);
+        when(courseListingRepository.findAll(pageable)).thenReturn(listingPage);
+        when(courseMapper.listingToResponseDto(listing)).thenReturn(courseResponseDTO);
 
         Page<CourseResponseDTO> result = courseService.getAllCourses(pageable);
 
@@ -228,8 +333,9 @@ class CourseServiceImplTest {
         assertThat(result.getSize()).isEqualTo(10);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Java Programming");
 
-        verify(courseRepository, times(1)).findAll(pageable);
-        verify(courseMapper, times(1)).toResponseDto(course);
+        verify(courseListingRepository, times(1)).findAll(pageable);
+        verify(courseMapper, times(1)).listingToResponseDto(listing);
+        verifyNoInteractions(courseRepository);
     }
 
     @Test
@@ -237,26 +343,29 @@ class CourseServiceImplTest {
     void givenValidCourseId_whenDeleteCourse_thenCourseIsDeleted() {
         String courseId = "course-123";
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        doNothing().when(courseRepository).deleteById(courseId);
+        when(courseRepository.save(course)).thenReturn(course);
 
         courseService.deleteCourse(courseId);
 
+        assertThat(course.getDeletedAt()).isNotNull();
         verify(courseRepository, times(1)).findById(courseId);
-        verify(courseRepository, times(1)).deleteById(courseId);
+        verify(courseRepository, times(1)).save(course);
+        verify(courseRepository, never()).deleteById(any());
     }
 
     @Test
-    @DisplayName("Should delete course with lecturer successfully")
-    void givenCourseWithLecturer_whenDeleteCourse_thenCourseAndLecturerRelationshipRemoved() {
+    @DisplayName("Should delete course with lecturer and keep the assignment for a restore")
+    void givenCourseWithLecturer_whenDeleteCourse_thenCourseTombstonedWithLecturerKept() {
         String courseId = "course-123";
         course.setLecturer(lecturer);
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        doNothing().when(courseRepository).deleteById(courseId);
+        when(courseRepository.save(course)).thenReturn(course);
 
         courseService.deleteCourse(courseId);
 
-        verify(courseRepository, times(1)).findById(courseId);
-        verify(courseRepository, times(1)).deleteById(courseId);
+        assertThat(course.getDeletedAt()).isNotNull();
+        assertThat(course.getLecturer()).isSameAs(lecturer);
+        verify(courseRepository, times(1)).save(course);
     }
 
 
@@ -271,8 +380,56 @@ class CourseServiceImplTest {
                 .hasMessage("Course not found with id: " + courseId);
 
         verify(courseRepository, times(1)).findById(courseId);
-        verify(courseRepository, never()).deleteById(any());
+        verify(courseRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+
+    @Test
+    @DisplayName("Should select only the requested columns, id first")
+    void givenFields_whenGetAllCourseFields_thenReaderSelectsRequestedAttributes() {
+        Map<String, Object> row = Map.of("id", "course-123", "price", 99.99);
+        when(sparseFieldsetReader.findAll(CourseListing.class, List.of("id", "title", "price"))).thenReturn(List.of(row));
+
+        List<Map<String, Object>> result = courseService.getAllCourseFields(Set.of("price", "title"));
+
+        assertThat(result).containsExactly(row);
+        verifyNoInteractions(courseRepository, courseMapper);
     }
 
+    @Test
+    @DisplayName("Should reject unknown fields before querying")
+    void givenUnknownField_whenGetAllCourseFields_thenThrowInvalidFieldSelectionException() {
+        assertThatThrownBy(() -> courseService.getAllCourseFields(Set.of("title", "lecturer")))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageContaining("[lecturer]");
+
+        verifyNoInteractions(sparseFieldsetReader);
+    }
 
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when the projected course does not exist")
+    void givenNonExistentCourseId_whenGetCourseFields_thenThrowResourceNotFoundException() {
+        String courseId = "non-existent-course";
+        when(sparseFieldsetReader.findById(Course.class, courseId, List.of("id", "title"))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> courseService.getCourseFields(courseId, Set.of("title")))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Course not found with id: " + courseId);
+
+        verify(negativeLookupCache).recordMissing(EntityType.COURSE, courseId);
+    }
+
+    private static CourseListing listing(String id, String title) {
+        CourseListing listing = new CourseListing();
+        listing.setId(id);
+        listing.setTitle(title);
+        listing.setDescription("Complete programming course");
+        listing.setPrice(99.99);
+        listing.setLecturerId("lecturer-123");
+        listing.setLecturerFirstName("John");
+        listing.setLecturerLastName("Doe");
+        listing.setLecturerDepartment("Computer Science");
+        return listing;
+    }
 }
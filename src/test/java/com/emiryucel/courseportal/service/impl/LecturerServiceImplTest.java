@@ -1,21 +1,34 @@
 package com.emiryucel.courseportal.service.impl;
 
+import com.emiryucel.courseportal.cache.NegativeLookupCache;
 import com.emiryucel.courseportal.dto.LecturerDTO;
 import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
 import com.emiryucel.courseportal.exception.DuplicateResourceException;
 import com.emiryucel.courseportal.exception.ResourceNotFoundException;
 import com.emiryucel.courseportal.mapper.LecturerMapper;
 import com.emiryucel.courseportal.model.Course;
 import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.patch.JsonMergePatcher;
 import com.emiryucel.courseportal.repository.CourseRepository;
 import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.repository.SparseFieldsetReader;
+import com.emiryucel.courseportal.shard.CourseRelocator;
+import com.emiryucel.courseportal.shard.ShardExecutor;
+import com.emiryucel.courseportal.shard.ShardMap;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -27,6 +40,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +56,24 @@ class LecturerServiceImplTest {
     @Mock
     private LecturerMapper lecturerMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private JsonMergePatcher jsonMergePatcher;
+
+    @Mock
+    private SparseFieldsetReader sparseFieldsetReader;
+
+    @Mock
+    private ObjectProvider<CourseRelocator> courseRelocator;
+
+    @Spy
+    private ShardExecutor shardExecutor = new ShardExecutor(ShardMap.single(), null);
+
     @InjectMocks
     private LecturerServiceImpl lecturerService;
 
@@ -89,7 +121,7 @@ class LecturerServiceImplTest {
     @Test
     @DisplayName("Should create lecturer successfully")
     void givenValidLecturerDTO_whenCreateLecturer_thenReturnLecturerResponseDTO() {
-        when(lecturerRepository.findByEmail(lecturerDTO.getEmail())).thenReturn(Optional.empty());
+        when(lecturerRepository.existsByEmailIncludingDeleted(lecturerDTO.getEmail())).thenReturn(false);
         when(lecturerMapper.toEntity(lecturerDTO)).thenReturn(lecturer);
         when(lecturerRepository.save(lecturer)).thenReturn(lecturer);
         when(lecturerMapper.toResponseDto(lecturer)).thenReturn(lecturerResponseDTO);
@@ -103,7 +135,7 @@ class LecturerServiceImplTest {
         assertThat(result.getDepartment()).isEqualTo("Computer Science");
         assertThat(result.getBio()).isEqualTo("Experienced professor with 10 years of teaching experience");
 
-        verify(lecturerRepository, times(1)).findByEmail(lecturerDTO.getEmail());
+        verify(lecturerRepository, times(1)).existsByEmailIncludingDeleted(lecturerDTO.getEmail());
         verify(lecturerMapper, times(1)).toEntity(lecturerDTO);
         verify(lecturerRepository, times(1)).save(lecturer);
         verify(lecturerMapper, times(1)).toResponseDto(lecturer);
@@ -112,13 +144,13 @@ class LecturerServiceImplTest {
     @Test
     @DisplayName("Should throw DuplicateResourceException when creating lecturer with existing email")
     void givenExistingEmail_whenCreateLecturer_thenThrowDuplicateResourceException() {
-        when(lecturerRepository.findByEmail(lecturerDTO.getEmail())).thenReturn(Optional.of(lecturer));
+        when(lecturerRepository.existsByEmailIncludingDeleted(lecturerDTO.getEmail())).thenReturn(true);
 
         assertThatThrownBy(() -> lecturerService.createLecturer(lecturerDTO))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Email already exists: " + lecturerDTO.getEmail());
 
-        verify(lecturerRepository, times(1)).findByEmail(lecturerDTO.getEmail());
+        verify(lecturerRepository, times(1)).existsByEmailIncludingDeleted(lecturerDTO.getEmail());
         verify(lecturerMapper, never()).toEntity(any());
         verify(lecturerRepository, never()).save(any());
         verify(lecturerMapper, never()).toResponseDto(any());
@@ -150,7 +182,7 @@ class LecturerServiceImplTest {
 
         verify(lecturerRepository, times(1)).findById(lecturerId);
 
-        verify(lecturerRepository, never()).findByEmail(lecturerDTO.getEmail());
+        verify(lecturerRepository, never()).existsByEmailIncludingDeleted(lecturerDTO.getEmail());
         verify(lecturerMapper, times(1)).updateEntityFromDto(lecturerDTO, existingLecturer);
         verify(lecturerRepository, times(1)).save(existingLecturer);
         verify(lecturerMapper, times(1)).toResponseDto(lecturer);
@@ -175,7 +207,7 @@ class LecturerServiceImplTest {
         existingLecturer.setFirstName("John");
 
         when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(existingLecturer));
-        when(lecturerRepository.findByEmail(newEmail)).thenReturn(Optional.empty());
+        when(lecturerRepository.existsByEmailIncludingDeleted(newEmail)).thenReturn(false);
         doNothing().when(lecturerMapper).updateEntityFromDto(updateDTO, existingLecturer);
         when(lecturerRepository.save(existingLecturer)).thenReturn(lecturer);
         when(lecturerMapper.toResponseDto(lecturer)).thenReturn(lecturerResponseDTO);
@@ -184,7 +216,7 @@ class LecturerServiceImplTest {
 
         assertThat(result).isNotNull();
         verify(lecturerRepository, times(1)).findById(lecturerId);
-        verify(lecturerRepository, times(1)).findByEmail(newEmail);
+        verify(lecturerRepository, times(1)).existsByEmailIncludingDeleted(newEmail);
         verify(lecturerMapper, times(1)).updateEntityFromDto(updateDTO, existingLecturer);
         verify(lecturerRepository, times(1)).save(existingLecturer);
         verify(lecturerMapper, times(1)).toResponseDto(lecturer);
@@ -201,7 +233,7 @@ class LecturerServiceImplTest {
                 .hasMessage("Lecturer not found with id: " + lecturerId);
 
         verify(lecturerRepository, times(1)).findById(lecturerId);
-        verify(lecturerRepository, never()).findByEmail(any());
+        verify(lecturerRepository, never()).existsByEmailIncludingDeleted(any());
         verify(lecturerMapper, never()).updateEntityFromDto(any(), any());
         verify(lecturerRepository, never()).save(any());
         verify(lecturerMapper, never()).toResponseDto(any());
@@ -225,19 +257,42 @@ class LecturerServiceImplTest {
         anotherLecturer.setEmail(newEmail);
 
         when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(existingLecturer));
-        when(lecturerRepository.findByEmail(newEmail)).thenReturn(Optional.of(anotherLecturer));
+        when(lecturerRepository.existsByEmailIncludingDeleted(newEmail)).thenReturn(true);
 
         assertThatThrownBy(() -> lecturerService.updateLecturer(lecturerId, updateDTO))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Email already exists: " + newEmail);
 
         verify(lecturerRepository, times(1)).findById(lecturerId);
-        verify(lecturerRepository, times(1)).findByEmail(newEmail);
+        verify(lecturerRepository, times(1)).existsByEmailIncludingDeleted(newEmail);
         verify(lecturerMapper, never()).updateEntityFromDto(any(), any());
         verify(lecturerRepository, never()).save(any());
         verify(lecturerMapper, never()).toResponseDto(any());
     }
 
+    @Test
+    @DisplayName("Should reject merge patch that changes email to an existing one")
+    void givenPatchWithExistingEmail_whenPatchLecturer_thenThrowDuplicateResourceException() {
+        String lecturerId = "lecturer-123";
+        String newEmail = "existing@university.edu";
+        JsonNode patch = JsonNodeFactory.instance.objectNode().put("email", newEmail);
+        LecturerDTO current = new LecturerDTO();
+        LecturerDTO patched = new LecturerDTO();
+        patched.setEmail(newEmail);
+
+        when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(lecturer));
+        when(lecturerMapper.toDto(lecturer)).thenReturn(current);
+        when(jsonMergePatcher.apply(patch, current)).thenReturn(patched);
+        when(lecturerRepository.existsByEmailIncludingDeleted(newEmail)).thenReturn(true);
+
+        assertThatThrownBy(() -> lecturerService.patchLecturer(lecturerId, patch))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Email already exists: " + newEmail);
+
+        verify(lecturerMapper, never()).patchEntityFromDto(any(), any());
+        verify(lecturerRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should get lecturer by id successfully")
     void givenValidLecturerId_whenGetLecturerById_thenReturnLecturerResponseDTO() {
@@ -271,6 +326,33 @@ class LecturerServiceImplTest {
         verify(lecturerMapper, never()).toResponseDto(any());
     }
 
+    @Test
+    @DisplayName("Should load lecturer with courses through the entity graph")
+    void givenValidLecturerId_whenGetLecturerWithCourses_thenUseFetchQuery() {
+        String lecturerId = "lecturer-123";
+        when(lecturerRepository.findWithCoursesById(lecturerId)).thenReturn(Optional.of(lecturer));
+        when(lecturerMapper.toResponseDtoWithCourses(lecturer)).thenReturn(lecturerResponseDTO);
+
+        LecturerResponseDTO result = lecturerService.getLecturerWithCourses(lecturerId);
+
+        assertThat(result).isEqualTo(lecturerResponseDTO);
+        verify(lecturerRepository, never()).findById(any());
+        verify(lecturerMapper, never()).toResponseDto(any());
+    }
+
+    @Test
+    @DisplayName("Should load all lecturers with courses in a single repository call")
+    void givenLecturersExist_whenGetAllLecturersWithCourses_thenUseFetchQuery() {
+        List<Lecturer> lecturers = List.of(lecturer);
+        when(lecturerRepository.findAllWithCourses()).thenReturn(lecturers);
+        when(lecturerMapper.toResponseDtoListWithCourses(lecturers)).thenReturn(List.of(lecturerResponseDTO));
+
+        List<LecturerResponseDTO> result = lecturerService.getAllLecturersWithCourses();
+
+        assertThat(result).containsExactly(lecturerResponseDTO);
+        verify(lecturerRepository, never()).findAll();
+    }
+
     @Test
     @DisplayName("Should get all lecturers successfully")
     void givenLecturersExist_whenGetAllLecturers_thenReturnListOfLecturers() {
@@ -315,12 +397,15 @@ class LecturerServiceImplTest {
         lecturer.setCourses(courses);
 
         when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(lecturer));
-        doNothing().when(lecturerRepository).deleteById(lecturerId);
+        when(lecturerRepository.save(lecturer)).thenReturn(lecturer);
 
         lecturerService.deleteLecturer(lecturerId);
 
+        assertThat(lecturer.getDeletedAt()).isNotNull();
         verify(lecturerRepository, times(1)).findById(lecturerId);
-        verify(lecturerRepository, times(1)).deleteById(lecturerId);
+        verify(courseRepository, times(1)).softDeleteAllByLecturerId(lecturerId, lecturer.getDeletedAt());
+        verify(lecturerRepository, times(1)).save(lecturer);
+        verify(lecturerRepository, never()).deleteById(any());
     }
 
     @Test
@@ -334,7 +419,7 @@ class LecturerServiceImplTest {
                 .hasMessage("Lecturer not found with id: " + lecturerId);
 
         verify(lecturerRepository, times(1)).findById(lecturerId);
-        verify(lecturerRepository, never()).deleteById(any());
+        verify(lecturerRepository, never()).save(any());
     }
 
     @Test
@@ -358,6 +443,10 @@ class LecturerServiceImplTest {
         verify(courseRepository, times(1)).findById(courseId);
         verify(lecturerRepository, times(1)).save(lecturer);
         verify(lecturerMapper, times(1)).toResponseDto(lecturer);
+        verify(eventPublisher, times(1)).publishEvent(argThat((EntityChangedEvent event) ->
+                event.changeType() == ChangeType.ASSIGNED
+                        && event.relatedId().equals(courseId)
+                        && event.course().lecturerId().equals(lecturerId)));
     }
 
     @Test
@@ -405,6 +494,7 @@ class LecturerServiceImplTest {
         String lecturerId = "lecturer-123";
         String courseId = "course-123";
 
+        lecturer.addCourse(course);
         when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(lecturer));
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
         when(lecturerRepository.save(lecturer)).thenReturn(lecturer);
@@ -413,6 +503,8 @@ class LecturerServiceImplTest {
         LecturerResponseDTO result = lecturerService.removeCourse(lecturerId, courseId);
 
         assertThat(result).isNotNull();
+        assertThat(course.getDeletedAt()).isNotNull();
+        assertThat(course.getLecturer()).isNull();
         assertThat(result.getFirstName()).isEqualTo(lecturer.getFirstName());
 
         verify(lecturerRepository, times(1)).findById(lecturerId);
@@ -460,5 +552,25 @@ class LecturerServiceImplTest {
         verify(lecturerMapper, never()).toResponseDto(any());
     }
 
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException and keep the course when it belongs to another lecturer")
+    void givenCourseOfOtherLecturer_whenRemoveCourse_thenThrowResourceNotFoundException() {
+        String lecturerId = "lecturer-123";
+        String courseId = "course-123";
+        Lecturer owner = new Lecturer();
+        owner.setId("lecturer-456");
+        owner.setCourses(new HashSet<>());
+        owner.addCourse(course);
+
+        when(lecturerRepository.findById(lecturerId)).thenReturn(Optional.of(lecturer));
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+
+        assertThatThrownBy(() -> lecturerService.removeCourse(lecturerId, courseId))
+                .isInstanceOf(ResourceNotFoundException.class);
 
+        assertThat(course.getDeletedAt()).isNull();
+        assertThat(course.getLecturer()).isEqualTo(owner);
+        verify(lecturerRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
@@ -0,0 +1,77 @@
+package com.emiryucel.courseportal.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Shard Map Tests")
+class ShardMapTest {
+
+    @Test
+    @DisplayName("Should split buckets evenly when no shard lists its buckets")
+    void givenShardsWithoutBuckets_whenBuilt_thenBucketsSplitEvenly() {
+        ShardMap shardMap = ShardMap.of(8, List.of(shard("a", null), shard("b", null)));
+
+        long onA = IntStream.range(0, 1000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .filter(key -> shardMap.shardOf(key).equals("a"))
+                .count();
+
+        assertThat(shardMap.shardNames()).containsExactly("a", "b");
+        assertThat(shardMap.isSharded()).isTrue();
+        assertThat(onA).isBetween(400L, 600L);
+    }
+
+    @Test
+    @DisplayName("Should route a key to the shard owning its bucket")
+    void givenExplicitRanges_whenShardOf_thenOwnerOfBucket() {
+        ShardMap shardMap = ShardMap.of(4, List.of(shard("a", "0,3"), shard("b", "1-2")));
+        String key = "lecturer-42";
+
+        String expected = switch (shardMap.bucketOf(key)) {
+            case 0, 3 -> "a";
+            default -> "b";
+        };
+
+        assertThat(shardMap.shardOf(key)).isEqualTo(expected);
+        assertThat(shardMap.bucketOf(key)).isEqualTo(ShardMap.of(4, List.of(shard("x", null))).bucketOf(key));
+    }
+
+    @Test
+    @DisplayName("Should reject maps that leave a bucket unowned or give it two owners")
+    void givenInvalidRanges_whenBuilt_thenRejected() {
+        assertThatThrownBy(() -> ShardMap.of(4, List.of(shard("a", "0-1"), shard("b", "3"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Bucket 2");
+        assertThatThrownBy(() -> ShardMap.of(4, List.of(shard("a", "0-2"), shard("b", "2-3"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("owned by both");
+        assertThatThrownBy(() -> ShardMap.of(4, List.of(shard("a", "0-1"), shard("b", null))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should generate ids that hash to the bound shard")
+    void givenBoundShard_whenNewId_thenIdHashesToShard() {
+        ShardMap shardMap = ShardMap.of(16, List.of(shard("a", null), shard("b", null), shard("c", null)));
+
+        ShardContext.Binding previous = ShardContext.bind(shardMap, "c");
+        try {
+            for (int i = 0; i < 50; i++) {
+                assertThat(shardMap.shardOf(ShardContext.newId())).isEqualTo("c");
+            }
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private static ShardingProperties.Shard shard(String name, String buckets) {
+        return new ShardingProperties.Shard(name, null, null, null, buckets);
+    }
+}
@@ -0,0 +1,239 @@
+package com.emiryucel.courseportal.shard;
+
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.dto.LecturerDTO;
+import com.emiryucel.courseportal.dto.LecturerResponseDTO;
+import com.emiryucel.courseportal.exception.DuplicateResourceException;
+import com.emiryucel.courseportal.exception.ResourceNotFoundException;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "courseportal.sharding.enabled=true",
+        "courseportal.sharding.buckets=64",
+        "courseportal.sharding.shards[0].name=a",
+        "courseportal.sharding.shards[0].url=jdbc:h2:mem:sharded-catalog-a;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "courseportal.sharding.shards[0].username=sa",
+        "courseportal.sharding.shards[1].name=b",
+        "courseportal.sharding.shards[1].url=jdbc:h2:mem:sharded-catalog-b;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "courseportal.sharding.shards[1].username=sa",
+        "courseportal.sharding.shards[2].name=c",
+        "courseportal.sharding.shards[2].url=jdbc:h2:mem:sharded-catalog-c;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "courseportal.sharding.shards[2].username=sa"
+})
+@DisplayName("Sharded Catalog Integration Tests")
+class ShardedCatalogIntegrationTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private ShardMap shardMap;
+
+    @Autowired
+    private CourseRelocator courseRelocator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Map<String, JdbcTemplate> shards;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        shards = new LinkedHashMap<>();
+        dataSource.unwrap(ShardRoutingDataSource.class).getResolvedDataSources()
+                .forEach((name, shard) -> shards.put((String) name, new JdbcTemplate(shard)));
+        shards.values().forEach(jdbc -> {
+            jdbc.update("delete from course_relocation");
+            jdbc.update("delete from course_listing");
+            jdbc.update("delete from course");
+            jdbc.update("delete from lecturer");
+        });
+    }
+
+    @Test
+    @DisplayName("Should store every row only on the shard its id hashes to")
+    void givenCreatedRows_whenInspectingShards_thenEachRowOnItsOwnShard() {
+        List<String> lecturerIds = new ArrayList<>();
+        List<String> courseIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            lecturerIds.add(lecturerService.createLecturer(lecturer("ada" + i + "@example.com")).getId());
+            courseIds.add(courseService.createCourse(course("Course " + i, 10.0 + i)).getId());
+        }
+
+        List<String> ids = new ArrayList<>(lecturerIds);
+        ids.addAll(courseIds);
+        for (String id : ids) {
+            shards.forEach((name, jdbc) -> assertThat(countById(jdbc, id))
+                    .as("row %s on shard %s", id, name)
+                    .isEqualTo(name.equals(shardMap.shardOf(id)) ? 1 : 0));
+        }
+        // creates are spread round-robin
+        shards.values().forEach(jdbc -> assertThat(count(jdbc, "course") + count(jdbc, "lecturer")).isEqualTo(4));
+        lecturerIds.forEach(id -> assertThat(lecturerService.getLecturerById(id).getId()).isEqualTo(id));
+        courseIds.forEach(id -> assertThat(courseService.getCourseById(id).getId()).isEqualTo(id));
+    }
+
+    @Test
+    @DisplayName("Should gather listings from every shard and merge pages in sort order")
+    void givenRowsOnEveryShard_whenListing_thenMergedAcrossShards() {
+        List<CourseResponseDTO> created = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            created.add(courseService.createCourse(course("Course " + i, (i * 37 % 9) + 1.0)));
+            lecturerService.createLecturer(lecturer("ada" + i + "@example.com"));
+        }
+        created.sort(Comparator.comparing(CourseResponseDTO::getPrice).reversed());
+
+        Page<CourseResponseDTO> page = courseService.getAllCourses(PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "price")));
+
+        assertThat(courseService.getAllCourses()).hasSize(9);
+        assertThat(lecturerService.getAllLecturers()).hasSize(9);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getContent()).extracting(CourseResponseDTO::getId)
+                .containsExactlyElementsOf(created.subList(4, 8).stream().map(CourseResponseDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should move a course to its lecturer's shard on assignment and still find it by id")
+    void givenCourseOnOtherShard_whenAssigned_thenMovedToLecturerShard() {
+        LecturerResponseDTO lecturer = lecturerService.createLecturer(lecturer("ada1@example.com"));
+        String lecturerShard = shardMap.shardOf(lecturer.getId());
+        CourseResponseDTO course = courseService.createCourse(course("Distributed Systems", 99.0));
+        while (shardMap.shardOf(course.getId()).equals(lecturerShard)) {
+            course = courseService.createCourse(course("Distributed Systems", 99.0));
+        }
+        String courseId = course.getId();
+        LocalDateTime createdAt = createdAt(shards.get(shardMap.shardOf(courseId)), courseId);
+
+        lecturerService.assignCourse(lecturer.getId(), courseId);
+
+        shards.forEach((name, jdbc) -> assertThat(countById(jdbc, courseId)).isEqualTo(name.equals(lecturerShard) ? 1 : 0));
+        shards.values().forEach(jdbc -> assertThat(count(jdbc, "course_relocation")).isZero());
+        assertThat(createdAt(shards.get(lecturerShard), courseId)).isEqualTo(createdAt);
+        assertThat(courseService.getCourseById(courseId).getTitle()).isEqualTo("Distributed Systems");
+        assertThat(lecturerService.getLecturerWithCourses(lecturer.getId()).getCourses())
+                .extracting(CourseResponseDTO::getId).containsExactly(courseId);
+    }
+
+    @Test
+    @DisplayName("Should delete the original of a moved course on reconcile when the delete after the move failed")
+    void givenOriginalLeftAfterMove_whenReconciled_thenOriginalDeleted() {
+        LecturerResponseDTO lecturer = lecturerService.createLecturer(lecturer("ada1@example.com"));
+        String lecturerShard = shardMap.shardOf(lecturer.getId());
+        CourseResponseDTO course = courseService.createCourse(course("Distributed Systems", 99.0));
+        while (shardMap.shardOf(course.getId()).equals(lecturerShard)) {
+            course = courseService.createCourse(course("Distributed Systems", 99.0));
+        }
+        String courseId = course.getId();
+        String sourceShard = shardMap.shardOf(courseId);
+        lecturerService.assignCourse(lecturer.getId(), courseId);
+
+        // what a failed delete after the commit leaves behind: the original, and the move still recorded
+        LocalDateTime createdAt = createdAt(shards.get(lecturerShard), courseId);
+        shards.get(sourceShard).update("insert into course (id, title, description, price, created_at, updated_at) "
+                + "values (?, 'Distributed Systems', 'Original', 99.0, ?, ?)", courseId, createdAt, createdAt);
+        shards.get(lecturerShard).update("insert into course_relocation (id, source_shard, moved_at) values (?, ?, ?)",
+                courseId, sourceShard, LocalDateTime.now());
+
+        assertThat(courseRelocator.reconcile()).isEqualTo(1);
+
+        shards.forEach((name, jdbc) -> assertThat(countById(jdbc, courseId)).isEqualTo(name.equals(lecturerShard) ? 1 : 0));
+        shards.values().forEach(jdbc -> assertThat(count(jdbc, "course_relocation")).isZero());
+    }
+
+    @Test
+    @DisplayName("Should answer for a course id missing on every shard from the negative cache")
+    void givenCourseMissingOnEveryShard_whenLookedUpAgain_thenServedFromNegativeCache() {
+        String courseId = UUID.randomUUID().toString();
+        assertThatThrownBy(() -> courseService.getCourseById(courseId)).isInstanceOf(ResourceNotFoundException.class);
+
+        // written behind the application's back, so only a database read could find it
+        String otherShard = shards.keySet().stream()
+                .filter(name -> !name.equals(shardMap.shardOf(courseId))).findFirst().orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        shards.get(otherShard).update("insert into course (id, title, description, price, created_at, updated_at) "
+                + "values (?, 'Hidden', 'Hidden', 1.0, ?, ?)", courseId, now, now);
+
+        assertThatThrownBy(() -> courseService.getCourseById(courseId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave a course on its shard, with its lecturer and listing, when the assignment fails")
+    void givenMissingLecturer_whenAssigningCourseFromOtherShard_thenCourseUntouched() {
+        LecturerResponseDTO owner = lecturerService.createLecturer(lecturer("ada1@example.com"));
+        String ownerShard = shardMap.shardOf(owner.getId());
+        String missingLecturer = "missing-lecturer-0";
+        for (int i = 1; shardMap.shardOf(missingLecturer).equals(ownerShard); i++) {
+            missingLecturer = "missing-lecturer-" + i;
+        }
+        String courseId = courseService.createCourse(course("Compilers", 45.0)).getId();
+        lecturerService.assignCourse(owner.getId(), courseId);
+
+        String lecturerId = missingLecturer;
+        assertThatThrownBy(() -> lecturerService.assignCourse(lecturerId, courseId))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        JdbcTemplate ownerJdbc = shards.get(ownerShard);
+        shards.forEach((name, jdbc) -> assertThat(countById(jdbc, courseId)).isEqualTo(name.equals(ownerShard) ? 1 : 0));
+        assertThat(ownerJdbc.queryForObject("select lecturer_id from course where id = ?", String.class, courseId))
+                .isEqualTo(owner.getId());
+        assertThat(ownerJdbc.queryForObject("select count(*) from course_listing where id = ?", Integer.class, courseId))
+                .isEqualTo(1);
+        assertThat(courseService.getCourseById(courseId).getTitle()).isEqualTo("Compilers");
+    }
+
+    @Test
+    @DisplayName("Should reject an email already used by a lecturer on another shard")
+    void givenEmailOnAnotherShard_whenCreatingLecturer_thenDuplicate() {
+        for (int i = 0; i < shards.size(); i++) {
+            lecturerService.createLecturer(lecturer("ada" + i + "@example.com"));
+        }
+        LecturerDTO duplicate = lecturer("ada0@example.com");
+
+        // round-robin placement puts each attempt on a different shard than the last
+        for (int i = 0; i < shards.size(); i++) {
+            assertThatThrownBy(() -> lecturerService.createLecturer(duplicate))
+                    .isInstanceOf(DuplicateResourceException.class);
+        }
+    }
+
+    private static int countById(JdbcTemplate jdbc, String id) {
+        return jdbc.queryForObject("select (select count(*) from course where id = ?) + "
+                + "(select count(*) from lecturer where id = ?)", Integer.class, id, id);
+    }
+
+    private static int count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static LocalDateTime createdAt(JdbcTemplate jdbc, String courseId) {
+        return jdbc.queryForObject("select created_at from course where id = ?", LocalDateTime.class, courseId);
+    }
+}
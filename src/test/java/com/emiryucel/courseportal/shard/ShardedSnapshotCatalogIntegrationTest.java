@@ -0,0 +1,25 @@
+package com.emiryucel.courseportal.shard;
+
+import com.emiryucel.courseportal.snapshot.InMemoryCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the sharded catalog tests through the in-memory snapshot decorators, which must leave routing to
+ * the services they wrap.
+ */
+@TestPropertySource(properties = "courseportal.snapshot.enabled=true")
+@DisplayName("Sharded Catalog with In-Memory Snapshot Integration Tests")
+class ShardedSnapshotCatalogIntegrationTest extends ShardedCatalogIntegrationTest {
+
+    @Autowired
+    private InMemoryCatalog inMemoryCatalog;
+
+    // the shards were just emptied behind the catalog's back
+    @BeforeEach
+    void reloadCatalog() {
+        inMemoryCatalog.reconcile();
+    }
+}
@@ -0,0 +1,79 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.emiryucel.courseportal.TestFixtures.assignment;
+import static com.emiryucel.courseportal.TestFixtures.courseEvent;
+import static com.emiryucel.courseportal.TestFixtures.courseSnapshot;
+import static com.emiryucel.courseportal.TestFixtures.lecturerEvent;
+import static com.emiryucel.courseportal.TestFixtures.lecturerSnapshot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Catalog Snapshot Tests")
+class CatalogSnapshotTest {
+
+    private final CatalogSnapshot empty = new CatalogSnapshot(1, Map.of(), Map.of());
+
+    @Test
+    @DisplayName("Should build the next version and leave the previous one untouched")
+    void givenChanges_whenApplied_thenNewVersionAndOldUnchanged() {
+        CatalogSnapshot next = empty.with(List.of(
+                lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1")),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c1", null)),
+                assignment(ChangeType.ASSIGNED, lecturerSnapshot("l1"), courseSnapshot("c1", "l1"))));
+
+        assertThat(next.version()).isEqualTo(2);
+        assertThat(next.lecturers()).containsOnlyKeys("l1");
+        assertThat(next.courses().get("c1").lecturerId()).isEqualTo("l1");
+        assertThat(empty.courses()).isEmpty();
+        assertThat(empty.lecturers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted lecturer together with its courses")
+    void givenLecturerWithCourses_whenLecturerDeleted_thenCoursesRemoved() {
+        CatalogSnapshot loaded = empty.with(List.of(
+                lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1")),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c1", "l1")),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c2", null))));
+
+        CatalogSnapshot next = loaded.with(List.of(lecturerEvent(ChangeType.DELETED, lecturerSnapshot("l1"))));
+
+        assertThat(next.lecturers()).isEmpty();
+        assertThat(next.courses()).containsOnlyKeys("c2");
+    }
+
+    @Test
+    @DisplayName("Should remove deleted, archived and unlinked courses")
+    void givenCourses_whenDeletedArchivedOrRemoved_thenGone() {
+        CatalogSnapshot loaded = empty.with(List.of(
+                lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1")),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c1", null)),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c2", null)),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c3", "l1")),
+                courseEvent(ChangeType.CREATED, courseSnapshot("c4", null))));
+
+        CatalogSnapshot next = loaded.with(List.of(
+                courseEvent(ChangeType.DELETED, courseSnapshot("c1", null)),
+                courseEvent(ChangeType.ARCHIVED, courseSnapshot("c2", null)),
+                assignment(ChangeType.REMOVED, lecturerSnapshot("l1"), courseSnapshot("c3", "l1"))));
+
+        assertThat(next.courses()).containsOnlyKeys("c4");
+        assertThat(next.lecturers()).containsOnlyKeys("l1");
+    }
+
+    @Test
+    @DisplayName("Should not allow readers to modify a version")
+    void givenSnapshot_whenModified_thenRejected() {
+        CatalogSnapshot loaded = empty.with(List.of(courseEvent(ChangeType.CREATED, courseSnapshot("c1", null))));
+
+        assertThatThrownBy(() -> loaded.courses().remove("c1"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
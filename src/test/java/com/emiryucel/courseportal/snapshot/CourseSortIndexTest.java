@@ -0,0 +1,52 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Course Sort Index Tests")
+class CourseSortIndexTest {
+
+    private final CourseSortIndex byPrice = CourseSortIndex.build(CourseSortIndex.SORTABLE.get("price"), List.of(
+            course("c3", 30.0), course("c1", 10.0), course("c2", 20.0), course("b2", 20.0)));
+
+    @Test
+    @DisplayName("Should slice pages in either direction with ties broken by id")
+    void givenTiedPrices_whenSliced_thenOrderedByPriceThenId() {
+        assertThat(byPrice.slice(0, 3, false)).extracting(CourseSnapshot::id).containsExactly("c1", "b2", "c2");
+        assertThat(byPrice.slice(3, 3, false)).extracting(CourseSnapshot::id).containsExactly("c3");
+        assertThat(byPrice.slice(0, 2, true)).extracting(CourseSnapshot::id).containsExactly("c3", "c2");
+        assertThat(byPrice.slice(10, 2, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge added, moved and removed courses into a new index")
+    void givenChanges_whenUpdated_thenMergedInOrderAndOldIndexUnchanged() {
+        CourseSortIndex updated = byPrice.update(Set.of("c1", "c3", "a0", "b2"),
+                List.of(course("c1", 25.0), course("a0", 5.0)));
+
+        assertThat(updated.slice(0, 10, false)).extracting(CourseSnapshot::id).containsExactly("a0", "c2", "c1");
+        assertThat(byPrice.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should put courses without a creation time last ascending and first descending")
+    void givenMissingCreationTime_whenSorted_thenNullsLastAscending() {
+        CourseSortIndex byCreatedAt = CourseSortIndex.build(CourseSortIndex.SORTABLE.get("createdAt"), List.of(
+                new CourseSnapshot("c1", "Title", "Description", 10.0, null, null, null),
+                new CourseSnapshot("c2", "Title", "Description", 10.0, null, LocalDateTime.of(2024, 1, 1, 0, 0), null)));
+
+        assertThat(byCreatedAt.slice(0, 2, false)).extracting(CourseSnapshot::id).containsExactly("c2", "c1");
+        assertThat(byCreatedAt.slice(0, 2, true)).extracting(CourseSnapshot::id).containsExactly("c1", "c2");
+    }
+
+    private static CourseSnapshot course(String id, Double price) {
+        return new CourseSnapshot(id, "Title", "Description", price, null, null, null);
+    }
+}
@@ -0,0 +1,176 @@
+package com.emiryucel.courseportal.snapshot;
+
+import com.emiryucel.courseportal.dto.CourseDTO;
+import com.emiryucel.courseportal.dto.CourseResponseDTO;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.snapshot.enabled=true",
+        "courseportal.snapshot.reconcile-interval=1h"
+})
+@AutoConfigureMockMvc
+@DisplayName("In-Memory Catalog Integration Tests")
+class InMemoryCatalogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    @Qualifier("courseServiceImpl")
+    private CourseService courseServiceImpl;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private InMemoryCatalog inMemoryCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from lecturer");
+        inMemoryCatalog.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should serve lists from memory until the next reconcile picks up rows written behind its back")
+    void givenRowInsertedDirectly_whenListing_thenOnlyVisibleAfterReconcile() throws Exception {
+        courseService.createCourse(course("Compilers"));
+        insertCourseDirectly("direct-1", "Written Behind The Catalog");
+
+        mockMvc.perform(get("/course"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Compilers"));
+
+        inMemoryCatalog.reconcile();
+
+        mockMvc.perform(get("/course"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database for a course the snapshot does not hold")
+    void givenCourseMissingFromSnapshot_whenFetchedById_thenServedFromDatabase() throws Exception {
+        insertCourseDirectly("direct-2", "Only In The Database");
+
+        mockMvc.perform(get("/course/{id}", "direct-2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Only In The Database"));
+        mockMvc.perform(get("/course/{id}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should publish a new version for each committed write and none for a rolled back one")
+    void givenWrites_whenCommittedOrRolledBack_thenOnlyCommittedVisible() {
+        long version = inMemoryCatalog.current().version();
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        String courseId = courseService.createCourse(course("Analytical Engines")).getId();
+        lecturerService.assignCourse(lecturerId, courseId);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            courseService.createCourse(course("Never Committed"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(inMemoryCatalog.current().version()).isEqualTo(version + 3);
+        assertThat(courseService.getAllCourses()).singleElement().satisfies(course -> {
+            assertThat(course.getId()).isEqualTo(courseId);
+            assertThat(course.getLecturerFirstName()).isEqualTo("Ada");
+        });
+        assertThat(lecturerService.getLecturerWithCourses(lecturerId).getCourses())
+                .extracting(CourseResponseDTO::getId).containsExactly(courseId);
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted lecturer and its courses from the lists")
+    void givenLecturerWithCourses_whenDeleted_thenGoneFromLists() throws Exception {
+        String lecturerId = lecturerService.createLecturer(lecturer("ada@university.edu")).getId();
+        lecturerService.assignCourse(lecturerId, courseService.createCourse(course("Owned Course")).getId());
+        String standalone = courseService.createCourse(course("Standalone Course")).getId();
+
+        lecturerService.deleteLecturer(lecturerId);
+
+        mockMvc.perform(get("/lecturer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/course"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(standalone));
+    }
+
+    @Test
+    @DisplayName("Should page through the sort index in the same order as the database, following later writes")
+    void givenIndexedSort_whenPaging_thenMatchesDatabaseOrder() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            courseService.createCourse(withPrice(course("Course " + i), i % 2 == 0 ? 10.0 : 20.0));
+        }
+        String cheapest = courseService.createCourse(withPrice(course("Cheapest"), 5.0)).getId();
+        courseService.patchCourse(cheapest, objectMapper.createObjectNode().put("price", 99.0));
+
+        PageRequest secondPage = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "price", "id"));
+        Page<CourseResponseDTO> fromIndex = courseService.getAllCourses(secondPage);
+        Page<CourseResponseDTO> fromDatabase = courseServiceImpl.getAllCourses(secondPage);
+
+        assertThat(fromIndex.getTotalElements()).isEqualTo(6);
+        assertThat(fromIndex.getContent()).extracting(CourseResponseDTO::getId)
+                .containsExactlyElementsOf(fromDatabase.getContent().stream().map(CourseResponseDTO::getId).toList());
+        mockMvc.perform(get("/course/paginated").param("sort", "price,desc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(cheapest))
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+
+    private static CourseDTO withPrice(CourseDTO course, double price) {
+        course.setPrice(price);
+        return course;
+    }
+
+    private void insertCourseDirectly(String id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into course (id, title, description, price, created_at, updated_at) "
+                + "values (?, ?, 'Inserted without going through the service', 10.0, ?, ?)", id, title, now, now);
+    }
+}
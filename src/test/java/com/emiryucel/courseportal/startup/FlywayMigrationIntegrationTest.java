@@ -0,0 +1,53 @@
+package com.emiryucel.courseportal.startup;
+
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ddl-auto=validate fails the context if the migrations drift from the entity mappings
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Flyway Migration Integration Tests")
+class FlywayMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Test
+    @DisplayName("Should migrate to a schema that matches the entity mappings")
+    void givenMigrations_whenContextStarts_thenSchemaValidatesAndAcceptsEntities() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        lecturer.setEmail("ada@university.edu");
+        lecturer.setDepartment("Mathematics");
+        Course course = new Course();
+        course.setTitle("Java Programming");
+        course.setDescription("Complete Java programming course for beginners");
+        course.setPrice(99.99);
+        lecturer.addCourse(course);
+        lecturerRepository.save(lecturer);
+
+        assertThat(courseRepository.findAll()).singleElement()
+                .satisfies(saved -> assertThat(saved.getLecturer().getId()).isEqualTo(lecturer.getId()));
+    }
+}
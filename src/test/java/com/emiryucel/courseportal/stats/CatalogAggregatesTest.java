@@ -0,0 +1,126 @@
+package com.emiryucel.courseportal.stats;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.emiryucel.courseportal.TestFixtures.assignment;
+import static com.emiryucel.courseportal.TestFixtures.courseEvent;
+import static com.emiryucel.courseportal.TestFixtures.courseSnapshot;
+import static com.emiryucel.courseportal.TestFixtures.lecturerEvent;
+import static com.emiryucel.courseportal.TestFixtures.lecturerSnapshot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Catalog Aggregates Tests")
+class CatalogAggregatesTest {
+
+    private final CatalogAggregates aggregates = new CatalogAggregates();
+
+    @Test
+    @DisplayName("Should move price aggregates with course assignment and updates")
+    void givenAssignedCourses_whenPriceChanges_thenDepartmentAggregatesFollow() {
+        aggregates.apply(lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1", "Physics")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c1", 10.0, null)));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c2", 30.0, null)));
+        assertThat(aggregates.unassignedCourses.sum()).isEqualTo(2);
+
+        aggregates.apply(assignment(ChangeType.ASSIGNED, lecturerSnapshot("l1", "Physics"), courseSnapshot("c1", 10.0, "l1")));
+        aggregates.apply(assignment(ChangeType.ASSIGNED, lecturerSnapshot("l1", "Physics"), courseSnapshot("c2", 30.0, "l1")));
+        aggregates.apply(courseEvent(ChangeType.UPDATED, courseSnapshot("c2", 50.0, "l1")));
+
+        DepartmentAggregate physics = aggregates.departments.get("Physics");
+        assertThat(aggregates.courses.sum()).isEqualTo(2);
+        assertThat(aggregates.unassignedCourses.sum()).isZero();
+        assertThat(aggregates.coursesPerLecturer.get("l1").sum()).isEqualTo(2);
+        assertThat(physics.courses()).isEqualTo(2);
+        assertThat(physics.minPrice()).isEqualTo(10.0);
+        assertThat(physics.maxPrice()).isEqualTo(50.0);
+        assertThat(physics.averagePrice()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should keep min and max exact when the extreme course is removed")
+    void givenExtremePriceRemoved_whenCourseDeleted_thenNextExtremeReported() {
+        aggregates.apply(lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1", "Physics")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c1", 10.0, "l1")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c2", 20.0, "l1")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c3", 90.0, "l1")));
+
+        aggregates.apply(courseEvent(ChangeType.DELETED, courseSnapshot("c3", 90.0, "l1")));
+        aggregates.apply(courseEvent(ChangeType.DELETED, courseSnapshot("c3", 90.0, "l1")));
+
+        assertThat(aggregates.courses.sum()).isEqualTo(2);
+        assertThat(aggregates.departments.get("Physics").maxPrice()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("Should move courses to the new department when the lecturer changes department")
+    void givenLecturerWithCourses_whenDepartmentChanges_thenCoursesMove() {
+        aggregates.apply(lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1", "Physics")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c1", 10.0, "l1")));
+
+        aggregates.apply(lecturerEvent(ChangeType.UPDATED, lecturerSnapshot("l1", "Mathematics")));
+
+        assertThat(aggregates.departments).doesNotContainKey("Physics");
+        assertThat(aggregates.departments.get("Mathematics").courses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted lecturer together with its courses")
+    void givenLecturerWithCourses_whenLecturerDeleted_thenCoursesRemoved() {
+        aggregates.apply(lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l1", "Physics")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c1", 10.0, "l1")));
+        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot("c2", 15.0, null)));
+
+        aggregates.apply(lecturerEvent(ChangeType.DELETED, lecturerSnapshot("l1", "Physics")));
+
+        assertThat(aggregates.lecturers.sum()).isZero();
+        assertThat(aggregates.courses.sum()).isEqualTo(1);
+        assertThat(aggregates.unassignedCourses.sum()).isEqualTo(1);
+        assertThat(aggregates.coursesPerLecturer).isEmpty();
+        assertThat(aggregates.departments).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count exactly when writes to different courses run concurrently")
+    void givenConcurrentCourseWrites_whenApplied_thenCountsExact() throws Exception {
+        for (int l = 0; l < 4; l++) {
+            aggregates.apply(lecturerEvent(ChangeType.CREATED, lecturerSnapshot("l" + l, l % 2 == 0 ? "Physics" : "Mathematics")));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String id = "c" + thread + "-" + i;
+                        aggregates.apply(courseEvent(ChangeType.CREATED, courseSnapshot(id, 10.0, null)));
+                        aggregates.apply(assignment(ChangeType.ASSIGNED, lecturerSnapshot("l" + i % 4, i % 2 == 0 ? "Physics" : "Mathematics"),
+                                courseSnapshot(id, 20.0, "l" + i % 4)));
+                        if (i % 5 == 0) {
+                            aggregates.apply(courseEvent(ChangeType.DELETED, courseSnapshot(id, 20.0, "l" + i % 4)));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(aggregates.courses.sum()).isEqualTo(8 * 400);
+        assertThat(aggregates.unassignedCourses.sum()).isZero();
+        assertThat(aggregates.coursesPerLecturer.values()).allSatisfy(count -> assertThat(count.sum()).isEqualTo(8 * 100));
+        assertThat(aggregates.departments.get("Physics").courses()).isEqualTo(8 * 200);
+        assertThat(aggregates.departments.get("Mathematics").averagePrice()).isEqualTo(20.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.emiryucel.courseportal.stats;
+
+import com.emiryucel.courseportal.dto.CatalogStatsDTO;
+import com.emiryucel.courseportal.repository.CourseRepository;
+import com.emiryucel.courseportal.repository.LecturerRepository;
+import com.emiryucel.courseportal.service.CourseService;
+import com.emiryucel.courseportal.service.LecturerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static com.emiryucel.courseportal.TestFixtures.lecturer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Catalog Statistics Integration Tests")
+class CatalogStatisticsIntegrationTest {
+
+    @Autowired
+    private CatalogStatistics catalogStatistics;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        catalogStatistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should match a full reconcile after a sequence of service writes")
+    void givenServiceWrites_whenReadingStatistics_thenMatchesReconciledState() {
+        String physics = lecturerService.createLecturer(lecturer("ada@university.edu", "Physics")).getId();
+        String maths = lecturerService.createLecturer(lecturer("alan@university.edu", "Mathematics")).getId();
+        String c1 = courseService.createCourse(course("Mechanics", 40.0)).getId();
+        String c2 = courseService.createCourse(course("Optics", 60.0)).getId();
+        String c3 = courseService.createCourse(course("Algebra", 25.0)).getId();
+        courseService.createCourse(course("Orphaned", 5.0));
+
+        lecturerService.assignCourse(physics, c1);
+        lecturerService.assignCourse(physics, c2);
+        lecturerService.assignCourse(maths, c3);
+        courseService.updateCourse(c2, course("Optics", 80.0));
+        lecturerService.removeCourse(maths, c3);
+        courseService.deleteCourse(c1);
+
+        CatalogStatsDTO incremental = catalogStatistics.snapshot();
+        assertThat(incremental.getTotalCourses()).isEqualTo(2);
+        assertThat(incremental.getTotalLecturers()).isEqualTo(2);
+        assertThat(incremental.getUnassignedCourses()).isEqualTo(1);
+        assertThat(incremental.getCoursesPerLecturer()).containsEntry(physics, 1L).containsEntry(maths, 0L);
+        assertThat(incremental.getDepartments()).containsOnlyKeys("Physics");
+        assertThat(incremental.getDepartments().get("Physics").getMaxPrice()).isEqualTo(80.0);
+
+        catalogStatistics.reconcile();
+        CatalogStatsDTO reconciled = catalogStatistics.snapshot();
+        assertThat(reconciled).usingRecursiveComparison().ignoringFields("reconciledAt").isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("Should agree with the database after a lecturer with courses is deleted")
+    void givenLecturerWithCourses_whenLecturerDeleted_thenMatchesReconciledState() {
+        String lecturerId = lecturerService.createLecturer(lecturer("grace@university.edu", "Computing")).getId();
+        String courseId = courseService.createCourse(course("Compilers", 70.0)).getId();
+        lecturerService.assignCourse(lecturerId, courseId);
+
+        lecturerService.deleteLecturer(lecturerId);
+
+        CatalogStatsDTO incremental = catalogStatistics.snapshot();
+        catalogStatistics.reconcile();
+        assertThat(catalogStatistics.snapshot()).usingRecursiveComparison()
+                .ignoringFields("reconciledAt").isEqualTo(incremental);
+        assertThat(incremental.getTotalLecturers()).isZero();
+    }
+}
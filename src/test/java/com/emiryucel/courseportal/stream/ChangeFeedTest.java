@@ -0,0 +1,136 @@
+package com.emiryucel.courseportal.stream;
+
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.mapper.CourseMapper;
+import com.emiryucel.courseportal.mapper.LecturerMapper;
+import com.emiryucel.courseportal.model.Course;
+import com.emiryucel.courseportal.model.Lecturer;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Change Feed Tests")
+class ChangeFeedTest {
+
+    private final List<Runnable> heldDeliveries = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should replay only the missed events of the resumed stream")
+    void givenLastEventId_whenSubscribing_thenReplayMissedEventsOfThatStream() {
+        ChangeFeed feed = feed(10, SlowConsumerPolicy.DROP, Runnable::run);
+        RecordingEmitter first = new RecordingEmitter();
+        feed.subscribe(EntityType.COURSE, null, first);
+
+        feed.onEntityChanged(EntityChangedEvent.courseChanged(ChangeType.CREATED, course("course-1")));
+        feed.onEntityChanged(EntityChangedEvent.lecturerChanged(ChangeType.UPDATED, lecturer()));
+        feed.onEntityChanged(EntityChangedEvent.courseChanged(ChangeType.UPDATED, course("course-2")));
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        feed.subscribe(EntityType.COURSE, first.ids().get(0), resumed);
+
+        assertThat(first.events()).hasSize(2);
+        assertThat(resumed.events()).singleElement().satisfies(event -> {
+            assertThat(event).contains("event:updated").contains("\"id\":\"course-2\"");
+        });
+    }
+
+    @Test
+    @DisplayName("Should ask a client with an unknown Last-Event-ID to resync")
+    void givenUnknownLastEventId_whenSubscribing_thenResync() {
+        ChangeFeed feed = feed(10, SlowConsumerPolicy.DROP, Runnable::run);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        feed.subscribe(EntityType.LECTURER, "previous-instance-42", emitter);
+
+        assertThat(emitter.events()).singleElement().satisfies(event ->
+                assertThat(event).contains("event:" + ChangeFeed.RESYNC_EVENT).contains("history"));
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose buffer is full")
+    void givenDropPolicy_whenBufferOverflows_thenSubscriberClosed() {
+        ChangeFeed feed = feed(2, SlowConsumerPolicy.DROP, heldDeliveries::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(EntityType.COURSE, null, emitter);
+
+        for (int i = 0; i < 3; i++) {
+            feed.onEntityChanged(EntityChangedEvent.courseChanged(ChangeType.CREATED, course("course-" + i)));
+        }
+        heldDeliveries.forEach(Runnable::run);
+
+        assertThat(feed.subscriberCount()).isZero();
+        assertThat(emitter.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace the buffer of a slow subscriber with a resync event")
+    void givenResyncPolicy_whenBufferOverflows_thenBufferReplacedByResync() {
+        ChangeFeed feed = feed(2, SlowConsumerPolicy.RESYNC, heldDeliveries::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(EntityType.COURSE, null, emitter);
+
+        for (int i = 0; i < 4; i++) {
+            feed.onEntityChanged(EntityChangedEvent.courseChanged(ChangeType.CREATED, course("course-" + i)));
+        }
+        heldDeliveries.forEach(Runnable::run);
+
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+        assertThat(emitter.events()).hasSize(2);
+        assertThat(emitter.events().get(0)).contains("event:" + ChangeFeed.RESYNC_EVENT).contains("overflow");
+        assertThat(emitter.events().get(1)).contains("\"id\":\"course-3\"");
+    }
+
+    private static ChangeFeed feed(int bufferSize, SlowConsumerPolicy policy, Executor deliveryExecutor) {
+        ChangeStreamProperties properties = new ChangeStreamProperties(bufferSize, 100,
+                Duration.ofSeconds(15), Duration.ofMinutes(30), policy);
+        return new ChangeFeed(properties, JsonMapper.builder().findAndAddModules().build(),
+                Mappers.getMapper(CourseMapper.class), Mappers.getMapper(LecturerMapper.class), deliveryExecutor);
+    }
+
+    private static Course course(String id) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle("Title");
+        course.setDescription("Description");
+        course.setPrice(10.0);
+        return course;
+    }
+
+    private static Lecturer lecturer() {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId("lecturer-1");
+        lecturer.setFirstName("Ada");
+        lecturer.setLastName("Lovelace");
+        return lecturer;
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream().map(part -> part.getData().toString()).collect(Collectors.joining()));
+        }
+
+        List<String> events() {
+            return sent;
+        }
+
+        List<String> ids() {
+            return sent.stream().map(event -> event.substring(3, event.indexOf('\n'))).toList();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.emiryucel.courseportal.suggest;
+
+import com.emiryucel.courseportal.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Course Suggestion Integration Tests")
+class CourseSuggesterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseSuggester courseSuggester;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from lecturer");
+        courseSuggester.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should suggest committed titles and follow retitles and deletes")
+    void givenCourseWrites_whenSuggesting_thenIndexFollowsCommittedChanges() throws Exception {
+        String compilers = courseService.createCourse(course("Compilers")).getId();
+        String complexity = courseService.createCourse(course("Complexity Theory")).getId();
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            courseService.createCourse(course("Computer Networks"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        mockMvc.perform(get("/course/suggest").param("q", "Comp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(compilers))
+                .andExpect(jsonPath("$[1].id").value(complexity));
+
+        courseService.patchCourse(compilers, objectMapper.createObjectNode().put("title", "Language Implementation"));
+        courseService.deleteCourse(complexity);
+
+        mockMvc.perform(get("/course/suggest").param("q", "comp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/course/suggest").param("q", "language i"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Language Implementation"));
+    }
+
+    @Test
+    @DisplayName("Should pick up titles written behind its back on reconcile")
+    void givenRowInsertedDirectly_whenReconciled_thenSuggested() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into course (id, title, description, price, created_at, updated_at) "
+                + "values ('direct-1', 'Operating Systems', 'Inserted without going through the service', 10.0, ?, ?)", now, now);
+        assertThat(courseSuggester.suggest("oper", 10)).isEmpty();
+
+        courseSuggester.reconcile();
+
+        assertThat(courseSuggester.suggest("oper", 10)).singleElement()
+                .satisfies(suggestion -> assertThat(suggestion.getId()).isEqualTo("direct-1"));
+    }
+}
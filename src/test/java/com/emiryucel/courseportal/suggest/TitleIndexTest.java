@@ -0,0 +1,77 @@
+package com.emiryucel.courseportal.suggest;
+
+import com.emiryucel.courseportal.dto.CourseSuggestionDTO;
+import com.emiryucel.courseportal.event.ChangeType;
+import com.emiryucel.courseportal.event.CourseSnapshot;
+import com.emiryucel.courseportal.event.EntityChangedEvent;
+import com.emiryucel.courseportal.event.EntityType;
+import com.emiryucel.courseportal.event.LecturerSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Title Index Tests")
+class TitleIndexTest {
+
+    private final TitleIndex index = new TitleIndex();
+
+    @Test
+    @DisplayName("Should rank the exact title first, then completions alphabetically, up to the limit")
+    void givenTitlesSharingPrefix_whenSuggesting_thenExactMatchFirstAndLimited() {
+        index.putCourse(course("c1", "JavaScript Basics", null));
+        index.putCourse(course("c2", "Java", null));
+        index.putCourse(course("c3", "Java Concurrency", null));
+        index.putCourse(course("c4", "Kotlin", null));
+
+        assertThat(index.suggest("java", 10)).extracting(CourseSuggestionDTO::getId).containsExactly("c2", "c3", "c1");
+        assertThat(index.suggest("java", 2)).extracting(CourseSuggestionDTO::getId).containsExactly("c2", "c3");
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore case, accents and repeated whitespace")
+    void givenDecoratedQuery_whenSuggesting_thenNormalizedMatch() {
+        index.putCourse(course("c1", "Études  Musicales", null));
+
+        assertThat(index.suggest("ETUDES mus", 10)).singleElement()
+                .extracting(CourseSuggestionDTO::getTitle).isEqualTo("Études  Musicales");
+    }
+
+    @Test
+    @DisplayName("Should follow retitles and deletes")
+    void givenRetitledAndDeletedCourses_whenSuggesting_thenOnlyCurrentTitles() {
+        index.apply(courseEvent(ChangeType.CREATED, course("c1", "Databases", null)));
+        index.apply(courseEvent(ChangeType.CREATED, course("c2", "Data Mining", null)));
+
+        index.apply(courseEvent(ChangeType.UPDATED, course("c1", "Relational Databases", null)));
+        index.apply(courseEvent(ChangeType.DELETED, course("c2", "Data Mining", null)));
+
+        assertThat(index.suggest("data", 10)).isEmpty();
+        assertThat(index.suggest("rel", 10)).extracting(CourseSuggestionDTO::getId).containsExactly("c1");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted lecturer's courses")
+    void givenLecturerWithCourses_whenLecturerDeleted_thenCoursesRemoved() {
+        index.apply(courseEvent(ChangeType.CREATED, course("c1", "Owned Course", "l1")));
+        index.apply(courseEvent(ChangeType.CREATED, course("c2", "Other Course", null)));
+
+        LecturerSnapshot lecturer = new LecturerSnapshot("l1", "First", "Last", "l1@university.edu", "Physics", null, null, null);
+        index.apply(new EntityChangedEvent(EntityType.LECTURER, ChangeType.DELETED, "l1", null, null, lecturer, Instant.now()));
+
+        assertThat(index.suggest("o", 10)).extracting(CourseSuggestionDTO::getId).containsExactly("c2");
+    }
+
+    private static CourseSnapshot course(String id, String title, String lecturerId) {
+        return new CourseSnapshot(id, title, "Description", 10.0, lecturerId, null, null);
+    }
+
+    private static EntityChangedEvent courseEvent(ChangeType changeType, CourseSnapshot course) {
+        return new EntityChangedEvent(EntityType.COURSE, changeType, course.id(), course.lecturerId(), course, null,
+                Instant.now());
+    }
+}
@@ -0,0 +1,130 @@
+package com.emiryucel.courseportal.sync;
+
+import com.emiryucel.courseportal.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static com.emiryucel.courseportal.TestFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "courseportal.sync.settle-time=0s",
+        "courseportal.purge.retention=30d"
+})
+@AutoConfigureMockMvc
+@DisplayName("Delta Sync Integration Tests")
+class DeltaSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from course_listing");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from course_archive");
+        jdbcTemplate.update("delete from lecturer");
+    }
+
+    @Test
+    @DisplayName("Should page through every course, then return only what changed since, deletes included")
+    void givenCursor_whenCoursesChange_thenOnlyChangesAfterCursorReturned() throws Exception {
+        String first = courseService.createCourse(course("Compilers")).getId();
+        String second = courseService.createCourse(course("Databases")).getId();
+        courseService.createCourse(course("Networks"));
+
+        String cursor = cursor(mockMvc.perform(get("/course/changes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore").value(true)));
+        cursor = cursor(mockMvc.perform(get("/course/changes").param("since", cursor).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].value.title").value("Networks"))
+                .andExpect(jsonPath("$.hasMore").value(false)));
+
+        courseService.deleteCourse(first);
+        courseService.patchCourse(second, objectMapper.createObjectNode().put("price", 80.0));
+
+        cursor = cursor(mockMvc.perform(get("/course/changes").param("since", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].id").value(first))
+                .andExpect(jsonPath("$.changes[0].deleted").value(true))
+                .andExpect(jsonPath("$.changes[1].id").value(second))
+                .andExpect(jsonPath("$.changes[1].value.price").value(80.0)));
+
+        mockMvc.perform(get("/course/changes").param("since", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should move an idle client's cursor forward, so it does not expire while nothing changes")
+    void givenNoChangesSinceCursor_whenGetChanges_thenCursorAdvancesToSettledTime() throws Exception {
+        SyncCursor old = new SyncCursor(LocalDateTime.now().minusDays(29), "course-1");
+
+        String cursor = cursor(mockMvc.perform(get("/course/changes").param("since", old.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0))));
+
+        assertThat(SyncCursor.decode(cursor).changedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should report archived courses as deleted")
+    void givenCourseArchivedAfterCursor_whenGetChanges_thenTombstoneReturned() throws Exception {
+        courseService.createCourse(course("Algorithms"));
+        String cursor = cursor(mockMvc.perform(get("/course/changes")).andExpect(status().isOk()));
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        jdbcTemplate.update("insert into course_archive (id, title, description, price, created_at, updated_at, archived_at) "
+                + "values ('archived-1', 'Old Course', 'Archived long ago', 10.0, ?, ?, ?)",
+                archivedAt.minusYears(3), archivedAt.minusYears(3), archivedAt);
+
+        mockMvc.perform(get("/course/changes").param("since", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].id", containsInAnyOrder("archived-1")))
+                .andExpect(jsonPath("$.changes[0].deleted").value(true));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and ones older than the tombstone retention")
+    void givenBadCursors_whenGetChanges_thenBadRequestOrGone() throws Exception {
+        mockMvc.perform(get("/lecturer/changes").param("since", "not a cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/lecturer/changes")
+                        .param("since", new SyncCursor(LocalDateTime.now().minusDays(60), "lecturer-1").encode()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
+    private static String cursor(ResultActions result) throws Exception {
+        return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.cursor");
+    }
+}